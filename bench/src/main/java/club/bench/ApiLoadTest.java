@@ -0,0 +1,200 @@
+package club.bench;
+
+import club.database.DataManager;
+import club.repository.memory.InMemoryRepositories;
+import club.server.ApiServer;
+import club.service.ClubService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load-test harness for the HTTP API.
+ * Runs many concurrent clients on virtual threads against the API and reports
+ * throughput and latency percentiles.
+ *
+ * <p>Arguments: {@code [baseUrl] [clients] [seconds]}. Without a base URL (or with {@code embedded})
+ * an in-process server is started over a synthetic club held in memory.
+ */
+public class ApiLoadTest {
+
+    private static final String[] PATHS = {
+            "/api/members?page=0&size=50",
+            "/api/events?page=0&size=50",
+            "/api/announcements?page=0&size=50",
+            "/api/events/1/registrations",
+    };
+
+    /**
+     * Runs the load test.
+     *
+     * @param args Optional base URL, number of clients and duration in seconds.
+     * @throws Exception If the embedded server cannot be started or a client thread is interrupted.
+     */
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "embedded";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        ApiServer embedded = null;
+        if (baseUrl.equals("embedded")) {
+            embedded = new ApiServer(syntheticClub(2_000, 200, 500), 0);
+            embedded.start();
+            baseUrl = "http://localhost:" + embedded.getPort();
+        }
+
+        System.out.printf("Load test: %d clients for %d s against %s%n", clients, seconds, baseUrl);
+        Result result = run(baseUrl, clients, seconds);
+        result.print(seconds);
+
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+
+    /**
+     * Runs the clients until the deadline and collects their latencies.
+     *
+     * @param baseUrl The base URL of the API.
+     * @param clients The number of concurrent clients.
+     * @param seconds The duration of the test.
+     * @return The collected results.
+     * @throws InterruptedException If interrupted while waiting for the clients.
+     */
+    private static Result run(String baseUrl, int clients, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        AtomicLong errors = new AtomicLong();
+        AtomicLong notModified = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+             ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            // The client threads are closed (and awaited) before the HTTP client
+            List<Runnable> tasks = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int clientId = c;
+                long[][] own = {new long[1024]};
+                int[] count = {0};
+                tasks.add(() -> {
+                    String[] etags = new String[PATHS.length];
+                    int i = clientId;
+                    while (System.nanoTime() < deadline) {
+                        int p = i++ % PATHS.length;
+                        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS[p])).GET();
+                        if (etags[p] != null && (i & 1) == 0) {
+                            request.header("If-None-Match", etags[p]); // Exercise conditional GETs
+                        }
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                            long elapsed = System.nanoTime() - start;
+                            if (response.statusCode() == 304) {
+                                notModified.incrementAndGet();
+                            } else if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                            etags[p] = response.headers().firstValue("ETag").orElse(null);
+                            if (count[0] == own[0].length) {
+                                own[0] = Arrays.copyOf(own[0], count[0] * 2);
+                            }
+                            own[0][count[0]++] = elapsed;
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    synchronized (latencies) {
+                        latencies.add(Arrays.copyOf(own[0], count[0]));
+                    }
+                });
+            }
+            tasks.forEach(threads::execute);
+        }
+
+        long total = latencies.stream().mapToLong(l -> l.length).sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (long[] l : latencies) {
+            System.arraycopy(l, 0, all, offset, l.length);
+            offset += l.length;
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.get(), notModified.get());
+    }
+
+    /**
+     * Builds a club service over a synthetic club, held in memory so the run never touches the disk.
+     *
+     * @param members       The number of members.
+     * @param events        The number of events.
+     * @param announcements The number of announcements.
+     * @return The club service.
+     */
+    private static ClubService syntheticClub(int members, int events, int announcements) {
+        ClubService service = new ClubService(new DataManager(new InMemoryRepositories()));
+        service.load();
+        List<String> membershipIds = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            membershipIds.add(service.registerMember("Member " + i, "member" + i + "@loadtest.local",
+                    "0400" + i, "password").getMembershipId());
+        }
+        for (int i = 0; i < events; i++) {
+            int eventId = service.createEvent("Event " + i, LocalDate.now().plusDays(i), LocalTime.NOON,
+                    "Room " + (i % 10), "Synthetic event " + i).getId();
+            for (int r = 0; r < 20; r++) {
+                service.registerForEvent(eventId, membershipIds.get((i * 20 + r) % members));
+            }
+        }
+        for (int i = 0; i < announcements; i++) {
+            service.postAnnouncement("Synthetic announcement " + i);
+        }
+        return service;
+    }
+
+    /**
+     * Results of a load test run.
+     *
+     * @param latencies   The sorted request latencies in nanoseconds.
+     * @param errors      The number of failed requests.
+     * @param notModified The number of 304 responses.
+     */
+    private record Result(long[] latencies, long errors, long notModified) {
+
+        /**
+         * Prints throughput and latency percentiles.
+         *
+         * @param seconds The duration of the test.
+         */
+        void print(int seconds) {
+            System.out.printf("Requests: %d (%d not modified, %d errors)%n", latencies.length, notModified, errors);
+            System.out.printf("Throughput: %.0f requests/s%n", latencies.length / (double) seconds);
+            System.out.printf("Latency p50: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                    percentile(0.50), percentile(0.99), latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0);
+        }
+
+        /**
+         * Gets a latency percentile in milliseconds.
+         *
+         * @param fraction The percentile as a fraction.
+         * @return The latency in milliseconds.
+         */
+        double percentile(double fraction) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            return latencies[(int) Math.min(latencies.length - 1, Math.floor(fraction * latencies.length))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package club.bench;
+
+import club.database.DataManager;
+import club.database.DatabaseManager;
+import club.model.Admin;
+import club.model.Announcement;
+import club.model.Club;
+import club.model.Event;
+import club.model.Member;
+import club.repository.Registration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates synthetic clubs of a configurable size for scaling tests.
+ * The same seed and sizes always generate the same club.
+ *
+ * <p>Members have a history: events are spread over several years before and after the generated club's
+ * reference date, members are registered for past and upcoming events, some memberships have lapsed,
+ * and announcements span the same years. A club can be written through {@link DataManager#saveClubData},
+ * as the application saves, or straight into an empty database with batched inserts, which is much faster
+ * for large clubs.
+ *
+ * <p>Arguments: {@code [members] [events] [announcements] [seed] [database-file] [datamanager|bulk]}.
+ */
+public class ClubGenerator {
+
+    public static final String ADMIN_EMAIL = "admin@club.example";
+    public static final String ADMIN_PASSWORD = "admin";
+
+    // Fixed, so generated dates do not depend on when the generator runs
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+    private static final int HISTORY_DAYS = 3 * 365;
+    private static final int UPCOMING_DAYS = 365;
+    private static final double LAPSED_FRACTION = 0.15;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley",
+            "Jamie", "Avery", "Quinn", "Charlie", "Dana", "Emerson", "Finley", "Harper", "Kai", "Logan", "Parker"};
+    private static final String[] LAST_NAMES = {"Nguyen", "Smith", "Chen", "Patel", "Garcia", "Kim", "Brown",
+            "Singh", "Lopez", "Wilson", "Tran", "Martin", "Lee", "Walker", "Young", "Khan", "Rossi", "Murphy"};
+    private static final String[] EVENT_KINDS = {"Workshop", "Meetup", "Social night", "Training", "Talk",
+            "Tournament", "Hackathon", "Reading group"};
+    private static final String[] TOPICS = {"machine learning", "robotics", "public speaking", "chess",
+            "photography", "cloud computing", "design", "startups", "climbing", "music"};
+    private static final String[] LOCATIONS = {"Main Hall", "Room 101", "Room 204", "Library", "Courtyard",
+            "Lab 3", "Online"};
+
+    private final long seed;
+    private final int members;
+    private final int events;
+    private final int announcements;
+    private final int registrationsPerEvent;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed                  The random seed.
+     * @param members               The number of members.
+     * @param events                The number of events.
+     * @param announcements         The number of announcements.
+     * @param registrationsPerEvent The average number of members registered for each event.
+     */
+    public ClubGenerator(long seed, int members, int events, int announcements, int registrationsPerEvent) {
+        if (members <= 0) {
+            throw new IllegalArgumentException("A generated club needs at least one member");
+        }
+        if (events < 0 || announcements < 0 || registrationsPerEvent < 0) {
+            throw new IllegalArgumentException("Sizes cannot be negative");
+        }
+        this.seed = seed;
+        this.members = members;
+        this.events = events;
+        this.announcements = announcements;
+        this.registrationsPerEvent = registrationsPerEvent;
+    }
+
+    /**
+     * Generates the club in memory.
+     *
+     * @return The generated club.
+     */
+    public Club generate() {
+        Generated data = generateData();
+        Club club = new Club("Synthetic Club " + seed);
+        club.setMembers(data.members());
+        club.setAdmins(data.admins());
+        for (Event event : data.events()) {
+            club.addEvent(event);
+        }
+        club.setAnnouncements(data.announcements()); // Replaces those announced for the added events
+        List<Event> clubEvents = club.getEvents();
+        for (Registration registration : data.registrations()) {
+            club.registerForEvent(clubEvents.get(registration.eventId() - 1),
+                    data.members().get(Integer.parseInt(registration.membershipId()) - 1));
+        }
+        return club;
+    }
+
+    /**
+     * Writes the club through the data manager, as the application would save it.
+     *
+     * @param dataManager The data manager of an empty database.
+     * @return The club reloaded after the save.
+     * @throws IllegalStateException If the database already has members.
+     */
+    public Club writeThrough(DataManager dataManager) {
+        Club saved = dataManager.loadClubData();
+        if (!saved.getMembers().isEmpty()) {
+            throw new IllegalStateException("The database already has members");
+        }
+        return dataManager.saveClubData(generate());
+    }
+
+    /**
+     * Writes the club straight into the database tables with batched inserts in one transaction.
+     *
+     * @param dbManager The database manager of an empty database.
+     * @throws SQLException          If a database error occurs.
+     * @throws IllegalStateException If the database already has members.
+     */
+    public void writeBulk(DatabaseManager dbManager) throws SQLException {
+        Generated data = generateData();
+        try (Connection conn = dbManager.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM members");
+                 ResultSet rs = stmt.executeQuery()) {
+                if (rs.next() && rs.getInt(1) > 0) {
+                    throw new IllegalStateException("The database already has members");
+                }
+            }
+            conn.setAutoCommit(false);
+            try {
+                insertAll(conn, data);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Inserts the generated records.
+     *
+     * @param conn The connection, in a transaction.
+     * @param data The generated records.
+     * @throws SQLException If a database error occurs.
+     */
+    private void insertAll(Connection conn, Generated data) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM club")) {
+            stmt.executeUpdate();
+        }
+        try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO club (name) VALUES (?)")) {
+            stmt.setString(1, "Synthetic Club " + seed);
+            stmt.executeUpdate();
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO members (name, email, phone, active, password, membershipId) VALUES (?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (Member member : data.members()) {
+                stmt.setString(1, member.getName());
+                stmt.setString(2, member.getEmail());
+                stmt.setString(3, member.getPhone());
+                stmt.setBoolean(4, member.isActive());
+                stmt.setString(5, member.getPassword());
+                stmt.setString(6, member.getMembershipId());
+                pending = addBatch(stmt, pending);
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO admins (name, email, adminId, password) VALUES (?, ?, ?, ?)")) {
+            for (Admin admin : data.admins()) {
+                stmt.setString(1, admin.getName());
+                stmt.setString(2, admin.getEmail());
+                stmt.setString(3, admin.getAdminId());
+                stmt.setString(4, admin.getPassword());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO events (id, name, date, time, location, description) VALUES (?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (Event event : data.events()) {
+                stmt.setInt(1, event.getId());
+                stmt.setString(2, event.getName());
+                stmt.setString(3, event.getDate().toString());
+                stmt.setString(4, event.getTime().toString());
+                stmt.setString(5, event.getLocation());
+                stmt.setString(6, event.getDescription());
+                pending = addBatch(stmt, pending);
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO announcements (id, message, dateTime) VALUES (?, ?, ?)")) {
+            int pending = 0;
+            for (Announcement announcement : data.announcements()) {
+                stmt.setInt(1, announcement.getId());
+                stmt.setString(2, announcement.getMessage());
+                stmt.setString(3, announcement.getDateTime().toString());
+                pending = addBatch(stmt, pending);
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO event_registrations (eventId, membershipId) VALUES (?, ?)")) {
+            int pending = 0;
+            for (Registration registration : data.registrations()) {
+                stmt.setInt(1, registration.eventId());
+                stmt.setString(2, registration.membershipId());
+                pending = addBatch(stmt, pending);
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Adds the bound row to the batch, executing the batch when it is full.
+     *
+     * @param stmt    The statement.
+     * @param pending The number of rows already in the batch.
+     * @return The number of rows in the batch afterwards.
+     * @throws SQLException If the batch cannot be executed.
+     */
+    private static int addBatch(PreparedStatement stmt, int pending) throws SQLException {
+        stmt.addBatch();
+        if (++pending < BATCH_SIZE) {
+            return pending;
+        }
+        stmt.executeBatch();
+        return 0;
+    }
+
+    /**
+     * The records of a generated club.
+     *
+     * @param members       The members, with membership IDs numbered from 1.
+     * @param admins        The admins.
+     * @param events        The events, with IDs numbered from 1.
+     * @param announcements The announcements, with IDs numbered from 1, oldest first.
+     * @param registrations The event registrations.
+     */
+    private record Generated(List<Member> members, List<Admin> admins, List<Event> events,
+                             List<Announcement> announcements, Set<Registration> registrations) {
+    }
+
+    /**
+     * Generates the records from the seed.
+     *
+     * @return The generated records.
+     */
+    private Generated generateData() {
+        Random random = new Random(seed);
+
+        List<Member> generatedMembers = new ArrayList<>(members);
+        for (int i = 1; i <= members; i++) {
+            String first = pick(random, FIRST_NAMES);
+            String last = pick(random, LAST_NAMES);
+            Member member = new Member(first + " " + last,
+                    first.toLowerCase() + "." + last.toLowerCase() + i + "@members.example",
+                    String.format("04%08d", random.nextInt(100_000_000)),
+                    random.nextDouble() >= LAPSED_FRACTION,
+                    "pw-" + Integer.toHexString(random.nextInt()));
+            member.setMembershipId(String.format("%05d", i));
+            generatedMembers.add(member);
+        }
+
+        List<Admin> generatedAdmins = List.of(new Admin("Synthetic Admin", ADMIN_EMAIL, "ADM-1", ADMIN_PASSWORD));
+
+        List<Event> generatedEvents = new ArrayList<>(events);
+        for (int i = 1; i <= events; i++) {
+            String topic = pick(random, TOPICS);
+            LocalDate date = REFERENCE_DATE.plusDays(random.nextInt(HISTORY_DAYS + UPCOMING_DAYS) - HISTORY_DAYS);
+            generatedEvents.add(new Event(i, pick(random, EVENT_KINDS) + ": " + topic, date,
+                    LocalTime.of(9 + random.nextInt(11), random.nextBoolean() ? 0 : 30),
+                    pick(random, LOCATIONS), "A " + topic + " session for members of every level."));
+        }
+
+        List<LocalDateTime> times = new ArrayList<>(announcements);
+        for (int i = 0; i < announcements; i++) {
+            times.add(REFERENCE_DATE.atStartOfDay().minusMinutes(random.nextInt(HISTORY_DAYS * 24 * 60)));
+        }
+        times.sort(null);
+        List<Announcement> generatedAnnouncements = new ArrayList<>(announcements);
+        for (int i = 0; i < announcements; i++) {
+            generatedAnnouncements.add(new Announcement(i + 1, "Reminder about " + pick(random, TOPICS)
+                    + " at " + pick(random, LOCATIONS) + " (notice " + (i + 1) + ")", times.get(i)));
+        }
+
+        Set<Registration> generatedRegistrations = new LinkedHashSet<>();
+        for (Event event : generatedEvents) {
+            int count = random.nextInt(2 * registrationsPerEvent + 1);
+            for (int r = 0; r < count; r++) {
+                Member member = generatedMembers.get(random.nextInt(members));
+                generatedRegistrations.add(new Registration(event.getId(), member.getMembershipId()));
+            }
+        }
+        return new Generated(generatedMembers, generatedAdmins, generatedEvents, generatedAnnouncements,
+                generatedRegistrations);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Generates a club into a database file.
+     *
+     * @param args Optional sizes, seed, database file and write path.
+     * @throws SQLException If the database cannot be written.
+     */
+    public static void main(String[] args) throws SQLException {
+        int members = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int events = args.length > 1 ? Integer.parseInt(args[1]) : members / 10;
+        int announcements = args.length > 2 ? Integer.parseInt(args[2]) : members / 5;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+        String databaseFile = args.length > 4 ? args[4] : DatabaseManager.SAVES_FOLDER + "/synthetic.db";
+        boolean bulk = args.length <= 5 || args[5].equals("bulk");
+
+        ClubGenerator generator = new ClubGenerator(seed, members, events, announcements, 10);
+        long startTime = System.nanoTime();
+        try (DatabaseManager dbManager = new DatabaseManager(databaseFile)) {
+            if (bulk) {
+                generator.writeBulk(dbManager);
+            } else {
+                generator.writeThrough(new DataManager(dbManager));
+            }
+        }
+        System.out.printf("Generated %d members, %d events and %d announcements (seed %d) into %s in %d ms%n",
+                members, events, announcements, seed, databaseFile, (System.nanoTime() - startTime) / 1_000_000);
+    }
+}
@@ -0,0 +1,148 @@
+package club.bench;
+
+import club.model.Club;
+import club.model.Event;
+import club.model.EventAction;
+import club.model.EventManager;
+import club.model.Member;
+import club.model.MembershipManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the in-memory club model on its hot paths, for clubs of {@code size} members and events.
+ * Each benchmark reports throughput and average time; run through {@link #main} to add the allocation rate
+ * from JMH's gc profiler.
+ *
+ * <p>Registering the same member twice is an error, so {@code registerMemberForEvent} registers a member and
+ * cancels the registration again. Renewals and event updates add membership records and announcements, which
+ * are reset before each iteration; renewals are timed in batches from that reset, since each one scans the
+ * membership history it grows.
+ *
+ * <p>Usage: {@code mvn -f bench/pom.xml package}, then
+ * {@code java -cp bench/target/benchmarks.jar club.bench.DomainBenchmark [results.json]},
+ * or {@code java -jar bench/target/benchmarks.jar DomainBenchmark -prof gc} for other JMH options.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainBenchmark {
+
+    private static final int RENEWALS_PER_BATCH = 1000;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private Club club;
+    private EventManager eventManager;
+    private MembershipManager membershipManager;
+    private List<Member> members;
+    private List<Member> renewing;
+    private Member loginMember;
+    private Event middleEvent;
+    private LocalDate middleDate;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createClub() {
+        club = new Club("Benchmark Club");
+        PersistenceBenchmark.populate(club, size);
+        eventManager = club.getEventManager();
+        members = club.getMembers();
+        loginMember = members.get(members.size() / 2);
+        middleEvent = club.getEvents().get(club.getEvents().size() / 2);
+        middleDate = middleEvent.getDate();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetHistory() {
+        club.setAnnouncements(new ArrayList<>());
+        membershipManager = new MembershipManager();
+        renewing = new ArrayList<>(members.size());
+        for (Member member : members) {
+            Member copy = copyOf(member); // Registering assigns a new membership ID
+            membershipManager.registerNewMember(copy);
+            renewing.add(copy);
+        }
+    }
+
+    @Benchmark
+    public Member validateMemberLogin() {
+        return club.validateMemberLogin(loginMember.getEmail(), loginMember.getPassword());
+    }
+
+    @Benchmark
+    public Member registerMemberForEvent() {
+        Member member = members.get(next++ % members.size());
+        eventManager.registerMemberForEvent(middleEvent, member);
+        eventManager.cancelRegistration(middleEvent, member);
+        return member;
+    }
+
+    @Benchmark
+    public List<Event> getEventsByDate() {
+        return eventManager.getEventsByDate(middleDate);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = RENEWALS_PER_BATCH)
+    @Measurement(iterations = 10, batchSize = RENEWALS_PER_BATCH)
+    public LocalDate renewMembership() {
+        return membershipManager.renewMembership(renewing.get(next++ % renewing.size()));
+    }
+
+    @Benchmark
+    public Club onEventUpdate() {
+        club.onEventUpdate(middleEvent, EventAction.UPDATED);
+        return club;
+    }
+
+    /**
+     * Runs the benchmarks with the gc profiler, writing the results as JSON.
+     *
+     * @param args Optional path of the results file.
+     * @throws RunnerException If JMH fails to run the benchmarks.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DomainBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 0 ? args[0] : "domain-benchmark.json")
+                .build();
+        new Runner(options).run();
+    }
+
+    private static Member copyOf(Member member) {
+        Member copy = new Member(member.getName(), member.getEmail(), member.getPhone(), member.isActive(),
+                member.getPassword());
+        copy.setMembershipId(member.getMembershipId());
+        return copy;
+    }
+}
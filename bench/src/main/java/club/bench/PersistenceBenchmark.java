@@ -0,0 +1,176 @@
+package club.bench;
+
+import club.database.DataManager;
+import club.database.DatabaseManager;
+import club.logging.AsyncLog;
+import club.model.Club;
+import club.model.Event;
+import club.model.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static club.logging.Level.WARN;
+
+/**
+ * JMH benchmarks of the persistence layer against a temporary SQLite database holding
+ * {@code size} members and {@code size} events.
+ *
+ * <p>{@code deleteObsoleteRecords} is private, so it is measured through a save that removes one percent
+ * of the members; compare it with {@code saveUnchanged}, which runs the same save with nothing to delete.
+ * Saves include the reload that {@link DataManager#saveClubData} ends with.
+ *
+ * <p>Usage: {@code mvn install} in the project root, {@code mvn -f bench/pom.xml package}, then
+ * {@code java -jar bench/target/benchmarks.jar PersistenceBenchmark -rf json -rff persistence.json}
+ * for machine-readable results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    /**
+     * A database seeded with the club, shared by the benchmarks of one run.
+     */
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"100", "10000", "100000"})
+        public int size;
+
+        Path folder;
+        DatabaseManager dbManager;
+        DataManager dataManager;
+        Club club;
+
+        @Setup(Level.Trial)
+        public void create() throws IOException {
+            // Every load logs its timings at INFO; thousands a second would keep the log flusher busy while measuring
+            AsyncLog.setLevel(WARN);
+            folder = Files.createTempDirectory("club-jmh");
+            dbManager = new DatabaseManager(folder.resolve("club.db").toString());
+            dataManager = new DataManager(dbManager);
+            club = dataManager.loadClubData();
+            populate(club, size);
+            club = dataManager.saveClubData(club);
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() throws IOException {
+            dbManager.close();
+            try (Stream<Path> files = Files.walk(folder)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * The database with one member edited before each save.
+     */
+    @State(Scope.Benchmark)
+    public static class EditedClub {
+
+        private int edits;
+
+        @Setup(Level.Invocation)
+        public void editMember(Database database) {
+            List<Member> members = database.club.getMembers();
+            members.get(edits++ % members.size()).setPhone("555-" + edits);
+        }
+    }
+
+    /**
+     * The database with one percent of its members removed from the club before each save.
+     * The members removed by the previous save are put back first.
+     */
+    @State(Scope.Benchmark)
+    public static class PrunedClub {
+
+        private final List<Member> removed = new ArrayList<>();
+
+        @Setup(Level.Invocation)
+        public void removeMembers(Database database) {
+            if (!removed.isEmpty()) {
+                database.club.getMembers().addAll(removed);
+                database.club = database.dataManager.saveClubData(database.club);
+                removed.clear();
+            }
+            List<Member> members = database.club.getMembers();
+            int count = Math.max(1, members.size() / 100);
+            for (int i = 0; i < count; i++) {
+                removed.add(members.remove(members.size() - 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public Club loadClubData(Database database) {
+        return database.dataManager.loadClubData();
+    }
+
+    @Benchmark
+    public int generateNextEventId(Database database) {
+        return database.dataManager.generateNextEventId();
+    }
+
+    @Benchmark
+    public Club saveUnchanged(Database database) {
+        database.club = database.dataManager.saveClubData(database.club);
+        return database.club;
+    }
+
+    @Benchmark
+    public Club saveClubData(Database database, EditedClub edited) {
+        database.club = database.dataManager.saveClubData(database.club);
+        return database.club;
+    }
+
+    @Benchmark
+    public Club deleteObsoleteRecords(Database database, PrunedClub pruned) {
+        database.club = database.dataManager.saveClubData(database.club);
+        return database.club;
+    }
+
+    /**
+     * Fills a club with members and events, as a club would accumulate them.
+     *
+     * @param club The club to fill.
+     * @param size The number of members and of events.
+     */
+    static void populate(Club club, int size) {
+        List<Member> members = club.getMembers();
+        LocalDate firstDate = LocalDate.of(2024, 1, 1);
+        for (int i = 1; i <= size; i++) {
+            Member member = new Member("Member " + i, "member" + i + "@example.com", "555-" + i, i % 10 != 0, "password" + i);
+            member.setMembershipId(String.format("%05d", i));
+            members.add(member);
+            club.addEvent(new Event(i, "Event " + i, firstDate.plusDays(i % 730), LocalTime.of(9 + i % 10, 0),
+                    "Room " + (i % 20), "Description of event " + i));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package club.bench;
+
+import club.database.DataManager;
+import club.database.DatabaseManager;
+import club.database.SqliteRepositories;
+import club.model.Club;
+import club.model.Member;
+import club.repository.Repositories;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures query throughput and latency on the read connections, first alone and then while a bulk save
+ * is being written, to show that readers keep going during a save.
+ * Readers look up members by membership ID and generate the next event ID, as the query paths do.
+ *
+ * <p>Arguments: {@code [readers] [rows] [wal|rollback] [seconds]}. With {@code rollback} the database is switched
+ * back to a rollback journal for comparison. The database is created in a temporary directory.
+ */
+public class ReadWriteBench {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of reader threads, rows per bulk save, journal mode and baseline duration.
+     * @throws Exception If the database cannot be created or a thread is interrupted.
+     */
+    public static void main(String[] args) throws Exception {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        String mode = args.length > 2 ? args[2] : "wal";
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        Path folder = Files.createTempDirectory("club-bench");
+        DatabaseManager dbManager = new DatabaseManager(folder.resolve("club.db").toString());
+        if (mode.equals("rollback")) {
+            try (Connection conn = dbManager.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA journal_mode=DELETE");
+            }
+        }
+        Repositories repositories = new SqliteRepositories(dbManager);
+        DataManager dataManager = new DataManager(repositories);
+
+        long startTime = System.nanoTime();
+        bulkSave(dataManager, 0, rows);
+        System.out.printf("Journal mode %s, %d readers; seeded %d members in %d ms%n",
+                mode, readers, rows, (System.nanoTime() - startTime) / 1_000_000);
+
+        // Readers alone
+        Phase baseline = Phase.start(repositories, dataManager, readers, rows);
+        Thread.sleep(seconds * 1000L);
+        baseline.stop().print("Reads alone");
+
+        // Readers during a bulk save of as many new members
+        Phase during = Phase.start(repositories, dataManager, readers, rows);
+        startTime = System.nanoTime();
+        bulkSave(dataManager, rows, rows);
+        long writeMillis = (System.nanoTime() - startTime) / 1_000_000;
+        during.stop().print("Reads during save");
+        System.out.printf("Bulk save of %d members took %d ms%n", rows, writeMillis);
+
+        dbManager.close();
+    }
+
+    /**
+     * Loads the club, adds members and saves it in one transaction.
+     *
+     * @param dataManager The data manager.
+     * @param first       The number of the first new member.
+     * @param count       The number of members to add.
+     */
+    private static void bulkSave(DataManager dataManager, int first, int count) {
+        Club club = dataManager.loadClubData();
+        for (int i = first; i < first + count; i++) {
+            Member member = new Member("Member " + i, "member" + i + "@bench.local", "0400" + i, true, "password");
+            member.setMembershipId(membershipId(i));
+            club.getMembers().add(member);
+        }
+        dataManager.saveClubData(club);
+    }
+
+    private static String membershipId(int i) {
+        return String.format("%05d", i + 1);
+    }
+
+    /**
+     * Reader threads running until stopped.
+     */
+    private static final class Phase {
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final AtomicLong errors = new AtomicLong();
+        private final List<Thread> threads = new ArrayList<>();
+        private final List<long[]> latencies = new ArrayList<>();
+        private long startTime;
+
+        /**
+         * Starts reader threads.
+         *
+         * @param repositories The repositories to query.
+         * @param dataManager  The data manager, for generating event IDs.
+         * @param readers      The number of reader threads.
+         * @param rows         The number of members known to exist.
+         * @return The running phase.
+         */
+        static Phase start(Repositories repositories, DataManager dataManager, int readers, int rows) {
+            Phase phase = new Phase();
+            phase.startTime = System.nanoTime();
+            for (int r = 0; r < readers; r++) {
+                int readerId = r;
+                Thread thread = new Thread(() -> {
+                    long[] own = new long[4096];
+                    int count = 0;
+                    int i = readerId;
+                    while (phase.running.get()) {
+                        long start = System.nanoTime();
+                        try {
+                            if ((i & 1) == 0) {
+                                repositories.members().exists(membershipId((i * 7919) % rows));
+                            } else {
+                                dataManager.generateNextEventId();
+                            }
+                        } catch (SQLException e) {
+                            phase.errors.incrementAndGet();
+                        }
+                        i++;
+                        if (count == own.length) {
+                            own = Arrays.copyOf(own, count * 2);
+                        }
+                        own[count++] = System.nanoTime() - start;
+                    }
+                    synchronized (phase.latencies) {
+                        phase.latencies.add(Arrays.copyOf(own, count));
+                    }
+                }, "reader-" + r);
+                phase.threads.add(thread);
+                thread.start();
+            }
+            return phase;
+        }
+
+        /**
+         * Stops the readers and collects their latencies.
+         *
+         * @return The results.
+         * @throws InterruptedException If interrupted while waiting for the readers.
+         */
+        Result stop() throws InterruptedException {
+            running.set(false);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(all, errors.get(), seconds);
+        }
+    }
+
+    /**
+     * Results of a phase.
+     *
+     * @param latencies The sorted read latencies in nanoseconds.
+     * @param errors    The number of failed reads.
+     * @param seconds   The duration of the phase.
+     */
+    private record Result(long[] latencies, long errors, double seconds) {
+
+        /**
+         * Prints throughput and latency percentiles.
+         *
+         * @param label The name of the phase.
+         */
+        void print(String label) {
+            System.out.printf("%s: %d reads in %.2f s (%d errors), %.0f reads/s, p50: %.3f ms, p99: %.3f ms, max: %.2f ms%n",
+                    label, latencies.length, seconds, errors, latencies.length / seconds,
+                    percentile(0.50), percentile(0.99), latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0);
+        }
+
+        /**
+         * Gets a latency percentile in milliseconds.
+         *
+         * @param fraction The percentile as a fraction.
+         * @return The latency in milliseconds.
+         */
+        double percentile(double fraction) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            return latencies[(int) Math.min(latencies.length - 1, Math.floor(fraction * latencies.length))] / 1e6;
+        }
+    }
+}
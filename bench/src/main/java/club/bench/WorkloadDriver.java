@@ -0,0 +1,228 @@
+package club.bench;
+
+import club.database.DataManager;
+import club.database.DatabaseManager;
+import club.model.Member;
+import club.repository.memory.InMemoryRepositories;
+import club.service.ClubService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays a mixed workload of logins, sign-ups, member edits and announcements against a club service
+ * over a generated club, and reports throughput and latency percentiles per operation.
+ * Changes are saved in the background, as in the headless server, so saves compete with the workload.
+ *
+ * <p>Each worker draws its operations from its own seeded random, so a run with the same arguments replays
+ * the same mix. Most logins use valid credentials; one in ten uses a wrong password.
+ *
+ * <p>Arguments: {@code [members] [threads] [seconds] [seed] [sqlite|memory]}. With {@code sqlite} the club is
+ * generated into a database in a temporary directory; with {@code memory} it is kept in memory.
+ */
+public class WorkloadDriver {
+
+    private static final long AUTOSAVE_SECONDS = 5;
+
+    /**
+     * An operation of the workload.
+     */
+    private enum Operation {
+        LOGIN(70), SIGN_UP(10), EDIT(15), ANNOUNCEMENT(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        /**
+         * Picks an operation by weight.
+         *
+         * @param random The worker's random.
+         * @return The operation.
+         */
+        static Operation pick(Random random) {
+            int roll = random.nextInt(100);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return LOGIN;
+        }
+    }
+
+    /**
+     * Runs the workload.
+     *
+     * @param args Optional club size, number of workers, duration, seed and storage.
+     * @throws Exception If the database cannot be created or a worker is interrupted.
+     */
+    public static void main(String[] args) throws Exception {
+        int members = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+        boolean sqlite = args.length <= 4 || args[4].equals("sqlite");
+
+        ClubGenerator generator = new ClubGenerator(seed, members, members / 10, members / 5, 10);
+        DatabaseManager dbManager = null;
+        DataManager dataManager;
+        if (sqlite) {
+            Path folder = Files.createTempDirectory("club-workload");
+            dbManager = new DatabaseManager(folder.resolve("club.db").toString());
+            generator.writeBulk(dbManager);
+            dataManager = new DataManager(dbManager);
+        } else {
+            dataManager = new DataManager(new InMemoryRepositories());
+            generator.writeThrough(dataManager);
+        }
+        ClubService service = new ClubService(dataManager);
+        service.load();
+        service.startAutosave(AUTOSAVE_SECONDS);
+
+        System.out.printf("Workload: %d members, %d workers for %d s on %s (seed %d)%n",
+                members, threads, seconds, sqlite ? "SQLite" : "memory", seed);
+        Recorder recorder = run(service, threads, seconds, seed);
+        recorder.print(seconds);
+
+        service.close();
+        if (dbManager != null) {
+            dbManager.close();
+        }
+    }
+
+    /**
+     * Runs the workers until the deadline.
+     *
+     * @param service The club service.
+     * @param threads The number of workers.
+     * @param seconds The duration.
+     * @param seed    The seed the workers' randoms are derived from.
+     * @return The recorded latencies.
+     * @throws InterruptedException If interrupted while waiting for the workers.
+     */
+    private static Recorder run(ClubService service, int threads, int seconds, long seed) throws InterruptedException {
+        List<Member> existing = service.getMembers();
+        Recorder recorder = new Recorder();
+        AtomicLong signUps = new AtomicLong();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(seed * 31 + t);
+            Thread worker = new Thread(() -> {
+                Recorder own = new Recorder();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = Operation.pick(random);
+                    Member member = existing.get(random.nextInt(existing.size()));
+                    long start = System.nanoTime();
+                    try {
+                        switch (operation) {
+                            case LOGIN -> service.login(member.getEmail(),
+                                    random.nextInt(10) == 0 ? "wrong" : member.getPassword());
+                            case SIGN_UP -> {
+                                long n = signUps.incrementAndGet();
+                                service.registerMember("Workload Member " + n, "workload" + n + "@members.example",
+                                        "0400000000", "password");
+                            }
+                            case EDIT -> service.updateMember(member.getMembershipId(), member.getName(),
+                                    member.getEmail(), String.format("04%08d", random.nextInt(100_000_000)),
+                                    member.isActive());
+                            case ANNOUNCEMENT -> service.postAnnouncement("Workload announcement " + random.nextInt());
+                        }
+                        own.record(operation, System.nanoTime() - start);
+                    } catch (RuntimeException e) {
+                        own.error(operation);
+                    }
+                }
+                recorder.merge(own);
+            }, "workload-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return recorder;
+    }
+
+    /**
+     * Latencies and errors per operation.
+     */
+    private static final class Recorder {
+        private final long[][] latencies = new long[Operation.values().length][];
+        private final int[] counts = new int[Operation.values().length];
+        private final long[] errors = new long[Operation.values().length];
+
+        Recorder() {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new long[1024];
+            }
+        }
+
+        void record(Operation operation, long nanos) {
+            int i = operation.ordinal();
+            if (counts[i] == latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], counts[i] * 2);
+            }
+            latencies[i][counts[i]++] = nanos;
+        }
+
+        void error(Operation operation) {
+            errors[operation.ordinal()]++;
+        }
+
+        synchronized void merge(Recorder other) {
+            for (int i = 0; i < latencies.length; i++) {
+                if (counts[i] + other.counts[i] > latencies[i].length) {
+                    latencies[i] = Arrays.copyOf(latencies[i], counts[i] + other.counts[i]);
+                }
+                System.arraycopy(other.latencies[i], 0, latencies[i], counts[i], other.counts[i]);
+                counts[i] += other.counts[i];
+                errors[i] += other.errors[i];
+            }
+        }
+
+        /**
+         * Prints throughput and latency percentiles per operation and overall.
+         *
+         * @param seconds The duration of the run.
+         */
+        void print(int seconds) {
+            long[] all = new long[0];
+            for (Operation operation : Operation.values()) {
+                int i = operation.ordinal();
+                long[] sorted = Arrays.copyOf(latencies[i], counts[i]);
+                Arrays.sort(sorted);
+                printLine(operation.name().toLowerCase(), sorted, errors[i], seconds);
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + sorted.length);
+                System.arraycopy(sorted, 0, all, offset, sorted.length);
+            }
+            Arrays.sort(all);
+            printLine("total", all, Arrays.stream(errors).sum(), seconds);
+        }
+
+        private static void printLine(String name, long[] sorted, long errors, int seconds) {
+            System.out.printf("%-12s %9d ops %9.0f ops/s  p50 %8.3f ms  p90 %8.3f ms  p99 %8.3f ms  max %8.3f ms  errors %d%n",
+                    name, sorted.length, sorted.length / (double) seconds, percentile(sorted, 0.50),
+                    percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0, errors);
+        }
+
+        private static double percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.floor(fraction * sorted.length))] / 1e6;
+        }
+    }
+}
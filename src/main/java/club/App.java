@@ -1,15 +1,31 @@
 package club;
 
+import club.database.BackupService;
 import club.database.DataManager;
-import club.model.Admin;
+import club.database.DatabaseManager;
+import club.database.SaveConflictException;
+import club.logging.AsyncLog;
+import club.logging.Logger;
+import club.metrics.MetricsRegistry;
+import club.metrics.MetricsReporter;
+import club.metrics.SceneLoadEvent;
 import club.model.Club;
 import club.model.Event;
 import club.model.Member;
+import club.service.ClubService;
+import club.service.CommandLog;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.nio.file.Path;
 
 /**
  * Main application class for the club management system.
@@ -18,11 +34,19 @@ import javafx.stage.Stage;
 public class App extends Application {
 
     private static Stage primaryStage;
-    private static Club club;
-    private static String loggedInUserEmail;
+    private static Session session;
     private static Member selectedMember;
     private static Event selectedEvent;
-    private static final DataManager dataManager = new DataManager();
+    private static ClubService clubService;
+    private static final long AUTOSAVE_SECONDS = 30;
+    private static Timeline autosave;
+    private static final long BACKUP_INTERVAL_MINUTES = 60;
+    private static BackupService backupService;
+    private static final String METRICS_LOG_FILE = DatabaseManager.SAVES_FOLDER + "/metrics.log";
+    private static final long METRICS_INTERVAL_SECONDS = 60;
+    private static MetricsReporter metricsReporter;
+    private static final String LOG_FILE = DatabaseManager.SAVES_FOLDER + "/club.log";
+    private static final Logger LOG = Logger.get(App.class);
 
     /**
      * Entry point for the JavaFX application.
@@ -35,8 +59,29 @@ public class App extends Application {
     public void start(Stage stage) throws Exception {
         primaryStage = stage;
 
-        // Load the saved state of the Club object
-        initializeClubData();
+        // Write the application log to a file next to the database
+        AsyncLog.toFile(Path.of(LOG_FILE));
+
+        // Log every change to the command log, so it is durable without rewriting the database
+        clubService = new ClubService(new DataManager(),
+                new CommandLog(Path.of(HeadlessApp.COMMAND_LOG_FILE), HeadlessApp.COMMAND_LOG_SIZE));
+
+        // Load the saved state of the Club object in the background; the login screen only needs credentials
+        clubService.loadInBackground();
+
+        // Save logged changes to the database periodically. On the FX thread, since the screens read the club there
+        autosave = new Timeline(new KeyFrame(Duration.seconds(AUTOSAVE_SECONDS), event -> saveIfDirty()));
+        autosave.setCycleCount(Timeline.INDEFINITE);
+        autosave.play();
+
+        // Back up the database in the background while the application runs
+        backupService = new BackupService(new DatabaseManager());
+        backupService.start(BACKUP_INTERVAL_MINUTES);
+
+        // Write the metrics to a log every minute, for the diagnostics of a running installation
+        clubService.registerGauges(MetricsRegistry.global());
+        metricsReporter = new MetricsReporter(MetricsRegistry.global(), METRICS_LOG_FILE, MetricsReporter.DEFAULT_MAX_BYTES);
+        metricsReporter.start(METRICS_INTERVAL_SECONDS);
 
         // Load the login screen
         loadScene("/club/Login.fxml", "Login");
@@ -44,14 +89,40 @@ public class App extends Application {
 
     /**
      * Saves the current state of the Club object when the application closes.
+     * Changes that could not be saved stay in the command log and are replayed on the next start.
      */
     @Override
     public void stop() {
-        try {
-            dataManager.saveClubData(club);
-            System.out.println("Club data saved successfully.");
-        } catch (Exception e) {
-            System.err.println("Failed to save club data: " + e.getMessage());
+        if (autosave != null) {
+            autosave.stop();
+        }
+        if (backupService != null) {
+            backupService.close();
+        }
+        if (metricsReporter != null) {
+            metricsReporter.close();
+        }
+        if (clubService != null) {
+            try {
+                clubService.awaitLoaded(); // Saving needs the whole club, which may still be loading
+                clubService.save();
+                LOG.info("Club data saved");
+            } catch (Exception e) {
+                LOG.error("Failed to save club data", e);
+            } finally {
+                clubService.close();
+            }
+        }
+        AsyncLog.flush();
+    }
+
+    /**
+     * Saves the changes made through the club service since the last save, once the club has loaded.
+     */
+    private static void saveIfDirty() {
+        if (clubService.isLoaded()) {
+            clubService.saveIfDirty();
+            refreshSession();
         }
     }
 
@@ -73,6 +144,8 @@ public class App extends Application {
      * @throws Exception If an error occurs while loading the scene.
      */
     private static void loadScene(String fxmlFile, String title) throws Exception {
+        long startTime = System.nanoTime();
+        SceneLoadEvent event = SceneLoadEvent.start(sceneName(fxmlFile));
         FXMLLoader loader = new FXMLLoader(App.class.getResource(fxmlFile));
         Parent root = loader.load();
 
@@ -83,37 +156,44 @@ public class App extends Application {
         primaryStage.setScene(scene);
         primaryStage.sizeToScene();
         primaryStage.show();
+        event.commit();
+        MetricsRegistry.global().histogram("scene." + sceneName(fxmlFile)).recordSince(startTime);
     }
 
     /**
-     * Initializes the Club object by loading saved data or creating a default instance.
+     * Gets the name of a scene for its metrics.
+     *
+     * @param fxmlFile The path to the FXML file.
+     * @return The file name without its folder and extension.
      */
-    private void initializeClubData() {
-        try {
-            club = dataManager.loadClubData();
-            System.out.println("Club data loaded successfully.");
-        } catch (Exception e) {
-            System.out.println("No saved data found. Starting with a new Club instance.");
-            club = new Club(getClubName()); // Default Club instance
-        }
-
-        // Add a default admin if no admins exist
-        if (club.getAdmins().isEmpty()) {
-            Admin defaultAdmin = new Admin("Default Admin", "admin", "admin123", "123");
-            club.getAdmins().add(defaultAdmin);
-            System.out.println("Default admin added: " + defaultAdmin.getName());
-        }
+    private static String sceneName(String fxmlFile) {
+        String name = fxmlFile.substring(fxmlFile.lastIndexOf('/') + 1);
+        return name.endsWith(".fxml") ? name.substring(0, name.length() - ".fxml".length()) : name;
     }
 
     // --- Getters and Setters ---
 
     /**
-     * Gets the current Club object.
+     * Gets the current Club object, waiting for it to finish loading at startup.
      *
      * @return The current Club object.
      */
     public static Club getClub() {
-        return club;
+        return clubService.getClub();
+    }
+
+    /**
+     * Runs an action on the JavaFX thread once the club has loaded, so a screen can be shown before it has.
+     * Runs the action at once if the club is already loaded.
+     *
+     * @param action The action to run with the loaded club.
+     */
+    public static void whenClubLoaded(Runnable action) {
+        if (clubService.isLoaded()) {
+            action.run();
+        } else {
+            clubService.whenLoaded().thenRun(() -> Platform.runLater(action));
+        }
     }
 
     /**
@@ -122,7 +202,36 @@ public class App extends Application {
      * @param updatedClub The updated Club object.
      */
     public static void setClub(Club updatedClub) {
-        club = updatedClub;
+        clubService.setClub(updatedClub);
+        refreshSession();
+    }
+
+    /**
+     * Saves the current state of the Club object and switches to the reloaded copy.
+     * If another admin changed the same records, their changes are kept and the user is told to re-apply theirs.
+     */
+    public static void saveClubData() {
+        try {
+            clubService.save();
+        } catch (SaveConflictException e) {
+            LOG.warn("Save kept the other client's changes", "detail", e.getMessage());
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Save Conflict");
+            alert.setContentText("Some records were changed by another user while you were editing them. "
+                    + "Their changes have been loaded; please re-apply yours.\n\n" + String.join("\n", e.getConflicts()));
+            alert.showAndWait();
+        } finally {
+            refreshSession();
+        }
+    }
+
+    /**
+     * Points the session at the user entity of the current Club object and re-resolves its role.
+     */
+    private static void refreshSession() {
+        if (session != null) {
+            session = Session.resolve(getClub(), session.getEmail());
+        }
     }
 
     /**
@@ -131,7 +240,7 @@ public class App extends Application {
      * @return The name of the current club.
      */
     public static String getClubName() {
-        return club != null ? club.getClubName() : "Monash Deep Neuron";
+        return clubService.getClubName();
     }
 
     /**
@@ -140,25 +249,56 @@ public class App extends Application {
      * @return The DataManager instance.
      */
     public static DataManager getDataManager() {
-        return dataManager;
+        return clubService.getDataManager();
     }
 
     /**
-     * Gets the email of the currently logged-in user.
+     * Gets the service that owns the club state.
      *
-     * @return The email of the logged-in user.
+     * @return The club service.
      */
-    public static String getLoggedInUserEmail() {
-        return loggedInUserEmail;
+    public static ClubService getClubService() {
+        return clubService;
+    }
+
+    /**
+     * Gets the session of the currently logged-in user.
+     * Re-resolves the user's role if admins were changed since the session was created,
+     * and binds a session started while the club was loading once it has loaded.
+     *
+     * @return The current session, or null if no user is logged in.
+     */
+    public static Session getSession() {
+        if (session != null && clubService.isLoaded() && !session.isCurrent(getClub())) {
+            session = Session.resolve(getClub(), session.getEmail());
+        }
+        return session;
+    }
+
+    /**
+     * Starts a session for a user who has just logged in.
+     *
+     * @param newSession The session of the logged-in user.
+     */
+    public static void startSession(Session newSession) {
+        session = newSession;
     }
 
     /**
-     * Sets the email of the currently logged-in user.
+     * Ends the current session when the user signs out.
+     */
+    public static void endSession() {
+        session = null;
+    }
+
+    /**
+     * Gets the email of the currently logged-in user.
      *
-     * @param email The email of the logged-in user.
+     * @return The email of the logged-in user, or null if no user is logged in.
      */
-    public static void setLoggedInUserEmail(String email) {
-        loggedInUserEmail = email;
+    public static String getLoggedInUserEmail() {
+        Session current = getSession();
+        return current != null ? current.getEmail() : null;
     }
 
     /**
@@ -185,8 +325,8 @@ public class App extends Application {
      * @return true if the logged-in user is an admin, false otherwise.
      */
     public static boolean isAdmin() {
-        return club.getAdmins().stream()
-                .anyMatch(admin -> admin.getEmail().equals(loggedInUserEmail));
+        Session current = getSession();
+        return current != null && current.isAdmin();
     }
 
     /**
@@ -0,0 +1,85 @@
+package club;
+
+import club.database.BackupService;
+import club.database.DatabaseManager;
+import club.service.CommandLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command-line entry point for backing up and restoring the club database.
+ *
+ * <p>Usage: {@code backup}, {@code list}, or {@code restore <backup-file|latest>}.
+ * Restore is meant to run while the application is stopped. It also discards the operations
+ * in the command log, which belong to the state being replaced and must not be replayed onto the backup.
+ */
+public class BackupTool {
+
+    /**
+     * Runs a backup command.
+     *
+     * @param args The command and its argument.
+     * @throws IOException If the command log cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BackupTool backup | list | restore <backup-file|latest>");
+            System.exit(2);
+        }
+        BackupService backups = new BackupService(new DatabaseManager());
+        switch (args[0]) {
+            case "backup" -> {
+                long startTime = System.nanoTime();
+                Path backup = backups.backupNow();
+                System.out.printf("Backed up to %s in %d ms%n", backup, (System.nanoTime() - startTime) / 1_000_000);
+            }
+            case "list" -> {
+                for (Path backup : backups.listBackups()) {
+                    System.out.printf("%s  %d KB%n", backup, Files.size(backup) / 1024);
+                }
+            }
+            case "restore" -> {
+                if (args.length < 2) {
+                    System.err.println("Usage: BackupTool restore <backup-file|latest>");
+                    System.exit(2);
+                }
+                Path backup;
+                if (args[1].equals("latest")) {
+                    List<Path> available = backups.listBackups();
+                    if (available.isEmpty()) {
+                        System.err.println("No backups found in " + BackupService.DEFAULT_BACKUP_FOLDER);
+                        System.exit(1);
+                    }
+                    backup = available.get(0);
+                } else {
+                    backup = Path.of(args[1]);
+                }
+                long startTime = System.nanoTime();
+                backups.restore(backup);
+                discardCommandLog();
+                System.out.printf("Restored %s in %d ms%n", backup, (System.nanoTime() - startTime) / 1_000_000);
+            }
+            default -> {
+                System.err.println("Unknown command: " + args[0]);
+                System.exit(2);
+            }
+        }
+    }
+
+    /**
+     * Checkpoints the headless command log, if there is one, so its operations are not replayed onto the restored data.
+     *
+     * @throws IOException If the command log cannot be opened.
+     */
+    private static void discardCommandLog() throws IOException {
+        Path file = Path.of(HeadlessApp.COMMAND_LOG_FILE);
+        if (Files.exists(file)) {
+            try (CommandLog commandLog = new CommandLog(file, HeadlessApp.COMMAND_LOG_SIZE)) {
+                commandLog.checkpoint();
+            }
+        }
+    }
+}
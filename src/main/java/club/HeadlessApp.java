@@ -0,0 +1,183 @@
+package club;
+
+import club.database.BackupService;
+import club.database.DataManager;
+import club.database.DatabaseManager;
+import club.logging.AsyncLog;
+import club.logging.Logger;
+import club.metrics.MetricsRegistry;
+import club.metrics.MetricsReporter;
+import club.repository.memory.InMemoryRepositories;
+import club.server.ApiServer;
+import club.service.ClubRegistry;
+import club.service.ClubService;
+import club.service.CommandLog;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Entry point for running the club backend without a display.
+ * Boots the data layer and the club service without touching JavaFX,
+ * logs every operation to a write-ahead command log, saves changes in the background
+ * and saves once more on shutdown. The database is backed up every hour with a {@link BackupService},
+ * and the metrics are written to {@code saves/metrics.log} every minute.
+ * Optionally serves the club over HTTP through an {@link ApiServer}, together with the other clubs
+ * of a {@link ClubRegistry}, each kept in its own database under {@code saves/clubs/}. Clubs named in
+ * {@code -Dclub.clubs=} (comma-separated IDs) are registered at startup; registered clubs are remembered
+ * in {@code saves/registry.db}.
+ * The API listens on the loopback interface; {@code -Dclub.api.host=} serves it on another address,
+ * which requires an access token in the {@code CLUB_API_TOKEN} environment variable.
+ *
+ * <p>With {@code -Dclub.storage=memory} the club is kept in {@link InMemoryRepositories} instead,
+ * without a command log, and without a registry, so nothing is written to disk and everything is lost on exit.
+ */
+public class HeadlessApp {
+
+    private static final long DEFAULT_AUTOSAVE_SECONDS = 30;
+    static final String COMMAND_LOG_FILE = DatabaseManager.SAVES_FOLDER + "/commands.wal";
+    static final int COMMAND_LOG_SIZE = 16 * 1024 * 1024;
+    private static final long BACKUP_INTERVAL_MINUTES = 60;
+    private static final String STORAGE_PROPERTY = "club.storage";
+    private static final String METRICS_LOG_FILE = DatabaseManager.SAVES_FOLDER + "/metrics.log";
+    private static final long METRICS_INTERVAL_SECONDS = 60;
+    private static final String LOG_FILE = DatabaseManager.SAVES_FOLDER + "/club.log";
+    private static final String CLUBS_PROPERTY = "club.clubs";
+    private static final int MAX_OPEN_CLUBS = 32;
+    private static final long CLUB_IDLE_SECONDS = 600;
+    private static final long CLUB_SWEEP_SECONDS = 60;
+    private static final String API_HOST_PROPERTY = "club.api.host";
+    // An environment variable rather than a property, so the token does not show in the process list
+    private static final String API_TOKEN_VARIABLE = "CLUB_API_TOKEN";
+    private static final Logger LOG = Logger.get(HeadlessApp.class);
+
+    /**
+     * Starts a club service for embedding in another program.
+     * The caller owns the returned service and should close it to save pending changes.
+     *
+     * Operations left in the command log by a crash are replayed before the service is returned.
+     *
+     * @param autosaveSeconds The number of seconds between background saves.
+     * @return The running club service.
+     * @throws IOException If the command log cannot be opened.
+     */
+    public static ClubService start(long autosaveSeconds) throws IOException {
+        ClubService service;
+        if (isInMemory()) {
+            service = new ClubService(new DataManager(new InMemoryRepositories()));
+        } else {
+            service = new ClubService(new DataManager(), new CommandLog(Path.of(COMMAND_LOG_FILE), COMMAND_LOG_SIZE));
+        }
+        service.load();
+        service.startAutosave(autosaveSeconds);
+        return service;
+    }
+
+    /**
+     * Runs the headless club backend until the process is terminated.
+     *
+     * @param args Optional autosave interval in seconds, followed by an optional HTTP port.
+     * @throws InterruptedException If the main thread is interrupted while waiting.
+     * @throws IOException          If the command log or the HTTP server cannot be opened.
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        long startTime = System.nanoTime();
+        long autosaveSeconds = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_AUTOSAVE_SECONDS;
+        if (!isInMemory()) {
+            AsyncLog.toFile(Path.of(LOG_FILE));
+        }
+
+        ClubService service = start(autosaveSeconds);
+
+        BackupService backupService = null;
+        MetricsReporter metricsReporter = null;
+        if (!isInMemory()) {
+            backupService = new BackupService(new DatabaseManager());
+            backupService.start(BACKUP_INTERVAL_MINUTES);
+            service.registerGauges(MetricsRegistry.global());
+            metricsReporter = new MetricsReporter(MetricsRegistry.global(), METRICS_LOG_FILE, MetricsReporter.DEFAULT_MAX_BYTES);
+            metricsReporter.start(METRICS_INTERVAL_SECONDS);
+        }
+
+        ClubRegistry registry = null;
+        ApiServer apiServer = null;
+        if (args.length > 1) {
+            if (!isInMemory()) {
+                registry = openRegistry();
+            }
+            int port = Integer.parseInt(args[1]);
+            String host = System.getProperty(API_HOST_PROPERTY);
+            InetSocketAddress address = host == null
+                    ? new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+                    : new InetSocketAddress(host, port);
+            apiServer = new ApiServer(service, registry, address, System.getenv(API_TOKEN_VARIABLE));
+            apiServer.start();
+            LOG.info("HTTP API listening", "address", address.getHostString(), "port", apiServer.getPort());
+        }
+
+        ApiServer runningServer = apiServer;
+        ClubRegistry runningRegistry = registry;
+        BackupService runningBackups = backupService;
+        MetricsReporter runningReporter = metricsReporter;
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (runningServer != null) {
+                runningServer.close();
+            }
+            if (runningRegistry != null) {
+                runningRegistry.close();
+            }
+            if (runningBackups != null) {
+                runningBackups.close();
+            }
+            boolean saved = service.saveIfDirty();
+            service.close();
+            if (runningReporter != null) {
+                runningReporter.close();
+            }
+            if (saved) {
+                LOG.info("Club data saved");
+            } else {
+                LOG.error("Failed to save club data on shutdown");
+            }
+            AsyncLog.flush();
+            stopped.countDown();
+        }, "club-shutdown"));
+
+        Runtime runtime = Runtime.getRuntime();
+        LOG.info("Headless club service started",
+                "ms", (System.nanoTime() - startTime) / 1_000_000,
+                "heapUsedMb", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+
+        stopped.await();
+    }
+
+    /**
+     * Opens the registry of hosted clubs, registers the clubs named in {@code club.clubs}
+     * and starts evicting idle clubs.
+     *
+     * @return The registry.
+     */
+    private static ClubRegistry openRegistry() {
+        ClubRegistry registry = new ClubRegistry(ClubRegistry.DEFAULT_REGISTRY_FILE, MAX_OPEN_CLUBS, CLUB_IDLE_SECONDS);
+        for (String clubId : System.getProperty(CLUBS_PROPERTY, "").split(",")) {
+            if (!clubId.isBlank()) {
+                registry.register(clubId.strip());
+            }
+        }
+        registry.startEviction(CLUB_SWEEP_SECONDS);
+        return registry;
+    }
+
+    /**
+     * Checks whether the club is kept in memory rather than in the database.
+     *
+     * @return true if {@code club.storage} is set to {@code memory}.
+     */
+    private static boolean isInMemory() {
+        return "memory".equals(System.getProperty(STORAGE_PROPERTY));
+    }
+}
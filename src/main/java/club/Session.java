@@ -0,0 +1,154 @@
+package club;
+
+import club.model.Admin;
+import club.model.Club;
+import club.model.Member;
+import club.model.Person;
+import club.repository.Credentials;
+
+/**
+ * Represents the logged-in user for the lifetime of a login.
+ * Resolves the user's role once so role checks are a field read instead of a scan of the admin list.
+ */
+public final class Session {
+
+    /**
+     * The roles a logged-in user can have.
+     */
+    public enum Role {
+        ADMIN,
+        MEMBER
+    }
+
+    private final Person user;
+    private final String email;
+    private final Role role;
+    private final int roleRevision;
+
+    /**
+     * Constructs a session for the given user.
+     *
+     * @param user         The logged-in user, or null if the club has not loaded yet.
+     * @param email        The email the user logged in with.
+     * @param role         The resolved role of the user.
+     * @param roleRevision The club's role revision the role was resolved against.
+     */
+    private Session(Person user, String email, Role role, int roleRevision) {
+        this.user = user;
+        this.email = email;
+        this.role = role;
+        this.roleRevision = roleRevision;
+    }
+
+    /**
+     * Creates a session for a logged-in admin.
+     *
+     * @param club  The club the admin logged into.
+     * @param admin The admin.
+     * @return The new session.
+     */
+    public static Session forAdmin(Club club, Admin admin) {
+        if (admin == null) {
+            throw new IllegalArgumentException("Admin cannot be null.");
+        }
+        return new Session(admin, admin.getEmail(), Role.ADMIN, club.getRoleRevision());
+    }
+
+    /**
+     * Creates a session for a logged-in member.
+     *
+     * @param club   The club the member logged into.
+     * @param member The member.
+     * @return The new session.
+     */
+    public static Session forMember(Club club, Member member) {
+        if (member == null) {
+            throw new IllegalArgumentException("Member cannot be null.");
+        }
+        return new Session(member, member.getEmail(), Role.MEMBER, club.getRoleRevision());
+    }
+
+    /**
+     * Creates a session from the stored login details, so a user can log in while the club is still loading.
+     * The session has no user until it is resolved against the loaded club.
+     *
+     * @param credentials The login details the user was checked against.
+     * @param email       The email the user logged in with.
+     * @return The new session.
+     */
+    public static Session forCredentials(Credentials credentials, String email) {
+        if (credentials == null) {
+            throw new IllegalArgumentException("Credentials cannot be null.");
+        }
+        Role role = Credentials.ADMIN.equals(credentials.kind()) ? Role.ADMIN : Role.MEMBER;
+        return new Session(null, email, role, 0);
+    }
+
+    /**
+     * Resolves the user with the given email against a club.
+     * Admins take precedence over members with the same email.
+     *
+     * @param club  The club to resolve against.
+     * @param email The email of the user.
+     * @return The session for the user, or null if no user has that email.
+     */
+    public static Session resolve(Club club, String email) {
+        for (Admin admin : club.getAdmins()) {
+            if (admin.getEmail().equals(email)) {
+                return forAdmin(club, admin);
+            }
+        }
+        for (Member member : club.getMembers()) {
+            if (member.getEmail().equals(email)) {
+                return forMember(club, member);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the session was resolved against the club's current roles.
+     *
+     * @param club The current club.
+     * @return true if the session was resolved and no role changes happened since.
+     */
+    public boolean isCurrent(Club club) {
+        return user != null && club.getRoleRevision() == roleRevision;
+    }
+
+    /**
+     * Gets the logged-in user.
+     *
+     * @return The logged-in admin or member, or null until the club has loaded.
+     */
+    public Person getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the role of the logged-in user.
+     *
+     * @return The role of the user.
+     */
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Checks if the logged-in user is an admin.
+     *
+     * @return true if the user is an admin, false otherwise.
+     */
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+    /**
+     * Gets the email of the logged-in user.
+     *
+     * @return The user's email.
+     */
+    public String getEmail() {
+        return email;
+    }
+}
@@ -1,7 +1,6 @@
 package club.controller;
 
 import club.App;
-import club.model.Event;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.DatePicker;
@@ -55,15 +54,14 @@ public class AddEventController extends BaseController{
             return;
         }
 
-        // Generate a unique ID for the new event
-        int newEventId = App.getDataManager().generateNextEventId();
-
-        // Create a new event and add it to the club
-        Event newEvent = new Event(newEventId, name, date, time, location, description);
-        App.getClub().addEvent(newEvent);
-
-        // Save the updated club data
-        App.getDataManager().saveClubData(App.getClub());
+        // Create the event through the club service, which logs it before adding it to the club
+        try {
+            App.getClubService().createEvent(name, date, time, location, description);
+        } catch (IllegalStateException e) {
+            log.error("Failed to create event", e, "name", name);
+            showAlert("Error", "Failed to save event: " + e.getMessage());
+            return;
+        }
 
         showAlert("Success", "Event saved successfully!");
 
@@ -118,7 +116,7 @@ public class AddEventController extends BaseController{
         try {
             App.switchScene("/club/EventList.fxml");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", "/club/EventList.fxml");
             showAlert("Error", "Failed to navigate to the event list.");
         }
     }
@@ -0,0 +1,58 @@
+package club.controller;
+
+import club.model.Announcement;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable display model for an announcement list cell.
+ * Holds the pre-formatted text so cells do not format dates or concatenate strings while scrolling.
+ *
+ * @param announcement The announcement shown in the cell.
+ * @param revision     The revision of the announcement the text was formatted from.
+ * @param text         The date, time and message of the announcement.
+ */
+record AnnouncementRow(Announcement announcement, int revision, String text) {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    // Formatted text is reused until its announcement changes; only accessed from the FX thread.
+    // The cached text must not refer to its announcement, or the weak keys would never be cleared.
+    private static final Map<Announcement, Formatted> CACHE = new WeakHashMap<>();
+
+    /**
+     * The formatted text of an announcement, cached without the announcement itself.
+     */
+    private record Formatted(int revision, String text) {
+    }
+
+    /**
+     * Gets the row for an announcement, formatting it only if the announcement changed since the last call.
+     *
+     * @param announcement The announcement to display.
+     * @return The display row for the announcement.
+     */
+    static AnnouncementRow of(Announcement announcement) {
+        Formatted formatted = CACHE.get(announcement);
+        if (formatted == null || formatted.revision() != announcement.getRevision()) {
+            // Format the announcement text with a short date and time
+            String text = DATE_TIME_FORMAT.format(announcement.getDateTime()) + " - " + announcement.getMessage();
+            formatted = new Formatted(announcement.getRevision(), text);
+            CACHE.put(announcement, formatted);
+        }
+        return new AnnouncementRow(announcement, formatted.revision(), formatted.text());
+    }
+
+    /**
+     * Gets the rows for a list of announcements.
+     *
+     * @param announcements The announcements to display.
+     * @return The display rows, in the same order.
+     */
+    static List<AnnouncementRow> of(List<Announcement> announcements) {
+        return announcements.stream().map(AnnouncementRow::of).toList();
+    }
+}
@@ -1,6 +1,18 @@
 package club.controller;
 
+import club.logging.Logger;
+import javafx.animation.PauseTransition;
+import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Base controller class for the application.
@@ -8,6 +20,19 @@ import javafx.scene.control.Alert;
  */
 public abstract class BaseController {
 
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(200);
+
+    // Single background thread for search queries so typing never blocks the FX thread
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    protected final Logger log = Logger.get(getClass());
+
+    private long searchGeneration;
+
     /**
      * Displays an alert dialog with the given title and message.
      *
@@ -20,4 +45,43 @@ public abstract class BaseController {
         alert.setContentText(message);
         alert.showAndWait();
     }
+
+    /**
+     * Runs a search whenever the user pauses typing in the given field.
+     * The search is prepared on the FX thread, so it can copy the club's lists where they are changed,
+     * then the query runs on a background thread and only the result of the latest query is delivered.
+     *
+     * @param searchField The field the user types the query into.
+     * @param search      Prepares the search to run for a non-empty query.
+     * @param onResult    Receives the results on the FX thread, or null when the query is cleared.
+     * @param <T>         The type of the search results.
+     */
+    protected <T> void bindSearch(TextField searchField, Supplier<Function<String, List<T>>> search,
+                                 Consumer<List<T>> onResult) {
+        PauseTransition debounce = new PauseTransition(SEARCH_DEBOUNCE);
+        debounce.setOnFinished(event -> {
+            String query = searchField.getText().trim();
+            long generation = ++searchGeneration;
+            if (query.isEmpty()) {
+                onResult.accept(null);
+                return;
+            }
+
+            Function<String, List<T>> prepared = search.get();
+            Task<List<T>> task = new Task<>() {
+                @Override
+                protected List<T> call() {
+                    return prepared.apply(query);
+                }
+            };
+            task.setOnSucceeded(done -> {
+                if (generation == searchGeneration) {
+                    onResult.accept(task.getValue());
+                }
+            });
+            task.setOnFailed(failed -> log.error("Search failed", task.getException(), "query", query));
+            SEARCH_EXECUTOR.execute(task);
+        });
+        searchField.textProperty().addListener((observable, oldValue, newValue) -> debounce.playFromStart());
+    }
 }
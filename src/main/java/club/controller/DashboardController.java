@@ -2,22 +2,16 @@ package club.controller;
 
 import club.App;
 import club.model.Announcement;
-import club.model.Event;
 import club.model.Member;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Controller for managing the dashboard view.
@@ -35,7 +29,7 @@ public class DashboardController extends BaseController {
     private Label upcomingEventsLabel;
 
     @FXML
-    private ListView<Announcement> announcementsListView;
+    private ListView<AnnouncementRow> announcementsListView;
 
     @FXML
     private TextField announcementInput;
@@ -50,24 +44,29 @@ public class DashboardController extends BaseController {
     private Button navigateToMembersButton;
 
     @FXML
-    private TableView<Event> eventsTableView;
+    private Button navigateToDiagnosticsButton;
 
     @FXML
-    private TableColumn<Event, String> eventNameColumn;
+    private TableView<EventRow> eventsTableView;
 
     @FXML
-    private TableColumn<Event, String> eventDateColumn;
+    private TableColumn<EventRow, String> eventNameColumn;
 
     @FXML
-    private TableColumn<Event, String> eventTimeColumn;
+    private TableColumn<EventRow, String> eventDateColumn;
 
     @FXML
-    private TableColumn<Event, String> eventLocationColumn;
+    private TableColumn<EventRow, String> eventTimeColumn;
 
     @FXML
-    private TableColumn<Event, String> eventDescriptionColumn;
+    private TableColumn<EventRow, String> eventLocationColumn;
 
-    private ObservableList<Announcement> announcements;
+    @FXML
+    private TableColumn<EventRow, String> eventDescriptionColumn;
+
+    private ObservableList<AnnouncementRow> announcements;
+
+    private boolean isAdmin;
 
     /**
      * Initializes the dashboard.
@@ -75,16 +74,18 @@ public class DashboardController extends BaseController {
      */
     @FXML
     private void initialize() {
-        boolean isAdmin = App.isAdmin();
+        isAdmin = App.isAdmin();
 
         // Configure admin-only sections
         configureAdminSections(isAdmin);
-
-        // Update statistics and load data
-        updateStats();
         setupEventTable();
-        displayEvents();
-        loadAnnouncements();
+
+        // Update statistics and load data once the club has loaded, which may still be in progress after login
+        App.whenClubLoaded(() -> {
+            updateStats();
+            displayEvents();
+            loadAnnouncements();
+        });
     }
 
     /**
@@ -101,13 +102,15 @@ public class DashboardController extends BaseController {
         navigateToEventsButton.setManaged(isAdmin);
         navigateToMembersButton.setVisible(isAdmin);
         navigateToMembersButton.setManaged(isAdmin);
+        navigateToDiagnosticsButton.setVisible(isAdmin);
+        navigateToDiagnosticsButton.setManaged(isAdmin);
     }
 
     /**
      * Updates the dashboard statistics, including total active members and upcoming events.
      */
     private void updateStats() {
-        if (App.isAdmin()) {
+        if (isAdmin) {
             // Count only active members
             int totalActiveMembers = (int) App.getClub().getMembers().stream()
                     .filter(Member::isActive)
@@ -126,18 +129,18 @@ public class DashboardController extends BaseController {
      * Sets up the columns for the event table.
      */
     private void setupEventTable() {
-        eventNameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        eventDateColumn.setCellValueFactory(new PropertyValueFactory<>("date"));
-        eventTimeColumn.setCellValueFactory(new PropertyValueFactory<>("time"));
-        eventLocationColumn.setCellValueFactory(new PropertyValueFactory<>("location"));
-        eventDescriptionColumn.setCellValueFactory(new PropertyValueFactory<>("description")); // Bind description column
+        eventNameColumn.setCellValueFactory(cell -> cell.getValue().name());
+        eventDateColumn.setCellValueFactory(cell -> cell.getValue().date());
+        eventTimeColumn.setCellValueFactory(cell -> cell.getValue().time());
+        eventLocationColumn.setCellValueFactory(cell -> cell.getValue().location());
+        eventDescriptionColumn.setCellValueFactory(cell -> cell.getValue().description()); // Bind description column
     }
 
     /**
      * Displays the list of events in the event table.
      */
     private void displayEvents() {
-        eventsTableView.getItems().setAll(App.getClub().getEvents());
+        eventsTableView.getItems().setAll(EventRow.of(App.getClub().getEvents()));
     }
 
     /**
@@ -147,8 +150,7 @@ public class DashboardController extends BaseController {
         // Always set placeholder first - this ensures it's displayed when list is empty
         announcementsListView.setPlaceholder(new Label("No announcements available"));
         
-        List<Announcement> clubAnnouncements = new ArrayList<>(App.getClub().getAnnouncements());
-        announcements = FXCollections.observableArrayList(clubAnnouncements);
+        announcements = FXCollections.observableArrayList(AnnouncementRow.of(App.getClub().getAnnouncements()));
         announcementsListView.setItems(announcements);
 
         announcementsListView.setCellFactory(listView -> new ListCell<>() {
@@ -158,7 +160,7 @@ public class DashboardController extends BaseController {
 
             {
                 // Enable text wrapping for the announcement text
-                if (App.isAdmin()) {
+                if (isAdmin) {
                     announcementText.wrappingWidthProperty().bind(announcementsListView.widthProperty().subtract(70)); // Adjust width as needed
                 } else {
                     announcementText.wrappingWidthProperty().bind(announcementsListView.widthProperty().subtract(18));
@@ -168,15 +170,16 @@ public class DashboardController extends BaseController {
                 container.getChildren().add(announcementText);
 
                 // Check if the user is an admin before adding the delete button
-                if (App.isAdmin()) {
+                if (isAdmin) {
                 deleteButton.setOnAction(event -> {
-                    Announcement announcement = getItem();
-                    if (announcement != null) {
+                    AnnouncementRow row = getItem();
+                    if (row != null) {
+                        Announcement announcement = row.announcement();
                         // Remove from the model
                         boolean removed = App.getClub().removeAnnouncement(announcement);
                         if (removed) {
                             // Save changes to database
-                            App.getDataManager().saveClubData(App.getClub());
+                            App.saveClubData();
                             
                             // Important: First check if this was the last announcement
                             boolean wasLastAnnouncement = App.getClub().getAnnouncements().isEmpty();
@@ -202,14 +205,12 @@ public class DashboardController extends BaseController {
             }
 
             @Override
-            protected void updateItem(Announcement item, boolean empty) {
+            protected void updateItem(AnnouncementRow item, boolean empty) {
                 super.updateItem(item, empty);
                 if (empty || item == null) {
                     setGraphic(null);
                 } else {
-                    // Format the announcement text with a short date and time
-                    String formattedDateTime = item.getDateTime().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
-                    announcementText.setText(formattedDateTime + " - " + item.getMessage());
+                    announcementText.setText(item.text());
                     setGraphic(container);
                 }
             }
@@ -228,19 +229,13 @@ public class DashboardController extends BaseController {
 
         String newAnnouncement = announcementInput.getText().trim();
         if (!newAnnouncement.isEmpty()) {
-            LocalDateTime dateTime = LocalDateTime.now();
-
-            // Generate a unique ID for the new announcement
-            int newAnnouncementId = App.getDataManager().generateNextAnnouncementId();
-
-            // Create a new announcement with the generated ID
-            Announcement announcement = new Announcement(newAnnouncementId, newAnnouncement, dateTime);
-
-            // Add the announcement to the club and save it
-            App.getClub().addAnnouncement(announcement);
-            
-            // Save to database first
-            App.getDataManager().saveClubData(App.getClub());
+            // Post through the club service, which assigns the ID and logs the announcement before adding it
+            try {
+                App.getClubService().postAnnouncement(newAnnouncement);
+            } catch (IllegalStateException e) {
+                showAlert("Error", "Failed to add announcement: " + e.getMessage());
+                return;
+            }
             
             // Completely reload the announcements list to ensure consistency
             loadAnnouncements();
@@ -270,6 +265,14 @@ public class DashboardController extends BaseController {
         navigateTo("/club/EventList.fxml");
     }
 
+    /**
+     * Navigates to the diagnostics screen.
+     */
+    @FXML
+    private void navigateToDiagnostics() {
+        navigateTo("/club/Diagnostics.fxml");
+    }
+
     /**
      * Navigates to the profile screen.
      */
@@ -283,7 +286,7 @@ public class DashboardController extends BaseController {
      */
     @FXML
     private void signOut() {
-        App.setLoggedInUserEmail(null);
+        App.endSession();
         navigateTo("/club/Login.fxml");
     }
 
@@ -296,7 +299,7 @@ public class DashboardController extends BaseController {
         try {
             App.switchScene(fxmlPath);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", fxmlPath);
             showAlert("Error", "Failed to navigate to the requested screen.");
         }
     }
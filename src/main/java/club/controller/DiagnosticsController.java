@@ -0,0 +1,46 @@
+package club.controller;
+
+import club.App;
+import club.metrics.MetricsRegistry;
+import javafx.fxml.FXML;
+import javafx.scene.control.TextArea;
+
+/**
+ * Controller for the diagnostics view.
+ * Shows the counters, gauges and timings collected by the metrics registry to admins.
+ */
+public class DiagnosticsController extends BaseController {
+
+    @FXML
+    private TextArea metricsArea;
+
+    /**
+     * Initializes the controller.
+     * Shows the current metrics.
+     */
+    @FXML
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * Shows the current metrics.
+     */
+    @FXML
+    private void refresh() {
+        metricsArea.setText(String.join("\n", MetricsRegistry.global().report()));
+    }
+
+    /**
+     * Navigates back to the dashboard.
+     */
+    @FXML
+    private void goToDashboard() {
+        try {
+            App.switchScene("/club/Dashboard.fxml");
+        } catch (Exception e) {
+            log.error("Failed to navigate", e, "screen", "/club/Dashboard.fxml");
+            showAlert("Error", "Failed to navigate to the requested screen.");
+        }
+    }
+}
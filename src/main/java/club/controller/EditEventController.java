@@ -85,10 +85,9 @@ public class EditEventController extends BaseController{
         }
 
         // Update the selected event's details
-        updateEventDetails(name, date, time, location, description);
-
-        // Save the updated club data
-        App.getDataManager().saveClubData(App.getClub());
+        if (!updateEventDetails(name, date, time, location, description)) {
+            return;
+        }
 
         showAlert("Success", "Event details updated successfully!");
         navigateToEventList();
@@ -142,20 +141,16 @@ public class EditEventController extends BaseController{
      * @param time        The updated time of the event.
      * @param location    The updated location of the event.
      * @param description The updated description of the event.
+     * @return true if the event was updated.
      */
-    private void updateEventDetails(String name, LocalDate date, LocalTime time, String location, String description) {
-        // Update the event object
-        selectedEvent.setName(name);
-        selectedEvent.setDate(date);
-        selectedEvent.setTime(time);
-        selectedEvent.setLocation(location);
-        selectedEvent.setDescription(description);
-        
-        // Use the Club's update method to properly update the event in the system
+    private boolean updateEventDetails(String name, LocalDate date, LocalTime time, String location, String description) {
+        // Update through the club service, which logs the change and notifies the event's observers
         try {
-            App.getClub().updateEvent(selectedEvent);
-        } catch (IllegalArgumentException e) {
+            App.getClubService().updateEvent(selectedEvent.getId(), name, date, time, location, description);
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
             showAlert("Error", "Failed to update event: " + e.getMessage());
+            return false;
         }
     }
 
@@ -166,7 +161,7 @@ public class EditEventController extends BaseController{
         try {
             App.switchScene("/club/EventList.fxml");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", "/club/EventList.fxml");
             showAlert("Error", "Failed to navigate to the event list.");
         }
     }
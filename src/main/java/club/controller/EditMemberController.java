@@ -73,10 +73,9 @@ public class EditMemberController extends BaseController{
         }
 
         // Update the selected member's details
-        updateMemberDetails(name, email, phone, isActive);
-
-        // Save the updated club data
-        App.getDataManager().saveClubData(App.getClub());
+        if (!updateMemberDetails(name, email, phone, isActive)) {
+            return;
+        }
 
         showAlert("Success", "Member details updated successfully!");
         navigateToMemberList();
@@ -113,12 +112,16 @@ public class EditMemberController extends BaseController{
      * @param email    The updated email of the member.
      * @param phone    The updated phone number of the member.
      * @param isActive The updated active status of the member.
+     * @return true if the member was updated.
      */
-    private void updateMemberDetails(String name, String email, String phone, boolean isActive) {
-        selectedMember.setName(name);
-        selectedMember.setEmail(email);
-        selectedMember.setPhone(phone);
-        selectedMember.setActive(isActive);
+    private boolean updateMemberDetails(String name, String email, String phone, boolean isActive) {
+        try {
+            App.getClubService().updateMember(selectedMember.getMembershipId(), name, email, phone, isActive);
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            showAlert("Error", "Failed to update member: " + e.getMessage());
+            return false;
+        }
     }
 
     /**
@@ -128,7 +131,7 @@ public class EditMemberController extends BaseController{
         try {
             App.switchScene("/club/MemberList.fxml");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", "/club/MemberList.fxml");
             showAlert("Error", "Failed to navigate to the member list.");
         }
     }
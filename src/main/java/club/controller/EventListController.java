@@ -8,7 +8,9 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.control.TextField;
+
+import java.util.List;
 
 /**
  * Controller for managing the event list view.
@@ -16,25 +18,30 @@ import javafx.scene.control.cell.PropertyValueFactory;
  */
 public class EventListController extends BaseController{
 
+    private static final int SEARCH_LIMIT = 100;
+
     @FXML
-    private TableView<Event> eventTable;
+    private TextField searchField;
 
     @FXML
-    private TableColumn<Event, String> nameColumn;
+    private TableView<EventRow> eventTable;
 
     @FXML
-    private TableColumn<Event, String> dateColumn;
+    private TableColumn<EventRow, String> nameColumn;
 
     @FXML
-    private TableColumn<Event, String> timeColumn;
+    private TableColumn<EventRow, String> dateColumn;
 
     @FXML
-    private TableColumn<Event, String> locationColumn;
+    private TableColumn<EventRow, String> timeColumn;
 
     @FXML
-    private TableColumn<Event, String> descriptionColumn;
+    private TableColumn<EventRow, String> locationColumn;
 
-    private ObservableList<Event> events;
+    @FXML
+    private TableColumn<EventRow, String> descriptionColumn;
+
+    private ObservableList<EventRow> events;
 
     /**
      * Initializes the controller.
@@ -44,38 +51,54 @@ public class EventListController extends BaseController{
     public void initialize() {
         setupEventTable();
         loadEvents();
+        bindSearch(searchField, () -> App.getClub().eventSearch(SEARCH_LIMIT), this::showSearchResults);
     }
 
     /**
      * Sets up the columns for the event table.
      */
     private void setupEventTable() {
-        nameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
-        dateColumn.setCellValueFactory(new PropertyValueFactory<>("date"));
-        timeColumn.setCellValueFactory(new PropertyValueFactory<>("time"));
-        locationColumn.setCellValueFactory(new PropertyValueFactory<>("location"));
-        descriptionColumn.setCellValueFactory(new PropertyValueFactory<>("description"));
+        nameColumn.setCellValueFactory(cell -> cell.getValue().name());
+        dateColumn.setCellValueFactory(cell -> cell.getValue().date());
+        timeColumn.setCellValueFactory(cell -> cell.getValue().time());
+        locationColumn.setCellValueFactory(cell -> cell.getValue().location());
+        descriptionColumn.setCellValueFactory(cell -> cell.getValue().description());
     }
 
     /**
      * Loads the events into the event table.
      */
     private void loadEvents() {
-        events = FXCollections.observableArrayList(App.getClub().getEvents());
+        events = FXCollections.observableArrayList(EventRow.of(App.getClub().getEvents()));
         eventTable.setItems(events);
     }
 
+    /**
+     * Shows the events matching the current search, or all events when the search is cleared.
+     *
+     * @param results The matching events, or null to show all events.
+     */
+    private void showSearchResults(List<Event> results) {
+        if (results == null) {
+            loadEvents();
+        } else {
+            events = FXCollections.observableArrayList(EventRow.of(results));
+            eventTable.setItems(events);
+        }
+    }
+
     /**
      * Handles editing the selected event.
      * Navigates to the edit event screen.
      */
     @FXML
     private void editSelectedEvent() {
-        Event selectedEvent = eventTable.getSelectionModel().getSelectedItem();
-        if (selectedEvent == null) {
+        EventRow selectedRow = eventTable.getSelectionModel().getSelectedItem();
+        if (selectedRow == null) {
             showAlert("Error", "Please select an event to edit.");
             return;
         }
+        Event selectedEvent = selectedRow.event();
 
         // Store the selected event in the App class
         App.setSelectedEvent(selectedEvent);
@@ -110,7 +133,7 @@ public class EventListController extends BaseController{
         try {
             App.switchScene(fxmlPath);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", fxmlPath);
             showAlert("Error", "Failed to navigate to the requested screen.");
         }
     }
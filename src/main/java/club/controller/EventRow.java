@@ -0,0 +1,82 @@
+package club.controller;
+
+import club.model.Event;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableValue;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable display model for an event table row.
+ * Holds the pre-formatted cell values so table cells read them directly instead of
+ * looking up properties reflectively and formatting dates on every update.
+ *
+ * @param event       The event shown in the row.
+ * @param revision    The revision of the event the values were formatted from.
+ * @param name        The event name.
+ * @param date        The formatted event date.
+ * @param time        The formatted event time.
+ * @param location    The event location.
+ * @param description The event description.
+ */
+record EventRow(Event event,
+                int revision,
+                ObservableValue<String> name,
+                ObservableValue<String> date,
+                ObservableValue<String> time,
+                ObservableValue<String> location,
+                ObservableValue<String> description) {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    // Formatted cells are reused until their event changes; only accessed from the FX thread.
+    // The cells must not refer to their event, or the weak keys would never be cleared.
+    private static final Map<Event, Cells> CACHE = new WeakHashMap<>();
+
+    /**
+     * The formatted cells of an event, cached without the event itself.
+     */
+    private record Cells(int revision,
+                         ObservableValue<String> name,
+                         ObservableValue<String> date,
+                         ObservableValue<String> time,
+                         ObservableValue<String> location,
+                         ObservableValue<String> description) {
+    }
+
+    /**
+     * Gets the row for an event, formatting it only if the event changed since the last call.
+     *
+     * @param event The event to display.
+     * @return The display row for the event.
+     */
+    static EventRow of(Event event) {
+        Cells cells = CACHE.get(event);
+        if (cells == null || cells.revision() != event.getRevision()) {
+            cells = new Cells(
+                    event.getRevision(),
+                    new ReadOnlyStringWrapper(event.getName()),
+                    new ReadOnlyStringWrapper(event.getDate() != null ? DATE_FORMAT.format(event.getDate()) : ""),
+                    new ReadOnlyStringWrapper(event.getTime() != null ? TIME_FORMAT.format(event.getTime()) : ""),
+                    new ReadOnlyStringWrapper(event.getLocation()),
+                    new ReadOnlyStringWrapper(event.getDescription()));
+            CACHE.put(event, cells);
+        }
+        return new EventRow(event, cells.revision(), cells.name(), cells.date(), cells.time(), cells.location(),
+                cells.description());
+    }
+
+    /**
+     * Gets the rows for a list of events.
+     *
+     * @param events The events to display.
+     * @return The display rows, in the same order.
+     */
+    static List<EventRow> of(List<Event> events) {
+        return events.stream().map(EventRow::of).toList();
+    }
+}
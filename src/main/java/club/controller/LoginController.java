@@ -1,9 +1,10 @@
 package club.controller;
 
 import club.App;
+import club.Session;
 import club.database.DatabaseManager;
-import club.model.Admin;
-import club.model.Member;
+import club.metrics.MetricsRegistry;
+import club.repository.Credentials;
 
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
@@ -43,6 +44,7 @@ public class LoginController extends BaseController {
 
     private static final String REMEMBER_ME_FILE = DatabaseManager.SAVES_FOLDER + File.separator + "remember_me.properties";
     private static final String ENCRYPTION_KEY_FILE = DatabaseManager.SAVES_FOLDER + File.separator + "encryption.key";
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
 
     /**
      * Initializes the controller.
@@ -50,7 +52,7 @@ public class LoginController extends BaseController {
      */
     @FXML
     private void initialize() {
-        String clubName = App.getClub().getClubName();
+        String clubName = App.getClubName(); // Does not wait for the rest of the club to load
         welcomeText.setText(clubName + "'s Management System");
         ensureSavesFolderExists();
         loadSavedCredentials();
@@ -65,68 +67,32 @@ public class LoginController extends BaseController {
         String email = emailField.getText();
         String password = passwordField.getText();
 
-        // Validate admin login
-        if (validateAdminLogin(email, password)) {
+        // Check the credentials only, which does not wait for the rest of the club to load.
+        // Only the check is timed, not the dialogs or the navigation that follow it
+        long startTime = System.nanoTime();
+        Credentials credentials = App.getClubService().findCredentials(email);
+        boolean accepted = credentials != null && credentials.matches(password) && credentials.active();
+        METRICS.histogram("login").recordSince(startTime);
+        if (!accepted) {
+            showLoginError(credentials);
             return;
         }
 
-        // Validate member login
-        if (validateMemberLogin(email, password)) {
-            return;
-        }
-
-        // If no valid login, show an appropriate error message
-        showLoginError(email);
-    }
-
-    /**
-     * Validates admin login credentials.
-     *
-     * @param email    The admin's email.
-     * @param password The admin's password.
-     * @return true if the credentials are valid, false otherwise.
-     */
-    private boolean validateAdminLogin(String email, String password) {
-        Admin admin = App.getClub().validateAdminLogin(email, password);
-        if (admin != null) {
-            handleRememberMe(email, password);
-            App.setLoggedInUserEmail(admin.getEmail());
-            navigateTo("/club/Dashboard.fxml");
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Validates member login credentials.
-     *
-     * @param email    The member's email.
-     * @param password The member's password.
-     * @return true if the credentials are valid, false otherwise.
-     */
-    private boolean validateMemberLogin(String email, String password) {
-        Member member = App.getClub().validateMemberLogin(email, password);
-        if (member != null) {
-            if (!member.isActive()) {
-                showAlert("Login Failed", "Your account is inactive. Please contact the administrator.");
-                return true; // Stop further processing
-            }
-            handleRememberMe(email, password);
-            App.setLoggedInUserEmail(member.getEmail());
-            navigateTo("/club/Dashboard.fxml");
-            return true;
-        }
-        return false;
+        // The session is bound to the user once the club has loaded; the dashboard fills in then
+        handleRememberMe(email, password);
+        App.startSession(Session.forCredentials(credentials, email));
+        METRICS.counter("login.succeeded").increment();
+        navigateTo("/club/Dashboard.fxml");
     }
 
     /**
      * Displays an error message if login fails.
      *
-     * @param email The email entered by the user.
+     * @param credentials The credentials stored for the email entered, or null if there are none.
      */
-    private void showLoginError(String email) {
-        boolean isInactive = App.getClub().getMembers().stream()
-                .anyMatch(m -> m.getEmail().equals(email) && !m.isActive());
+    private void showLoginError(Credentials credentials) {
+        METRICS.counter("login.failed").increment();
+        boolean isInactive = credentials != null && !credentials.active();
         if (isInactive) {
             showAlert("Login Failed", "Your account is inactive. Please contact the administrator.");
         } else {
@@ -140,7 +106,7 @@ public class LoginController extends BaseController {
     private void ensureSavesFolderExists() {
         File savesFolder = new File(DatabaseManager.SAVES_FOLDER);
         if (!savesFolder.exists() && !savesFolder.mkdirs()) {
-            System.err.println("Failed to create saves folder: " + DatabaseManager.SAVES_FOLDER);
+            log.error("Failed to create saves folder", "path", DatabaseManager.SAVES_FOLDER);
         }
     }
 
@@ -160,7 +126,7 @@ public class LoginController extends BaseController {
                 rememberMeCheckBox.setSelected(true);
             }
         } catch (IOException e) {
-            System.out.println("No saved credentials found.");
+            log.debug("No saved credentials found");
         }
     }
 
@@ -179,12 +145,12 @@ public class LoginController extends BaseController {
                 props.setProperty("password", encrypt(password));
                 props.store(output, null);
             } catch (IOException e) {
-                System.err.println("Failed to save credentials: " + e.getMessage());
+                log.error("Failed to save credentials", e);
             }
         } else {
             File file = new File(REMEMBER_ME_FILE);
             if (file.exists() && !file.delete()) {
-                System.err.println("Failed to delete saved credentials.");
+                log.warn("Failed to delete saved credentials", "file", REMEMBER_ME_FILE);
             }
         }
     }
@@ -279,7 +245,7 @@ public class LoginController extends BaseController {
         try {
             App.switchScene(fxmlPath);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", fxmlPath);
             showAlert("Error", "Failed to navigate to the requested screen.");
         }
     }
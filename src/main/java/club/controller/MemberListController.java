@@ -8,14 +8,22 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
 import javafx.scene.control.cell.PropertyValueFactory;
 
+import java.util.List;
+
 /**
  * Controller for managing the member list view.
  * Handles displaying, editing, and navigating between screens.
  */
 public class MemberListController extends BaseController{
 
+    private static final int SEARCH_LIMIT = 100;
+
+    @FXML
+    private TextField searchField;
+
     @FXML
     private TableView<Member> memberTable;
 
@@ -44,6 +52,7 @@ public class MemberListController extends BaseController{
     public void initialize() {
         setupMemberTable();
         loadMembers();
+        bindSearch(searchField, () -> App.getClub().memberSearch(SEARCH_LIMIT), this::showSearchResults);
     }
 
     /**
@@ -65,6 +74,20 @@ public class MemberListController extends BaseController{
         memberTable.setItems(members);
     }
 
+    /**
+     * Shows the members matching the current search, or all members when the search is cleared.
+     *
+     * @param results The matching members, or null to show all members.
+     */
+    private void showSearchResults(List<Member> results) {
+        if (results == null) {
+            loadMembers();
+        } else {
+            members = FXCollections.observableArrayList(results);
+            memberTable.setItems(members);
+        }
+    }
+
     /**
      * Handles editing the selected member.
      * Navigates to the edit member screen.
@@ -101,7 +124,7 @@ public class MemberListController extends BaseController{
         try {
             App.switchScene(fxmlPath);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", fxmlPath);
             showAlert("Error", "Failed to navigate to the requested screen.");
         }
     }
@@ -1,6 +1,7 @@
 package club.controller;
 
 import club.App;
+import club.Session;
 import club.model.Admin;
 import club.model.Member;
 import javafx.fxml.FXML;
@@ -34,43 +35,31 @@ public class ProfileController extends BaseController{
 
     /**
      * Initializes the controller.
-     * Loads the logged-in user's details and populates the fields.
+     * Loads the logged-in user's details and populates the fields once the club has loaded,
+     * since the session only points at the user entity from then on.
      */
     @FXML
     private void initialize() {
-        String loggedInEmail = App.getLoggedInUserEmail();
-        if (loggedInEmail == null) {
+        if (App.getSession() == null) {
             showAlert("Error", "No user is logged in.");
             return;
         }
 
-        loadUserDetails(loggedInEmail);
+        App.whenClubLoaded(() -> loadUserDetails(App.getSession()));
     }
 
     /**
      * Loads the logged-in user's details and populates the fields.
      *
-     * @param loggedInEmail The email of the logged-in user.
+     * @param session The session of the logged-in user.
      */
-    private void loadUserDetails(String loggedInEmail) {
-        Admin admin = App.getClub().getAdmins().stream()
-                .filter(a -> a.getEmail().equals(loggedInEmail))
-                .findFirst()
-                .orElse(null);
-
-        if (admin != null) {
+    private void loadUserDetails(Session session) {
+        if (session.getUser() instanceof Admin admin) {
             setupAdminProfile(admin);
+        } else if (session.getUser() instanceof Member member) {
+            setupMemberProfile(member);
         } else {
-            Member member = App.getClub().getMembers().stream()
-                    .filter(m -> m.getEmail().equals(loggedInEmail))
-                    .findFirst()
-                    .orElse(null);
-
-            if (member != null) {
-                setupMemberProfile(member);
-            } else {
-                showAlert("Error", "User not found.");
-            }
+            showAlert("Error", "User not found.");
         }
     }
 
@@ -132,6 +121,11 @@ public class ProfileController extends BaseController{
         String newPhone = phoneField.getText().trim();
         String newPassword = passwordField.getText().trim();
 
+        if (loggedInUser == null) {
+            showAlert("Error", "Your profile is still loading. Please try again in a moment.");
+            return;
+        }
+
         if (!validateInputs(newName, newEmail, newPassword)) {
             return;
         }
@@ -142,7 +136,7 @@ public class ProfileController extends BaseController{
             updateMemberProfile((Member) loggedInUser, newName, newEmail, newPhone, newPassword);
         }
 
-        App.getDataManager().saveClubData(App.getClub());
+        App.saveClubData();
         showAlert("Success", "Profile updated successfully!");
     }
 
@@ -190,6 +184,7 @@ public class ProfileController extends BaseController{
         member.setEmail(email);
         member.setPhone(phone);
         member.setPassword(password);
+        App.getClub().reindexMember(member);
     }
 
     /**
@@ -200,7 +195,7 @@ public class ProfileController extends BaseController{
         try {
             App.switchScene("/club/Dashboard.fxml");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", "/club/Dashboard.fxml");
             showAlert("Error", "Failed to navigate to the dashboard.");
         }
     }
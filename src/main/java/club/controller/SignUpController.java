@@ -45,16 +45,16 @@ public class SignUpController extends BaseController{
             return;
         }
 
-        // Create and add the new member
-        Member newMember = new Member(name, email, phone, true, password);
-
-        // Let the membership manager generate and assign the ID
-        String membershipId = App.getClub().registerNewMember(newMember);
-
-        // Save the updated club data
-        App.getDataManager().saveClubData(App.getClub());
+        // Register through the club service, which assigns the ID and logs the member before adding it
+        Member newMember;
+        try {
+            newMember = App.getClubService().registerMember(name, email, phone, password);
+        } catch (IllegalStateException e) {
+            showAlert("Error", e.getMessage());
+            return;
+        }
 
-        showAlert("Success", "Sign-up successful! Your Membership ID is: " + membershipId);
+        showAlert("Success", "Sign-up successful! Your Membership ID is: " + newMember.getMembershipId());
 
         // Navigate to the login screen
         navigateToLogin();
@@ -103,7 +103,7 @@ public class SignUpController extends BaseController{
         try {
             App.switchScene("/club/Login.fxml");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to navigate", e, "screen", "/club/Login.fxml");
             showAlert("Error", "Failed to navigate to the login screen.");
         }
     }
@@ -0,0 +1,245 @@
+package club.database;
+
+import club.logging.Logger;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.core.DB;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes consistent backups of a live club database with SQLite's online backup API, and restores them.
+ * Pages are copied a few at a time with a short pause between steps, and the source is only read-locked
+ * during a step, so the application keeps reading and saving while a backup runs.
+ * Only the newest backups are kept; older ones are deleted after each new backup.
+ *
+ * <p>Backups are named {@code <database>-<timestamp>.db}, so they sort by age, and are written to a
+ * temporary file first, so a backup interrupted by a crash never looks complete.
+ */
+public class BackupService implements AutoCloseable {
+
+    public static final String DEFAULT_BACKUP_FOLDER = DatabaseManager.SAVES_FOLDER + "/backups";
+    public static final int DEFAULT_RETAINED_BACKUPS = 7;
+
+    private static final int PAGES_PER_STEP = 64;
+    private static final long STEP_PAUSE_MILLIS = 2;
+    private static final int BUSY_RETRY_MILLIS = 100;
+    private static final int BUSY_RETRIES = 100;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final Logger LOG = Logger.get(BackupService.class);
+
+    private final DatabaseManager dbManager;
+    private final Path backupFolder;
+    private final int retainedBackups;
+    private final String namePrefix;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a backup service for the given database.
+     *
+     * @param dbManager       The database to back up and restore.
+     * @param backupFolder    The folder the backups are kept in.
+     * @param retainedBackups The number of most recent backups to keep.
+     */
+    public BackupService(DatabaseManager dbManager, String backupFolder, int retainedBackups) {
+        if (dbManager == null) {
+            throw new IllegalArgumentException("Database manager cannot be null");
+        }
+        if (retainedBackups <= 0) {
+            throw new IllegalArgumentException("At least one backup must be retained");
+        }
+        this.dbManager = dbManager;
+        this.backupFolder = Path.of(backupFolder);
+        this.retainedBackups = retainedBackups;
+        String fileName = Path.of(dbManager.getDatabaseFile()).getFileName().toString();
+        this.namePrefix = (fileName.endsWith(".db") ? fileName.substring(0, fileName.length() - 3) : fileName) + "-";
+    }
+
+    /**
+     * Constructs a backup service keeping the default number of backups of the given database in the default folder.
+     *
+     * @param dbManager The database to back up and restore.
+     */
+    public BackupService(DatabaseManager dbManager) {
+        this(dbManager, DEFAULT_BACKUP_FOLDER, DEFAULT_RETAINED_BACKUPS);
+    }
+
+    /**
+     * Starts taking backups in the background.
+     *
+     * @param intervalMinutes The number of minutes between backups.
+     */
+    public synchronized void start(long intervalMinutes) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Backups are already running");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "club-backup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                backupNow();
+            } catch (IllegalStateException e) {
+                LOG.error(e.getMessage(), e.getCause());
+            }
+        }, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Takes a backup now, then deletes the backups beyond the retention count.
+     *
+     * @return The path of the new backup.
+     * @throws IllegalStateException If the backup cannot be taken.
+     */
+    public synchronized Path backupNow() {
+        Path target = backupFolder.resolve(namePrefix + LocalDateTime.now().format(TIMESTAMP) + ".db");
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            Files.createDirectories(backupFolder);
+            try (Connection conn = dbManager.getConnection()) {
+                DB db = conn.unwrap(SQLiteConnection.class).getDatabase();
+                int result = db.backup("main", partial.toString(), (remaining, pageCount) -> pause(),
+                        BUSY_RETRY_MILLIS, BUSY_RETRIES, PAGES_PER_STEP);
+                if (result != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("SQLite backup failed with code " + result, null, result);
+                }
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | SQLException e) {
+            deleteQuietly(partial);
+            throw new IllegalStateException("Failed to back up " + dbManager.getDatabaseFile(), e);
+        }
+        deleteExpiredBackups();
+        return target;
+    }
+
+    /**
+     * Lists the backups of this database.
+     *
+     * @return The backups, newest first.
+     */
+    public List<Path> listBackups() {
+        List<Path> backups = new ArrayList<>();
+        if (!Files.isDirectory(backupFolder)) {
+            return backups;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(backupFolder, namePrefix + "*.db")) {
+            for (Path file : files) {
+                backups.add(file);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to list backups", e, "folder", backupFolder);
+        }
+        backups.sort(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed());
+        return backups;
+    }
+
+    /**
+     * Replaces the contents of the database with a backup, after checking the backup is intact.
+     * Club data already loaded in memory is stale afterwards, so this is meant to run while the
+     * application is stopped, or be followed by a reload.
+     *
+     * @param backup The backup file.
+     * @throws IllegalArgumentException If the backup does not exist.
+     * @throws IllegalStateException    If the backup is damaged or cannot be restored.
+     */
+    public synchronized void restore(Path backup) {
+        if (backup == null || !Files.isRegularFile(backup)) {
+            throw new IllegalArgumentException("Backup not found: " + backup);
+        }
+        try {
+            checkIntegrity(backup);
+            try (Connection conn = dbManager.getConnection()) {
+                DB db = conn.unwrap(SQLiteConnection.class).getDatabase();
+                int result = db.restore("main", backup.toString(), (remaining, pageCount) -> { },
+                        BUSY_RETRY_MILLIS, BUSY_RETRIES, PAGES_PER_STEP);
+                if (result != SQLiteErrorCode.SQLITE_OK.code) {
+                    throw new SQLException("SQLite restore failed with code " + result, null, result);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to restore " + backup, e);
+        }
+    }
+
+    /**
+     * Stops the background backups. A backup already running is finished first.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+        }
+        if (running != null) {
+            running.shutdown();
+        }
+    }
+
+    /**
+     * Checks that a backup is a readable, undamaged SQLite database.
+     *
+     * @param backup The backup file.
+     * @throws SQLException If the backup cannot be read or fails the check.
+     */
+    private static void checkIntegrity(Path backup) throws SQLException {
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + backup);
+             PreparedStatement stmt = conn.prepareStatement("PRAGMA quick_check");
+             ResultSet rs = stmt.executeQuery()) {
+            String result = rs.next() ? rs.getString(1) : "no result";
+            if (!"ok".equals(result)) {
+                throw new SQLException("Backup is damaged: " + result);
+            }
+        }
+    }
+
+    /**
+     * Deletes the oldest backups beyond the retention count.
+     */
+    private void deleteExpiredBackups() {
+        List<Path> backups = listBackups();
+        for (int i = retainedBackups; i < backups.size(); i++) {
+            deleteQuietly(backups.get(i));
+        }
+    }
+
+    /**
+     * Gives other connections a chance to use the database between backup steps.
+     */
+    private static void pause() {
+        try {
+            Thread.sleep(STEP_PAUSE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete backup", e, "file", file);
+        }
+    }
+}
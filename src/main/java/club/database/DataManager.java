@@ -1,32 +1,89 @@
 package club.database;
 
-import club.App;
+import club.logging.Logger;
+import club.metrics.MetricsRegistry;
 import club.model.*;
+import club.repository.Credentials;
+import club.repository.EntityRepository;
+import club.repository.EventSummary;
+import club.repository.JournalEntry;
+import club.repository.MemberSummary;
+import club.repository.Registration;
+import club.repository.SearchHit;
+import club.repository.Repositories;
+import club.repository.Versioned;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Manages data persistence and retrieval for the club application.
- * Handles saving and loading data for members, admins, events, and announcements.
+ * Handles saving and loading data for members, admins, events, and announcements
+ * through a {@link Repositories} backend, SQLite by default.
  */
 public class DataManager {
 
-    private final DatabaseManager dbManager;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Logger LOG = Logger.get(DataManager.class);
+
+    private final Repositories repositories;
+
+    // What the last load read, so a save only writes what this client changed since
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Set.of());
+
+    // How long each table took during the last load
+    private volatile Map<String, Long> loadTimings = Map.of();
 
     /**
      * Constructor for the DataManager.
      * Initializes the database manager and ensures the membership ID table is set up.
      */
     public DataManager() {
-        this.dbManager = new DatabaseManager();
+        this(new DatabaseManager());
+    }
+
+    /**
+     * Constructs a DataManager backed by the given database manager.
+     *
+     * @param dbManager The database manager to read and write through.
+     */
+    public DataManager(DatabaseManager dbManager) {
+        this(new SqliteRepositories(dbManager));
+    }
+
+    /**
+     * Constructs a DataManager backed by the given repositories.
+     *
+     * @param repositories The storage backend to read and write through.
+     */
+    public DataManager(Repositories repositories) {
+        if (repositories == null) {
+            throw new IllegalArgumentException("Repositories cannot be null");
+        }
+        this.repositories = repositories;
+    }
+
+    /**
+     * Gets the storage backend of this data manager.
+     *
+     * @return The repositories.
+     */
+    public Repositories getRepositories() {
+        return repositories;
     }
 
     /**
@@ -35,397 +92,479 @@ public class DataManager {
      * @return The next membership ID as a 5-digit string.
      */
     public String generateNextMembershipId() {
-        String query = "SELECT MAX(id) AS maxId FROM members";
-        try (Connection conn = dbManager.getConnection();
-            PreparedStatement stmt = conn.prepareStatement(query);
-            ResultSet rs = stmt.executeQuery()) {
-            if (rs.next()) {
-                int nextId = rs.getInt("maxId") + 1;
-                return String.format("%05d", nextId); // Ensure the ID is always 5 digits
-            }
+        try {
+            return repositories.members().nextMembershipId();
         } catch (SQLException e) {
-            System.err.println("Error generating next membership ID: " + e.getMessage());
+            LOG.error("Error generating next membership ID", e);
         }
         return "00001"; // Default to "00001" if no members exist
     }
 
     /**
-     * Saves all club data (members, admins, events, announcements) to the database.
+     * Saves all club data (members, admins, events, announcements, registrations) to the database.
+     * Only records changed since the club was loaded are written, each with a compare-and-set on its version,
+     * so changes saved by other clients in the meantime are never overwritten or deleted.
      *
      * @param club The club object containing the data to save.
+     * @return The club reloaded from the database, reflecting the latest saved state.
+     * @throws SaveConflictException If records were changed by another client; the other changes are saved.
      */
-    public void saveClubData(Club club) {
-        try (Connection conn = dbManager.getConnection()) {
-            saveClubName(conn, club);
-            saveMembers(conn, club);
-            saveAdmins(conn, club);
-            saveAnnouncements(conn, club);
-            saveEvents(conn, club);
-
-            // Reload the in-memory Club object to reflect the latest database state
-            Club updatedClub = loadClubData();
-            App.setClub(updatedClub); // Update the global Club instance
+    public Club saveClubData(Club club) {
+        long startTime = System.nanoTime();
+        Snapshot loaded = snapshot;
+        List<String> conflicts = new ArrayList<>();
+        try {
+            repositories.inTransaction(() -> {
+                saveClubName(club, loaded, conflicts);
+                saveRecords(repositories.members(), "members", club.getMembers(), DataManager::fieldsOf, loaded, conflicts);
+                saveRecords(repositories.admins(), "admins", club.getAdmins(), DataManager::fieldsOf, loaded, conflicts);
+                saveRecords(repositories.announcements(), "announcements", club.getAnnouncements(), DataManager::fieldsOf, loaded, conflicts);
+                saveRecords(repositories.events(), "events", club.getEvents(), DataManager::fieldsOf, loaded, conflicts);
+                saveRegistrations(club, loaded);
+            });
         } catch (SQLException e) {
-            e.printStackTrace();
+            LOG.error("Failed to save club data", e);
+            METRICS.counter("save.failed").increment();
+            return club;
         }
+        METRICS.histogram("save.write").recordSince(startTime);
+
+        // Reload the in-memory Club object to reflect the latest database state
+        Club reloaded = loadClubData();
+        METRICS.histogram("save.total").recordSince(startTime);
+        LOG.debug("Club data saved", "ms", (System.nanoTime() - startTime) / 1_000_000, "conflicts", conflicts.size());
+        if (!conflicts.isEmpty()) {
+            METRICS.counter("save.conflicts").add(conflicts.size());
+            throw new SaveConflictException(conflicts, reloaded);
+        }
+        return reloaded;
     }
 
     /**
      * Saves the club name to the database.
      *
-     * @param conn The database connection.
-     * @param club The club object containing the name.
+     * @param club      The club object containing the name.
+     * @param loaded    The state of the records when the club was loaded.
+     * @param conflicts Collects the records changed by another client.
      * @throws SQLException If a database error occurs.
      */
-    private void saveClubName(Connection conn, Club club) throws SQLException {
-        String insertClub = "INSERT OR REPLACE INTO club (id, name) VALUES (1, ?)";
-        try (PreparedStatement stmt = conn.prepareStatement(insertClub)) {
-            stmt.setString(1, club.getClubName());
-            stmt.executeUpdate();
+    private void saveClubName(Club club, Snapshot loaded, List<String> conflicts) throws SQLException {
+        String key = rowKey("club", 1);
+        RowState state = loaded.rows().get(key);
+        if (state != null && state.fields().equals(fields(club.getClubName()))) {
+            return;
+        }
+        if (state == null && Club.DEFAULT_NAME.equals(club.getClubName())) {
+            return; // Loading falls back to the default name, so there is nothing to store yet
+        }
+        boolean applied = state == null
+                ? repositories.clubName().insert(club.getClubName())
+                : repositories.clubName().update(club.getClubName(), state.version());
+        if (!applied) {
+            conflicts.add(key); // Changed by another client since it was loaded
         }
     }
 
     /**
-     * Saves all members to the database.
+     * Saves the records of one kind: inserts new ones, updates changed ones and deletes removed ones.
      *
-     * @param conn The database connection.
-     * @param club The club object containing the members.
+     * @param repository The repository storing the records.
+     * @param table      The table name, used in snapshot keys and conflict reports.
+     * @param records    The records in the club.
+     * @param fieldsOf   Gets the saved fields of a record.
+     * @param loaded     The state of the records when the club was loaded.
+     * @param conflicts  Collects the records changed by another client.
+     * @param <T>        The type of the records.
+     * @param <K>        The type of the records' keys.
      * @throws SQLException If a database error occurs.
      */
-    private void saveMembers(Connection conn, Club club) throws SQLException {
-        String updateQuery = "UPDATE members SET name = ?, email = ?, phone = ?, active = ?, password = ? WHERE membershipId = ?";
-        String insertQuery = "INSERT INTO members (name, email, phone, active, password, membershipId) VALUES (?, ?, ?, ?, ?, ?)";
-        String deleteQuery = "DELETE FROM members WHERE membershipId NOT IN (?)";
-
-        try (PreparedStatement updateStmt = conn.prepareStatement(updateQuery);
-             PreparedStatement insertStmt = conn.prepareStatement(insertQuery)) {
-            for (Member member : club.getMembers()) {
-                // Try to update the record
-                updateStmt.setString(1, member.getName());
-                updateStmt.setString(2, member.getEmail());
-                updateStmt.setString(3, member.getPhone());
-                updateStmt.setBoolean(4, member.isActive());
-                updateStmt.setString(5, member.getPassword());
-                updateStmt.setString(6, member.getMembershipId());
-                int rowsAffected = updateStmt.executeUpdate();
-
-                // If no rows were updated, insert the record
-                if (rowsAffected == 0) {
-                    insertStmt.setString(1, member.getName());
-                    insertStmt.setString(2, member.getEmail());
-                    insertStmt.setString(3, member.getPhone());
-                    insertStmt.setBoolean(4, member.isActive());
-                    insertStmt.setString(5, member.getPassword());
-                    insertStmt.setString(6, member.getMembershipId());
-                    insertStmt.executeUpdate();
+    private <T, K> void saveRecords(EntityRepository<T, K> repository, String table, List<T> records,
+                                    Function<T, List<Object>> fieldsOf, Snapshot loaded, List<String> conflicts) throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            Set<String> current = new HashSet<>();
+            for (T entity : records) {
+                String key = rowKey(table, repository.keyOf(entity));
+                current.add(key);
+                RowState state = loaded.rows().get(key);
+                if (state != null && state.fields().equals(fieldsOf.apply(entity))) {
+                    continue; // Unchanged since loaded
+                }
+                boolean applied = state == null ? repository.insert(entity) : repository.update(entity, state.version());
+                if (!applied) {
+                    conflicts.add(key); // Inserted, updated or deleted by another client since it was loaded
                 }
             }
-        }
 
-        // Delete records not in the current list
-        deleteObsoleteRecords(conn, deleteQuery, club.getMembers().stream()
-                .map(Member::getMembershipId)
-                .toList());
+            deleteObsoleteRecords(repository, table, current, loaded, conflicts);
+        } finally {
+            METRICS.histogram("save." + table).recordSince(startTime);
+        }
     }
 
     /**
-     * Saves all admins to the database.
+     * Saves event registrations to the database.
+     * Inserts the registrations made and deletes the ones cancelled since the club was loaded,
+     * so registrations made by other clients in the meantime are kept.
      *
-     * @param conn The database connection.
-     * @param club The club object containing the admins.
+     * @param club   The club object containing the events and their registrations.
+     * @param loaded The state of the records when the club was loaded.
      * @throws SQLException If a database error occurs.
      */
-    private void saveAdmins(Connection conn, Club club) throws SQLException {
-        String updateQuery = "UPDATE admins SET name = ?, email = ?, password = ? WHERE adminId = ?";
-        String insertQuery = "INSERT INTO admins (name, email, adminId, password) VALUES (?, ?, ?, ?)";
-        String deleteQuery = "DELETE FROM admins WHERE adminId NOT IN (?)";
-
-        try (PreparedStatement updateStmt = conn.prepareStatement(updateQuery);
-             PreparedStatement insertStmt = conn.prepareStatement(insertQuery)) {
-            for (Admin admin : club.getAdmins()) {
-                // Try to update the record
-                updateStmt.setString(1, admin.getName());
-                updateStmt.setString(2, admin.getEmail());
-                updateStmt.setString(3, admin.getPassword());
-                updateStmt.setString(4, admin.getAdminId());
-                int rowsAffected = updateStmt.executeUpdate();
-
-                // If no rows were updated, insert the record
-                if (rowsAffected == 0) {
-                    insertStmt.setString(1, admin.getName());
-                    insertStmt.setString(2, admin.getEmail());
-                    insertStmt.setString(3, admin.getAdminId());
-                    insertStmt.setString(4, admin.getPassword());
-                    insertStmt.executeUpdate();
+    private void saveRegistrations(Club club, Snapshot loaded) throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            Set<Registration> current = registrationsOf(club);
+            for (Registration registration : current) {
+                if (!loaded.registrations().contains(registration)) {
+                    repositories.registrations().add(registration);
                 }
             }
+            for (Registration registration : loaded.registrations()) {
+                if (!current.contains(registration)) {
+                    repositories.registrations().remove(registration);
+                }
+            }
+        } finally {
+            METRICS.histogram("save.event_registrations").recordSince(startTime);
         }
-
-        // Delete records not in the current list
-        deleteObsoleteRecords(conn, deleteQuery, club.getAdmins().stream()
-                .map(Admin::getAdminId)
-                .toList());
     }
 
     /**
-     * Saves all announcements to the database.
+     * Gets the registrations of all events in a club.
      *
-     * @param conn The database connection.
-     * @param club The club object containing the announcements.
-     * @throws SQLException If a database error occurs.
+     * @param club The club.
+     * @return The registrations.
      */
-    private void saveAnnouncements(Connection conn, Club club) throws SQLException {
-        String updateQuery = "UPDATE announcements SET message = ?, dateTime = ? WHERE id = ?";
-        String insertQuery = "INSERT INTO announcements (id, message, dateTime) VALUES (?, ?, ?)";
-        String deleteQuery = "DELETE FROM announcements WHERE id NOT IN (?)";
-
-        try (PreparedStatement updateStmt = conn.prepareStatement(updateQuery);
-             PreparedStatement insertStmt = conn.prepareStatement(insertQuery)) {
-            for (Announcement announcement : club.getAnnouncements()) {
-                updateStmt.setString(1, announcement.getMessage());
-                updateStmt.setString(2, announcement.getDateTime().toString());
-                updateStmt.setInt(3, announcement.getId());
-                int rowsAffected = updateStmt.executeUpdate();
-
-                if (rowsAffected == 0) {
-                    insertStmt.setInt(1, announcement.getId());
-                    insertStmt.setString(2, announcement.getMessage());
-                    insertStmt.setString(3, announcement.getDateTime().toString());
-                    insertStmt.executeUpdate();
-                }
+    private static Set<Registration> registrationsOf(Club club) {
+        Set<Registration> registrations = new HashSet<>();
+        EventManager eventManager = club.getEventManager();
+        for (Event event : club.getEvents()) {
+            for (Member member : eventManager.getRegisteredMembers(event)) {
+                registrations.add(new Registration(event.getId(), member.getMembershipId()));
             }
         }
+        return registrations;
+    }
 
-        deleteObsoleteRecords(conn, deleteQuery, club.getAnnouncements().stream()
-                .map(Announcement::getId)
-                .toList());
+    /**
+     * The state of a record when it was loaded.
+     *
+     * @param id      The record's key.
+     * @param version The record's version.
+     * @param fields  The record's saved fields as loaded, to tell whether it was changed in memory.
+     */
+    private record RowState(Object id, long version, List<Object> fields) {
     }
 
     /**
-     * Saves all events to the database.
+     * The state of the database as of the last load.
      *
-     * @param conn The database connection.
-     * @param club The club object containing the events.
-     * @throws SQLException If a database error occurs.
+     * @param rows          The loaded records by {@code table/id}.
+     * @param registrations The loaded registrations.
      */
-    private void saveEvents(Connection conn, Club club) throws SQLException {
-        String updateQuery = "UPDATE events SET name = ?, date = ?, time = ?, location = ?, description = ? WHERE id = ?";
-        String insertQuery = "INSERT INTO events (id, name, date, time, location, description) VALUES (?, ?, ?, ?, ?, ?)";
-        String deleteQuery = "DELETE FROM events WHERE id NOT IN (?)";
-
-        try (PreparedStatement updateStmt = conn.prepareStatement(updateQuery);
-             PreparedStatement insertStmt = conn.prepareStatement(insertQuery)) {
-            for (Event event : club.getEvents()) {
-                updateStmt.setString(1, event.getName());
-                updateStmt.setString(2, event.getDate().toString());
-                updateStmt.setString(3, event.getTime().toString());
-                updateStmt.setString(4, event.getLocation());
-                updateStmt.setString(5, event.getDescription());
-                updateStmt.setInt(6, event.getId());
-                int rowsAffected = updateStmt.executeUpdate();
-
-                if (rowsAffected == 0) {
-                    insertStmt.setInt(1, event.getId());
-                    insertStmt.setString(2, event.getName());
-                    insertStmt.setString(3, event.getDate().toString());
-                    insertStmt.setString(4, event.getTime().toString());
-                    insertStmt.setString(5, event.getLocation());
-                    insertStmt.setString(6, event.getDescription());
-                    insertStmt.executeUpdate();
-                }
-            }
-        }
+    private record Snapshot(Map<String, RowState> rows, Set<Registration> registrations) {
+    }
 
-        deleteObsoleteRecords(conn, deleteQuery, club.getEvents().stream()
-                .map(Event::getId)
-                .toList());
+    /**
+     * Reads one table during a load.
+     *
+     * @param <T> The type of the rows.
+     */
+    @FunctionalInterface
+    private interface TableRead<T> {
+        T read() throws SQLException;
     }
 
     /**
-     * Deletes records from the database that are not in the provided list of IDs.
+     * Deletes the records that were loaded but are no longer in the club.
+     * Records inserted by other clients since the load are left alone, and records
+     * they changed since the load are reported as conflicts instead of deleted.
      *
-     * @param conn The database connection.
-     * @param deleteQuery The delete query to execute.
-     * @param ids The list of IDs to retain.
+     * @param repository The repository storing the records.
+     * @param table      The table name.
+     * @param current    The records in the club, as {@code table/id}.
+     * @param loaded     The state of the records when the club was loaded.
+     * @param conflicts  Collects the records changed by another client.
+     * @param <T>        The type of the records.
+     * @param <K>        The type of the records' keys.
      * @throws SQLException If a database error occurs.
      */
-    private void deleteObsoleteRecords(Connection conn, String deleteQuery, List<?> ids) throws SQLException {
-        if (ids.isEmpty()) {
-            // Special handling for empty lists - delete all records of this type
-            String tableName = extractTableName(deleteQuery);
-            if (tableName != null) {
-                String deleteAllQuery = "DELETE FROM " + tableName;
-                try (PreparedStatement deleteAllStmt = conn.prepareStatement(deleteAllQuery)) {
-                    deleteAllStmt.executeUpdate();
-                }
+    @SuppressWarnings("unchecked")
+    private <T, K> void deleteObsoleteRecords(EntityRepository<T, K> repository, String table, Set<String> current,
+                                              Snapshot loaded, List<String> conflicts) throws SQLException {
+        String prefix = table + "/";
+        for (Map.Entry<String, RowState> entry : loaded.rows().entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || current.contains(entry.getKey())) {
+                continue;
             }
-            return;
-        }
-    
-        String placeholders = String.join(",", ids.stream().map(id -> "?").toList());
-        deleteQuery = deleteQuery.replace("(?)", "(" + placeholders + ")");
-    
-        try (PreparedStatement deleteStmt = conn.prepareStatement(deleteQuery)) {
-            for (int i = 0; i < ids.size(); i++) {
-                deleteStmt.setObject(i + 1, ids.get(i));
+            RowState state = entry.getValue();
+            K id = (K) state.id(); // Stored from this repository's keys when loaded
+            if (!repository.delete(id, state.version()) && repository.exists(id)) {
+                conflicts.add(entry.getKey()); // Changed by another client, so not deleted
             }
-            deleteStmt.executeUpdate();
         }
     }
 
     /**
-     * Extracts the table name from a delete query.
-     * 
-     * @param deleteQuery The delete query to parse.
-     * @return The table name or null if not found.
+     * Builds the key of a record in the load snapshot.
+     *
+     * @param table The table name.
+     * @param id    The record's key.
+     * @return The key, as {@code table/id}.
      */
-    private String extractTableName(String deleteQuery) {
-        // Simple parser to extract table name from "DELETE FROM table WHERE..."
-        if (deleteQuery == null || !deleteQuery.toUpperCase().contains("FROM")) {
-            return null;
-        }
-        
-        String[] parts = deleteQuery.split("\\s+");
-        for (int i = 0; i < parts.length - 1; i++) {
-            if ("FROM".equalsIgnoreCase(parts[i])) {
-                return parts[i+1];
-            }
-        }
-        return null;
+    private static String rowKey(String table, Object id) {
+        return table + "/" + id;
+    }
+
+    /**
+     * Gets the saved fields of a member.
+     *
+     * @param member The member.
+     * @return The fields.
+     */
+    private static List<Object> fieldsOf(Member member) {
+        return fields(member.getName(), member.getEmail(), member.getPhone(), member.isActive(), member.getPassword());
+    }
+
+    /**
+     * Gets the saved fields of an admin.
+     *
+     * @param admin The admin.
+     * @return The fields.
+     */
+    private static List<Object> fieldsOf(Admin admin) {
+        return fields(admin.getName(), admin.getEmail(), admin.getPassword());
+    }
+
+    /**
+     * Gets the saved fields of an announcement.
+     *
+     * @param announcement The announcement.
+     * @return The fields.
+     */
+    private static List<Object> fieldsOf(Announcement announcement) {
+        return fields(announcement.getMessage(), announcement.getDateTime());
+    }
+
+    /**
+     * Gets the saved fields of an event.
+     *
+     * @param event The event.
+     * @return The fields.
+     */
+    private static List<Object> fieldsOf(Event event) {
+        return fields(event.getName(), event.getDate(), event.getTime(), event.getLocation(), event.getDescription());
+    }
+
+    private static List<Object> fields(Object... values) {
+        return Arrays.asList(values); // Unlike List.of, allows null fields
     }
     
     /**
      * Loads all club data (members, admins, events, announcements) from the database.
+     * Each table is read concurrently on its own virtual thread and read connection, so loading takes
+     * about as long as the slowest table rather than all of them together. The club is assembled once
+     * every table has been read; if any read fails, the others are cancelled.
+     * How long each table took is kept for {@link #getLoadTimings()}.
      *
      * @return The populated {@link Club} object.
      */
     public Club loadClubData() {
-        String clubName = App.getClubName(); // Retrieve the club name from App
-        Club club = new Club(clubName);
-        try (Connection conn = dbManager.getConnection()) {
-            loadClubName(conn, club);
-            loadMembers(conn, club);
-            loadAdmins(conn, club);
-            loadEvents(conn, club);
-            loadAnnouncements(conn, club);
+        Club club = new Club(Club.DEFAULT_NAME); // Replaced by the saved name, if any
+        Map<String, RowState> rows = new HashMap<>();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+        long startTime = System.nanoTime();
+        try (ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Versioned<String>> name = fetch(loaders, timings, "club", repositories.clubName()::find);
+            Future<List<Versioned<Member>>> members = fetch(loaders, timings, "members", repositories.members()::findAll);
+            Future<List<Versioned<Admin>>> admins = fetch(loaders, timings, "admins", repositories.admins()::findAll);
+            Future<List<Versioned<Event>>> events = fetch(loaders, timings, "events", repositories.events()::findAll);
+            Future<List<Versioned<Announcement>>> announcements =
+                    fetch(loaders, timings, "announcements", repositories.announcements()::findAll);
+            Future<Set<Registration>> registrations =
+                    fetch(loaders, timings, "event_registrations", repositories.registrations()::findAll);
+            try {
+                loadClubName(club, rows, join(name));
+                loadMembers(club, rows, join(members));
+                loadAdmins(club, rows, join(admins));
+                loadEvents(club, rows, join(events));
+                loadAnnouncements(club, rows, join(announcements));
+                loadRegistrations(club, join(registrations));
+                snapshot = new Snapshot(rows, registrationsOf(club));
+            } catch (SQLException e) {
+                loaders.shutdownNow();
+                throw e;
+            }
         } catch (SQLException e) {
-            e.printStackTrace();
+            LOG.error("Failed to load club data", e);
         }
+        METRICS.histogram("load.total").recordSince(startTime);
+        timings.put("total", (System.nanoTime() - startTime) / 1_000_000);
+        loadTimings = Map.copyOf(timings);
+        LOG.info("Club data loaded", "timingsMs", new TreeMap<>(loadTimings));
         return club;
     }
 
     /**
-     * Loads the club name from the database.
+     * Gets how long the last {@link #loadClubData()} took to read each table.
      *
-     * @param conn The database connection.
-     * @param club The club object to populate.
-     * @throws SQLException If a database error occurs.
+     * @return Milliseconds per table name, plus the whole load as {@code total}; empty before the first load.
      */
-    private void loadClubName(Connection conn, Club club) throws SQLException {
-        String selectClub = "SELECT name FROM club WHERE id = 1";
-        try (PreparedStatement stmt = conn.prepareStatement(selectClub);
-             ResultSet rs = stmt.executeQuery()) {
-            if (rs.next()) {
-                club.setClubName(rs.getString("name"));
+    public Map<String, Long> getLoadTimings() {
+        return loadTimings;
+    }
+
+    /**
+     * Reads a table on a loader thread, recording how long the read took.
+     *
+     * @param loaders The executor running the reads.
+     * @param timings Collects the milliseconds each table took.
+     * @param table   The table name.
+     * @param read    Reads the table.
+     * @param <T>     The type of the rows.
+     * @return The pending rows.
+     */
+    private static <T> Future<T> fetch(ExecutorService loaders, Map<String, Long> timings, String table,
+                                       TableRead<T> read) {
+        return loaders.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return read.read();
+            } finally {
+                timings.put(table, (System.nanoTime() - start) / 1_000_000);
+                METRICS.histogram("load." + table).recordSince(start);
             }
-        }
+        });
     }
 
     /**
-     * Loads all members from the database.
+     * Waits for a table read started by {@link #fetch}.
      *
-     * @param conn The database connection.
-     * @param club The club object to populate.
-     * @throws SQLException If a database error occurs.
+     * @param rows The pending rows.
+     * @param <T>  The type of the rows.
+     * @return The rows.
+     * @throws SQLException If the read failed or was interrupted.
      */
-    private void loadMembers(Connection conn, Club club) throws SQLException {
-        String selectMembers = "SELECT name, email, phone, active, password, membershipId FROM members";
-        try (PreparedStatement stmt = conn.prepareStatement(selectMembers);
-             ResultSet rs = stmt.executeQuery()) {
-            List<Member> members = new ArrayList<>();
-            while (rs.next()) {
-                Member member = new Member(
-                        rs.getString("name"),
-                        rs.getString("email"),
-                        rs.getString("phone"),
-                        rs.getBoolean("active"),
-                        rs.getString("password")
-                );
-                member.setMembershipId(rs.getString("membershipId"));
-                members.add(member);
+    private static <T> T join(Future<T> rows) throws SQLException {
+        try {
+            return rows.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
             }
-            club.setMembers(members);
+            throw new IllegalStateException("Failed to load club data", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while loading club data", e);
         }
     }
 
     /**
-     * Loads all admins from the database.
+     * Applies the saved club name.
      *
-     * @param conn The database connection.
      * @param club The club object to populate.
-     * @throws SQLException If a database error occurs.
+     * @param rows Collects the version of each loaded record.
+     * @param name The saved name, or null if none is saved.
      */
-    private void loadAdmins(Connection conn, Club club) throws SQLException {
-        String selectAdmins = "SELECT name, email, adminId, password FROM admins";
-        try (PreparedStatement stmt = conn.prepareStatement(selectAdmins);
-             ResultSet rs = stmt.executeQuery()) {
-            List<Admin> admins = new ArrayList<>();
-            while (rs.next()) {
-                admins.add(new Admin(
-                        rs.getString("name"),
-                        rs.getString("email"),
-                        rs.getString("adminId"),
-                        rs.getString("password")
-                ));
-            }
-            club.setAdmins(admins);
+    private void loadClubName(Club club, Map<String, RowState> rows, Versioned<String> name) {
+        if (name != null) {
+            club.setClubName(name.entity());
+            rows.put(rowKey("club", 1), new RowState(1, name.version(), fields(club.getClubName())));
         }
     }
 
     /**
-     * Loads all events from the database.
+     * Adds the loaded members.
      *
-     * @param conn The database connection.
-     * @param club The club object to populate.
-     * @throws SQLException If a database error occurs.
+     * @param club   The club object to populate.
+     * @param rows   Collects the version of each loaded record.
+     * @param loaded The stored members.
      */
-    private void loadEvents(Connection conn, Club club) throws SQLException {
-        String selectEvents = "SELECT id, name, date, time, location, description FROM events";
-        try (PreparedStatement stmt = conn.prepareStatement(selectEvents);
-            ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) {
-                club.addEvent(new Event(
-                        rs.getInt("id"), // Load the event ID
-                        rs.getString("name"),
-                        LocalDate.parse(rs.getString("date")),
-                        LocalTime.parse(rs.getString("time")),
-                        rs.getString("location"),
-                        rs.getString("description")
-                ));
-            }
+    private void loadMembers(Club club, Map<String, RowState> rows, List<Versioned<Member>> loaded) {
+        List<Member> members = new ArrayList<>(loaded.size());
+        for (Versioned<Member> row : loaded) {
+            Member member = row.entity();
+            members.add(member);
+            rows.put(rowKey("members", member.getMembershipId()),
+                    new RowState(member.getMembershipId(), row.version(), fieldsOf(member)));
         }
+        club.setMembers(members);
     }
 
     /**
-     * Loads all announcements from the database.
+     * Adds the loaded admins.
      *
-     * @param conn The database connection.
-     * @param club The club object to populate.
-     * @throws SQLException If a database error occurs.
+     * @param club   The club object to populate.
+     * @param rows   Collects the version of each loaded record.
+     * @param loaded The stored admins.
+     */
+    private void loadAdmins(Club club, Map<String, RowState> rows, List<Versioned<Admin>> loaded) {
+        List<Admin> admins = new ArrayList<>(loaded.size());
+        for (Versioned<Admin> row : loaded) {
+            Admin admin = row.entity();
+            admins.add(admin);
+            rows.put(rowKey("admins", admin.getAdminId()), new RowState(admin.getAdminId(), row.version(), fieldsOf(admin)));
+        }
+        club.setAdmins(admins);
+    }
+
+    /**
+     * Adds the loaded events.
+     *
+     * @param club   The club object to populate.
+     * @param rows   Collects the version of each loaded record.
+     * @param loaded The stored events.
+     */
+    private void loadEvents(Club club, Map<String, RowState> rows, List<Versioned<Event>> loaded) {
+        for (Versioned<Event> row : loaded) {
+            Event event = row.entity();
+            club.addEvent(event);
+            rows.put(rowKey("events", event.getId()), new RowState(event.getId(), row.version(), fieldsOf(event)));
+        }
+    }
+
+    /**
+     * Adds the loaded announcements.
+     *
+     * @param club   The club object to populate.
+     * @param rows   Collects the version of each loaded record.
+     * @param loaded The stored announcements.
+     */
+    private void loadAnnouncements(Club club, Map<String, RowState> rows, List<Versioned<Announcement>> loaded) {
+        List<Announcement> announcements = new ArrayList<>(loaded.size());
+        for (Versioned<Announcement> row : loaded) {
+            Announcement announcement = row.entity();
+            announcements.add(announcement);
+            rows.put(rowKey("announcements", announcement.getId()),
+                    new RowState(announcement.getId(), row.version(), fieldsOf(announcement)));
+        }
+        club.setAnnouncements(announcements);
+    }
+
+    /**
+     * Adds the loaded event registrations.
+     * Registrations referring to members or events that no longer exist are skipped.
+     *
+     * @param club          The club object to populate, with members and events already loaded.
+     * @param registrations The stored registrations.
      */
-    private void loadAnnouncements(Connection conn, Club club) throws SQLException {
-        String selectAnnouncements = "SELECT id, message, dateTime FROM announcements";
-        try (PreparedStatement stmt = conn.prepareStatement(selectAnnouncements);
-            ResultSet rs = stmt.executeQuery()) {
-            List<Announcement> announcements = new ArrayList<>();
-            while (rs.next()) {
-                announcements.add(new Announcement(
-                        rs.getInt("id"), // Load the announcement ID
-                        rs.getString("message"),
-                        LocalDateTime.parse(rs.getString("dateTime"))
-                ));
+    private void loadRegistrations(Club club, Set<Registration> registrations) {
+        Map<String, Member> membersById = new HashMap<>();
+        for (Member member : club.getMembers()) {
+            membersById.put(member.getMembershipId(), member);
+        }
+        Map<Integer, Event> eventsById = new HashMap<>();
+        for (Event event : club.getEvents()) {
+            eventsById.put(event.getId(), event);
+        }
+
+        for (Registration registration : registrations) {
+            Event event = eventsById.get(registration.eventId());
+            Member member = membersById.get(registration.membershipId());
+            if (event != null && member != null) {
+                club.registerForEvent(event, member);
             }
-            club.setAnnouncements(announcements);
         }
     }
 
@@ -435,30 +574,148 @@ public class DataManager {
      * @return The next event ID.
      */
     public int generateNextEventId() {
-        String query = "SELECT MAX(id) AS maxId FROM events";
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-            if (rs.next()) {
-                return rs.getInt("maxId") + 1;
-            }
+        try {
+            return repositories.events().nextId();
         } catch (SQLException e) {
-            System.err.println("Error generating next event ID: " + e.getMessage());
+            LOG.error("Error generating next event ID", e);
         }
         return 1; // Default to 1 if no events exist
     }
 
-    public int generateNextAnnouncementId() {
-        String query = "SELECT MAX(id) AS maxId FROM announcements";
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-            if (rs.next()) {
-                return rs.getInt("maxId") + 1;
+    /**
+     * Searches the saved announcements and event names and descriptions, most relevant first.
+     * The search runs in the database's full-text index, so its cost does not grow with the number of records.
+     * Each word of the query must match, either exactly or as the start of a longer word.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of results.
+     * @return The matches with highlighted snippets, or an empty list if there are none or the index cannot be read.
+     */
+    public List<SearchHit> searchContent(String query, int limit) {
+        try {
+            return repositories.contentSearch().search(query, limit);
+        } catch (SQLException e) {
+            LOG.error("Error searching club content", e);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Reads only the columns member lists show, handing each member on as it is read.
+     * Unlike {@link #loadClubData()}, no passwords are read and no full records are built.
+     *
+     * @param consumer Receives each member's summary.
+     */
+    public void streamMemberSummaries(Consumer<MemberSummary> consumer) {
+        try {
+            repositories.members().streamSummaries(consumer);
+        } catch (SQLException e) {
+            LOG.error("Error loading member summaries", e);
+        }
+    }
+
+    /**
+     * Reads only the columns event lists show, handing each event on as it is read.
+     * Unlike {@link #loadClubData()}, no descriptions or registrations are read.
+     *
+     * @param consumer Receives each event's summary.
+     */
+    public void streamEventSummaries(Consumer<EventSummary> consumer) {
+        try {
+            repositories.events().streamSummaries(consumer);
+        } catch (SQLException e) {
+            LOG.error("Error loading event summaries", e);
+        }
+    }
+
+    /**
+     * Reads only the saved club name, for screens shown before the club has loaded.
+     *
+     * @return The saved club name, or {@link Club#DEFAULT_NAME} if none is saved.
+     */
+    public String loadClubName() {
+        try {
+            Versioned<String> name = repositories.clubName().find();
+            if (name != null) {
+                return name.entity();
             }
         } catch (SQLException e) {
-            System.err.println("Error generating next announcement ID: " + e.getMessage());
+            LOG.error("Error loading club name", e);
+        }
+        return Club.DEFAULT_NAME;
+    }
+
+    /**
+     * Reads the login details for an email, for the login path only.
+     * Admins take precedence over members, as they do when logging in.
+     *
+     * @param email The email entered.
+     * @return The admin's or member's credentials, or null if no account has the email.
+     */
+    public Credentials findCredentials(String email) {
+        try {
+            Credentials admin = repositories.admins().findCredentials(email);
+            return admin != null ? admin : repositories.members().findCredentials(email);
+        } catch (SQLException e) {
+            LOG.error("Error loading credentials", e);
+        }
+        return null;
+    }
+
+    /**
+     * Reads the changes journaled after the given sequence number, oldest first.
+     * A consumer stores the sequence of the last change it processed and passes it to the next call,
+     * so catching up costs time proportional to the number of changes rather than the size of the database.
+     *
+     * @param afterSequence The sequence of the last change already seen, or 0 to read from the start.
+     * @param limit         The maximum number of changes to return.
+     * @return The changes, or an empty list if there are none or the journal cannot be read.
+     */
+    public List<JournalEntry> readChangesAfter(long afterSequence, int limit) {
+        try {
+            return repositories.changeJournal().readAfter(afterSequence, limit);
+        } catch (SQLException e) {
+            LOG.error("Error reading change journal", e);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Gets the sequence number of the latest journaled change.
+     *
+     * @return The latest sequence, or 0 if nothing has been journaled.
+     */
+    public long getLatestChangeSequence() {
+        try {
+            return repositories.changeJournal().latestSequence();
+        } catch (SQLException e) {
+            LOG.error("Error reading change journal", e);
+        }
+        return 0;
+    }
+
+    /**
+     * Deletes journaled changes up to and including the given sequence, once all consumers have seen them.
+     * Sequence numbers are never reused, so later changes keep increasing from where the journal left off.
+     *
+     * @param throughSequence The sequence of the last change to delete.
+     * @return The number of changes deleted.
+     */
+    public int pruneChangesThrough(long throughSequence) {
+        try {
+            return repositories.changeJournal().pruneThrough(throughSequence);
+        } catch (SQLException e) {
+            LOG.error("Error pruning change journal", e);
+        }
+        return 0;
+    }
+
+    public int generateNextAnnouncementId() {
+        try {
+            return repositories.announcements().nextId();
+        } catch (SQLException e) {
+            LOG.error("Error generating next announcement ID", e);
         }
         return 1; // Default to 1 if no announcements exist
     }
-}
\ No newline at end of file
+}
@@ -1,55 +1,138 @@
 package club.database;
 
+import club.logging.Logger;
+import club.metrics.MetricsRegistry;
+import club.repository.SearchHit;
+import org.sqlite.SQLiteConfig;
+
 import java.io.File;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Properties;
+import java.util.StringJoiner;
 
 /**
  * Manages the database connection and initialization.
  * Ensures the database structure is created and accessible.
+ *
+ * <p>The database runs in write-ahead-log mode, so readers see the last committed state and are never
+ * blocked by a save in progress. Writes go through {@link #getConnection()}; query paths use the pooled
+ * read-only connections of {@link #getReadConnection()}.
+ *
+ * <p>Statements and transactions slower than {@value SlowOperationLog#DEFAULT_THRESHOLD_MILLIS} ms, or the
+ * number of milliseconds set in the {@code club.slowOperationMillis} system property, are logged to
+ * {@code slow-operations.log} next to the database file.
  */
-public class DatabaseManager {
+public class DatabaseManager implements AutoCloseable {
 
     public static final String SAVES_FOLDER = "saves"; // Centralized folder path
-    private static final String DB_URL = "jdbc:sqlite:" + SAVES_FOLDER + "/club.db";
+    public static final String DEFAULT_DATABASE_FILE = SAVES_FOLDER + "/club.db";
+
+    private static final int BUSY_TIMEOUT_MILLIS = 10_000;
+    private static final int MAX_IDLE_READERS = 8;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Logger LOG = Logger.get(DatabaseManager.class);
+
+    private final String databaseFile;
+    private final String dbUrl;
+    private final Properties writeProperties;
+    private final ReadConnectionPool readers;
+    private final SlowOperationLog slowOperations;
 
     /**
      * Constructor for the DatabaseManager.
      * Ensures the database directory exists and initializes the database structure.
      */
     public DatabaseManager() {
+        this(DEFAULT_DATABASE_FILE);
+    }
+
+    /**
+     * Constructs a DatabaseManager for the given database file.
+     * Ensures the file's directory exists and initializes the database structure.
+     *
+     * @param databaseFile The path of the SQLite database file.
+     */
+    public DatabaseManager(String databaseFile) {
+        if (databaseFile == null || databaseFile.isBlank()) {
+            throw new IllegalArgumentException("Database file cannot be empty");
+        }
+        this.databaseFile = databaseFile;
+        this.dbUrl = "jdbc:sqlite:" + databaseFile;
+
+        // Wait for another writer's commit instead of failing with SQLITE_BUSY at once
+        SQLiteConfig writeConfig = new SQLiteConfig();
+        writeConfig.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+        this.writeProperties = writeConfig.toProperties();
+        SQLiteConfig readConfig = new SQLiteConfig();
+        readConfig.setReadOnly(true);
+        readConfig.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+        this.readers = new ReadConnectionPool(dbUrl, readConfig.toProperties(), MAX_IDLE_READERS);
+        this.slowOperations = new SlowOperationLog(
+                Path.of(databaseFile).toAbsolutePath().resolveSibling(SlowOperationLog.LOG_FILE_NAME),
+                Long.getLong(SlowOperationLog.THRESHOLD_PROPERTY, SlowOperationLog.DEFAULT_THRESHOLD_MILLIS),
+                SlowOperationLog.DEFAULT_MAX_BYTES);
+
         ensureDatabaseDirectoryExists();
         initializeDatabase();
     }
 
+    /**
+     * Gets the path of the database file.
+     *
+     * @return The database file path.
+     */
+    public String getDatabaseFile() {
+        return databaseFile;
+    }
+
     /**
      * Ensures the database directory exists.
      * Creates the directory if it does not already exist.
      */
     private void ensureDatabaseDirectoryExists() {
-        File dbDirectory = new File(SAVES_FOLDER);
-        if (!dbDirectory.exists()) {
+        File dbDirectory = new File(databaseFile).getParentFile();
+        if (dbDirectory != null && !dbDirectory.exists()) {
             if (dbDirectory.mkdirs()) {
-                System.out.println("Database directory created: " + SAVES_FOLDER);
+                LOG.info("Database directory created", "path", dbDirectory);
             } else {
-                System.err.println("Failed to create database directory: " + SAVES_FOLDER);
+                LOG.error("Failed to create database directory", "path", dbDirectory);
             }
         }
     }
 
     /**
      * Initializes the database structure.
-     * Creates the necessary tables if they do not already exist.
+     * Switches the database to write-ahead logging and creates the necessary tables if they do not already exist.
      */
     private void initializeDatabase() {
-        try (Connection conn = DriverManager.getConnection(DB_URL)) {
+        try (Connection conn = getConnection()) {
             if (conn != null) {
+                enableWriteAheadLog(conn);
                 createTables(conn);
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            LOG.error("Failed to initialize database", e, "file", databaseFile);
+        }
+    }
+
+    /**
+     * Switches the database to write-ahead logging. The mode is stored in the file, so this only
+     * has an effect the first time an older database is opened.
+     *
+     * @param conn The database connection.
+     * @throws SQLException If the journal mode cannot be changed.
+     */
+    private void enableWriteAheadLog(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("PRAGMA journal_mode=WAL");
+             ResultSet rs = stmt.executeQuery()) {
+            if (rs.next() && !"wal".equalsIgnoreCase(rs.getString(1))) {
+                LOG.warn("Write-ahead logging unavailable", "journalMode", rs.getString(1));
+            }
         }
     }
 
@@ -62,7 +145,8 @@ public class DatabaseManager {
     private void createTables(Connection conn) throws SQLException {
         String createClubTable = "CREATE TABLE IF NOT EXISTS club ("
                 + "id INTEGER PRIMARY KEY AUTOINCREMENT, "
-                + "name TEXT NOT NULL"
+                + "name TEXT NOT NULL, "
+                + "version INTEGER NOT NULL DEFAULT 1"
                 + ");";
 
         String createMembersTable = "CREATE TABLE IF NOT EXISTS members ("
@@ -72,7 +156,8 @@ public class DatabaseManager {
                 + "phone TEXT, "
                 + "active INTEGER, "
                 + "password TEXT, "
-                + "membershipId TEXT NOT NULL UNIQUE"
+                + "membershipId TEXT NOT NULL UNIQUE, "
+                + "version INTEGER NOT NULL DEFAULT 1"
                 + ");";
 
         String createAdminsTable = "CREATE TABLE IF NOT EXISTS admins ("
@@ -80,13 +165,15 @@ public class DatabaseManager {
                 + "name TEXT NOT NULL, "
                 + "email TEXT NOT NULL UNIQUE, "
                 + "adminId TEXT, "
-                + "password TEXT"
+                + "password TEXT, "
+                + "version INTEGER NOT NULL DEFAULT 1"
                 + ");";
 
         String createAnnouncementsTable = "CREATE TABLE IF NOT EXISTS announcements ("
                 + "id INTEGER PRIMARY KEY AUTOINCREMENT, "
                 + "message TEXT NOT NULL, "
-                + "dateTime TEXT NOT NULL"
+                + "dateTime TEXT NOT NULL, "
+                + "version INTEGER NOT NULL DEFAULT 1"
                 + ");";
 
         String createEventsTable = "CREATE TABLE IF NOT EXISTS events ("
@@ -95,29 +182,224 @@ public class DatabaseManager {
                 + "date TEXT NOT NULL, "
                 + "time TEXT NOT NULL, "
                 + "location TEXT NOT NULL, "
-                + "description TEXT"
+                + "description TEXT, "
+                + "version INTEGER NOT NULL DEFAULT 1"
+                + ");";
+
+        String createRegistrationsTable = "CREATE TABLE IF NOT EXISTS event_registrations ("
+                + "eventId INTEGER NOT NULL, "
+                + "membershipId TEXT NOT NULL, "
+                + "PRIMARY KEY (eventId, membershipId)"
                 + ");";
 
         try (PreparedStatement stmt1 = conn.prepareStatement(createClubTable);
              PreparedStatement stmt2 = conn.prepareStatement(createMembersTable);
              PreparedStatement stmt3 = conn.prepareStatement(createAdminsTable);
              PreparedStatement stmt4 = conn.prepareStatement(createAnnouncementsTable);
-             PreparedStatement stmt5 = conn.prepareStatement(createEventsTable)) {
+             PreparedStatement stmt5 = conn.prepareStatement(createEventsTable);
+             PreparedStatement stmt6 = conn.prepareStatement(createRegistrationsTable)) {
             stmt1.execute();
             stmt2.execute();
             stmt3.execute();
             stmt4.execute();
             stmt5.execute();
+            stmt6.execute();
         }
+
+        // Databases created before optimistic concurrency have no version columns yet
+        for (String table : new String[]{"club", "members", "admins", "announcements", "events"}) {
+            addColumnIfMissing(conn, table, "version", "INTEGER NOT NULL DEFAULT 1");
+        }
+
+        createChangeJournal(conn);
+        createContentSearch(conn);
     }
 
     /**
-     * Retrieves a connection to the database.
+     * Creates the change journal and the triggers that fill it.
+     * Every insert, update and delete on the entity tables appends a row in the same transaction,
+     * numbered by an AUTOINCREMENT sequence that never goes backwards, even after deletes.
+     *
+     * @param conn The database connection.
+     * @throws SQLException If an error occurs while creating the journal.
+     */
+    private void createChangeJournal(Connection conn) throws SQLException {
+        String createJournalTable = "CREATE TABLE IF NOT EXISTS change_journal ("
+                + "seq INTEGER PRIMARY KEY AUTOINCREMENT, "
+                + "tableName TEXT NOT NULL, "
+                + "recordKey TEXT NOT NULL, "
+                + "operation TEXT NOT NULL, "
+                + "version INTEGER, "
+                + "changedAt TEXT NOT NULL"
+                + ");";
+        try (PreparedStatement stmt = conn.prepareStatement(createJournalTable)) {
+            stmt.execute();
+        }
+
+        // Table name followed by its key columns; registrations are the only table without versions
+        String[][] journaled = {
+                {"club", "id"},
+                {"members", "membershipId"},
+                {"admins", "adminId"},
+                {"announcements", "id"},
+                {"events", "id"},
+                {"event_registrations", "eventId", "membershipId"},
+        };
+        for (String[] table : journaled) {
+            boolean versioned = !table[0].equals("event_registrations");
+            for (String operation : new String[]{"INSERT", "UPDATE", "DELETE"}) {
+                String row = operation.equals("DELETE") ? "OLD." : "NEW.";
+                StringJoiner key = new StringJoiner(" || ':' || ");
+                for (int i = 1; i < table.length; i++) {
+                    key.add(row + table[i]);
+                }
+                String version = versioned && !operation.equals("DELETE") ? row + "version" : "NULL";
+                String createTrigger = "CREATE TRIGGER IF NOT EXISTS " + table[0] + "_journal_" + operation.toLowerCase()
+                        + " AFTER " + operation + " ON " + table[0] + " BEGIN "
+                        + "INSERT INTO change_journal (tableName, recordKey, operation, version, changedAt) VALUES ('"
+                        + table[0] + "', " + key + ", '" + operation + "', " + version + ", strftime('%Y-%m-%dT%H:%M:%f', 'now')); "
+                        + "END;";
+                try (PreparedStatement stmt = conn.prepareStatement(createTrigger)) {
+                    stmt.execute();
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the full-text index over announcement messages and event names and descriptions,
+     * and the triggers that keep it in sync with the tables in the same transaction.
+     * Each indexed row's rowid encodes the record, so the triggers update it by rowid without a scan:
+     * see {@link #searchKindOf(long)} and {@link #searchRecordIdOf(long)}.
+     * An index created for an existing database is filled from its tables.
+     *
+     * @param conn The database connection.
+     * @throws SQLException If an error occurs while creating the index.
+     */
+    private void createContentSearch(Connection conn) throws SQLException {
+        boolean exists;
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = 'content_search'");
+             ResultSet rs = stmt.executeQuery()) {
+            exists = rs.next();
+        }
+        if (!exists) {
+            String createIndex = "CREATE VIRTUAL TABLE content_search USING fts5(title, body, tokenize = 'porter unicode61')";
+            String fillIndex = "INSERT INTO content_search (rowid, title, body) "
+                    + "SELECT id * 2, NULL, message FROM announcements "
+                    + "UNION ALL SELECT id * 2 + 1, name, description FROM events";
+            try (PreparedStatement create = conn.prepareStatement(createIndex)) {
+                create.execute();
+            }
+            try (PreparedStatement fill = conn.prepareStatement(fillIndex)) {
+                fill.executeUpdate();
+            }
+        }
+
+        // Table name, rowid of the indexed row, and the indexed title and body
+        String[][] indexed = {
+                {"announcements", "id * 2", "NULL", "message"},
+                {"events", "id * 2 + 1", "name", "description"},
+        };
+        for (String[] table : indexed) {
+            String insert = "INSERT INTO content_search (rowid, title, body) VALUES (NEW." + table[1] + ", "
+                    + (table[2].equals("NULL") ? "NULL" : "NEW." + table[2]) + ", NEW." + table[3] + "); ";
+            String delete = "DELETE FROM content_search WHERE rowid = OLD." + table[1] + "; ";
+            String[][] triggers = {
+                    {"INSERT", insert},
+                    {"UPDATE", delete + insert},
+                    {"DELETE", delete},
+            };
+            for (String[] trigger : triggers) {
+                String createTrigger = "CREATE TRIGGER IF NOT EXISTS " + table[0] + "_search_" + trigger[0].toLowerCase()
+                        + " AFTER " + trigger[0] + " ON " + table[0] + " BEGIN " + trigger[1] + "END;";
+                try (PreparedStatement stmt = conn.prepareStatement(createTrigger)) {
+                    stmt.execute();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the kind of record a row of the full-text index belongs to.
+     *
+     * @param rowId The rowid in {@code content_search}.
+     * @return {@link SearchHit#ANNOUNCEMENT} or {@link SearchHit#EVENT}.
+     */
+    static String searchKindOf(long rowId) {
+        return rowId % 2 == 0 ? SearchHit.ANNOUNCEMENT : SearchHit.EVENT;
+    }
+
+    /**
+     * Gets the ID of the announcement or event a row of the full-text index belongs to.
+     *
+     * @param rowId The rowid in {@code content_search}.
+     * @return The record ID.
+     */
+    static int searchRecordIdOf(long rowId) {
+        return (int) (rowId / 2);
+    }
+
+    /**
+     * Adds a column to a table unless the table already has it.
+     *
+     * @param conn       The database connection.
+     * @param table      The table name.
+     * @param column     The column name.
+     * @param definition The column type and constraints.
+     * @throws SQLException If an error occurs while altering the table.
+     */
+    private void addColumnIfMissing(Connection conn, String table, String column, String definition) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("PRAGMA table_info(" + table + ")");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                if (rs.getString("name").equalsIgnoreCase(column)) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement stmt = conn.prepareStatement("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition)) {
+            stmt.execute();
+        }
+    }
+
+    /**
+     * Retrieves a connection to the database, for writing.
      *
      * @return A {@link Connection} object for interacting with the database.
      * @throws SQLException If a database access error occurs.
      */
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(DB_URL);
+        long startTime = System.nanoTime();
+        try {
+            return slowOperations.wrap(DriverManager.getConnection(dbUrl, writeProperties));
+        } finally {
+            METRICS.histogram("db.getConnection").recordSince(startTime);
+        }
+    }
+
+    /**
+     * Retrieves a read-only connection from the reader pool.
+     * Readers see the last committed state, even while a save is being written.
+     * Closing the connection returns it to the pool.
+     *
+     * @return A read-only {@link Connection}.
+     * @throws SQLException If a database access error occurs.
+     */
+    public Connection getReadConnection() throws SQLException {
+        long startTime = System.nanoTime();
+        try {
+            return slowOperations.wrap(readers.acquire());
+        } finally {
+            METRICS.histogram("db.getReadConnection").recordSince(startTime);
+        }
+    }
+
+    /**
+     * Closes the idle pooled read connections.
+     */
+    @Override
+    public void close() {
+        readers.close();
     }
 }
\ No newline at end of file
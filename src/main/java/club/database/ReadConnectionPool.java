@@ -0,0 +1,145 @@
+package club.database;
+
+import club.logging.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Properties;
+
+/**
+ * A small pool of read-only connections to one database.
+ * Connections handed out close back into the pool, so a query does not pay for opening the file
+ * and reading the schema each time. Idle connections beyond the pool size are closed.
+ */
+class ReadConnectionPool implements AutoCloseable {
+
+    private static final Logger LOG = Logger.get(ReadConnectionPool.class);
+
+    private final String dbUrl;
+    private final Properties properties;
+    private final int maxIdle;
+    private final Deque<Connection> idle = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * Constructs a pool.
+     *
+     * @param dbUrl      The JDBC URL of the database.
+     * @param properties The connection properties, which should open the database read-only.
+     * @param maxIdle    The maximum number of idle connections kept open.
+     */
+    ReadConnectionPool(String dbUrl, Properties properties, int maxIdle) {
+        this.dbUrl = dbUrl;
+        this.properties = properties;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Takes an idle connection, or opens one if none is idle.
+     *
+     * @return A connection that returns to the pool when closed.
+     * @throws SQLException If a connection cannot be opened.
+     */
+    Connection acquire() throws SQLException {
+        Connection conn;
+        synchronized (this) {
+            if (closed) {
+                throw new SQLException("Read connection pool is closed");
+            }
+            conn = idle.pollFirst();
+        }
+        if (conn == null) {
+            conn = DriverManager.getConnection(dbUrl, properties);
+        }
+        return lease(conn);
+    }
+
+    /**
+     * Closes the idle connections. Connections in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        Deque<Connection> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayDeque<>(idle);
+            idle.clear();
+        }
+        for (Connection conn : toClose) {
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Wraps a connection so that closing it returns it to the pool.
+     * The wrapper behaves as closed afterwards, even though the connection is reused.
+     *
+     * @param conn The pooled connection.
+     * @return The wrapper.
+     */
+    private Connection lease(Connection conn) {
+        boolean[] released = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            if (!released[0]) {
+                                released[0] = true;
+                                release(conn);
+                            }
+                            return null;
+                        }
+                        case "isClosed" -> {
+                            return released[0] || conn.isClosed();
+                        }
+                        default -> {
+                            if (released[0]) {
+                                throw new SQLException("Connection is closed");
+                            }
+                            try {
+                                return method.invoke(conn, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Returns a connection to the pool, or closes it if the pool is full or closed.
+     *
+     * @param conn The connection.
+     */
+    private void release(Connection conn) {
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback(); // Ends a read transaction left open by the caller
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            return;
+        }
+        synchronized (this) {
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(conn); // Most recently used first, so its page cache is still warm
+                return;
+            }
+        }
+        closeQuietly(conn);
+    }
+
+    private static void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            LOG.warn("Failed to close read connection", e);
+        }
+    }
+}
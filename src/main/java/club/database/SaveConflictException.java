@@ -0,0 +1,49 @@
+package club.database;
+
+import club.model.Club;
+
+import java.util.List;
+
+/**
+ * Thrown when a save finds records that another client changed or deleted since they were loaded.
+ * The non-conflicting changes are saved anyway; the conflicting records keep the other client's version.
+ * The merged club carries both, so the user can re-apply the conflicting changes and save again.
+ */
+public class SaveConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    // Only meaningful to the process that saved, so neither is serialized
+    private final transient List<String> conflicts;
+    private final transient Club mergedClub;
+
+    /**
+     * Constructs a save conflict exception.
+     *
+     * @param conflicts  The conflicting records, as {@code table/id}.
+     * @param mergedClub The club reloaded after saving the non-conflicting changes.
+     */
+    public SaveConflictException(List<String> conflicts, Club mergedClub) {
+        super("Records changed by another client: " + String.join(", ", conflicts));
+        this.conflicts = List.copyOf(conflicts);
+        this.mergedClub = mergedClub;
+    }
+
+    /**
+     * Gets the conflicting records.
+     *
+     * @return The conflicting records, as {@code table/id}.
+     */
+    public List<String> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Gets the club reloaded after the non-conflicting changes were saved.
+     *
+     * @return The merged club.
+     */
+    public Club getMergedClub() {
+        return mergedClub;
+    }
+}
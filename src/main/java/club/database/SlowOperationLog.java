@@ -0,0 +1,331 @@
+package club.database;
+
+import club.logging.Logger;
+import club.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * Logs statements and transactions that take longer than a threshold, so a save that froze can be
+ * traced to the SQL behind it. Connections are wrapped so that each prepared statement records its
+ * bind parameters and times its executions; a query is timed until its result set is closed, so the
+ * rows read are included. Transactions are timed from {@code setAutoCommit(false)} to their commit or rollback.
+ *
+ * <p>Nothing is formatted or written unless an operation crosses the threshold. Each entry names the SQL,
+ * a summary of its parameters, the rows it read or wrote and the application methods that ran it.
+ * Text parameters are logged by length only, since they include passwords and email addresses.
+ * When the log grows past its size limit it is moved aside to {@code <log>.1}, replacing the previous one.
+ */
+class SlowOperationLog {
+
+    static final String THRESHOLD_PROPERTY = "club.slowOperationMillis";
+    static final long DEFAULT_THRESHOLD_MILLIS = 500;
+    static final String LOG_FILE_NAME = "slow-operations.log";
+    static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final int CALLER_FRAMES = 3;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Logger LOG = Logger.get(SlowOperationLog.class);
+
+    private final Path logFile;
+    private final long thresholdNanos;
+    private final long maxBytes;
+
+    /**
+     * Constructs a log.
+     *
+     * @param logFile         The log file to append to.
+     * @param thresholdMillis The duration from which operations are logged.
+     * @param maxBytes        The size at which the log is moved aside.
+     */
+    SlowOperationLog(Path logFile, long thresholdMillis, long maxBytes) {
+        if (thresholdMillis < 0) {
+            throw new IllegalArgumentException("Slow operation threshold cannot be negative");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Log size limit must be positive");
+        }
+        this.logFile = logFile;
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Wraps a connection so that its slow statements and transactions are logged.
+     *
+     * @param conn The connection.
+     * @return The wrapper, which closes the connection when closed.
+     */
+    Connection wrap(Connection conn) {
+        return proxy(Connection.class, new ConnectionHandler(conn));
+    }
+
+    /**
+     * Times the statements and the transaction of one connection.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection conn;
+        private long transactionStart;
+        private int transactionStatements;
+        private long transactionRows;
+
+        private ConnectionHandler(Connection conn) {
+            this.conn = conn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(conn, method, args);
+            switch (method.getName()) {
+                case "prepareStatement" -> {
+                    return proxy(PreparedStatement.class, new StatementHandler(this, (PreparedStatement) result, (String) args[0]));
+                }
+                case "setAutoCommit" -> {
+                    transactionStart = (Boolean) args[0] ? 0 : System.nanoTime();
+                    transactionStatements = 0;
+                    transactionRows = 0;
+                }
+                case "commit", "rollback" -> {
+                    if (args == null && transactionStart != 0) {
+                        long elapsed = System.nanoTime() - transactionStart;
+                        if (elapsed >= thresholdNanos) {
+                            write(String.format("TRANSACTION %s %.1f ms statements=%d rows=%d op=%s",
+                                    method.getName().toUpperCase(), elapsed / 1e6, transactionStatements,
+                                    transactionRows, callingOperation()));
+                        }
+                        transactionStart = System.nanoTime(); // The next transaction starts at once
+                        transactionStatements = 0;
+                        transactionRows = 0;
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        private void executed(String sql, Object[] parameters, int batchSize, long elapsed, long rows) {
+            transactionStatements++;
+            transactionRows += Math.max(rows, 0);
+            if (elapsed >= thresholdNanos) {
+                write(String.format("STATEMENT %.1f ms rows=%d op=%s sql=\"%s\" params=%s%s",
+                        elapsed / 1e6, rows, callingOperation(), sql, summarize(parameters),
+                        batchSize > 0 ? " batch=" + batchSize : ""));
+            }
+        }
+    }
+
+    /**
+     * Records the bind parameters of a prepared statement and times its executions.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final ConnectionHandler connection;
+        private final PreparedStatement stmt;
+        private final String sql;
+        private Object[] parameters = new Object[8];
+        private int batchSize;
+
+        private StatementHandler(ConnectionHandler connection, PreparedStatement stmt, String sql) {
+            this.connection = connection;
+            this.stmt = stmt;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+                return forward(stmt, method, args);
+            }
+            switch (name) {
+                case "executeQuery" -> {
+                    long start = System.nanoTime();
+                    ResultSet rs = (ResultSet) forward(stmt, method, args);
+                    return proxy(ResultSet.class, new ResultSetHandler(this, rs, start));
+                }
+                case "executeUpdate", "executeLargeUpdate", "execute" -> {
+                    long start = System.nanoTime();
+                    Object result = forward(stmt, method, args);
+                    executed(System.nanoTime() - start, result instanceof Number rows ? rows.longValue() : -1);
+                    return result;
+                }
+                case "executeBatch" -> {
+                    long start = System.nanoTime();
+                    int[] counts = (int[]) forward(stmt, method, args);
+                    executed(System.nanoTime() - start, Arrays.stream(counts).filter(count -> count > 0).sum());
+                    batchSize = 0;
+                    return counts;
+                }
+                case "addBatch" -> batchSize++;
+                case "clearParameters" -> Arrays.fill(parameters, null);
+                default -> {
+                }
+            }
+            return forward(stmt, method, args);
+        }
+
+        private void bind(int index, Object value) {
+            if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+            }
+            parameters[index] = value;
+        }
+
+        private void executed(long elapsed, long rows) {
+            connection.executed(sql, parameters, batchSize, elapsed, rows);
+        }
+    }
+
+    /**
+     * Counts the rows a query reads and ends its timing when the result set is closed.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final StatementHandler statement;
+        private final ResultSet rs;
+        private final long start;
+        private long rows;
+        private boolean finished;
+
+        private ResultSetHandler(StatementHandler statement, ResultSet rs, long start) {
+            this.statement = statement;
+            this.rs = rs;
+            this.start = start;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(rs, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if ((Boolean) result) {
+                        rows++;
+                    }
+                }
+                case "close" -> {
+                    if (!finished) {
+                        finished = true;
+                        statement.executed(System.nanoTime() - start, rows);
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Appends an entry to the log.
+     *
+     * @param entry The entry, without its timestamp.
+     */
+    private synchronized void write(String entry) {
+        METRICS.counter("db.slowOperations").increment();
+        try {
+            Path folder = logFile.toAbsolutePath().getParent();
+            if (folder != null) {
+                Files.createDirectories(folder);
+            }
+            if (Files.exists(logFile) && Files.size(logFile) >= maxBytes) {
+                Files.move(logFile, logFile.resolveSibling(logFile.getFileName() + ".1"),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.write(logFile, List.of(LocalDateTime.now() + " " + entry), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Failed to write slow operation", e, "file", logFile);
+        }
+    }
+
+    /**
+     * Summarizes bind parameters. Text is given by its length only.
+     *
+     * @param parameters The parameters, indexed from 1.
+     * @return The summary, such as {@code [text(5), 42, true, null]}.
+     */
+    static String summarize(Object[] parameters) {
+        int last = parameters.length - 1;
+        while (last > 0 && parameters[last] == null) {
+            last--;
+        }
+        StringJoiner summary = new StringJoiner(", ", "[", "]");
+        for (int i = 1; i <= last; i++) {
+            Object value = parameters[i];
+            summary.add(value instanceof CharSequence text ? "text(" + text.length() + ")" : String.valueOf(value));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Names the application methods running the current operation, innermost first,
+     * skipping the repository and JDBC layers.
+     *
+     * @return The methods, such as {@code DataManager.saveRecords < DataManager.saveClubData < ClubService.save}.
+     */
+    private static String callingOperation() {
+        List<String> callers = StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+                .collect(Collectors.toList()));
+        List<String> distinct = new ArrayList<>();
+        for (String caller : callers) {
+            if (distinct.isEmpty() || !distinct.get(distinct.size() - 1).equals(caller)) {
+                distinct.add(caller);
+            }
+            if (distinct.size() == CALLER_FRAMES) {
+                break;
+            }
+        }
+        return distinct.isEmpty() ? "unknown" : String.join(" < ", distinct);
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith("club.")
+                && !className.startsWith("club.database.Sqlite")
+                && !className.startsWith(SlowOperationLog.class.getName())
+                && !className.equals(ReadConnectionPool.class.getName());
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested < 0 ? name : name.substring(0, nested);
+    }
+
+    private static String methodName(String name) {
+        // Lambdas are named lambda$enclosingMethod$index
+        return name.startsWith("lambda$") ? name.substring("lambda$".length(), name.lastIndexOf('$')) : name;
+    }
+
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,45 @@
+package club.database;
+
+import club.model.Admin;
+import club.repository.AdminRepository;
+import club.repository.Credentials;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Admins stored in the {@code admins} table.
+ */
+class SqliteAdminRepository extends SqliteEntityRepository<Admin, String> implements AdminRepository {
+
+    private static final String CREDENTIALS_QUERY = "SELECT adminId, password FROM admins WHERE email = ?";
+
+    SqliteAdminRepository(SqliteRepositories repositories) {
+        super(repositories, "admins", "adminId", "name", "email", "password");
+    }
+
+    @Override
+    Admin read(ResultSet rs) throws SQLException {
+        return new Admin(
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("adminId"),
+                rs.getString("password")
+        );
+    }
+
+    @Override
+    int bind(PreparedStatement stmt, Admin admin) throws SQLException {
+        stmt.setString(1, admin.getName());
+        stmt.setString(2, admin.getEmail());
+        stmt.setString(3, admin.getPassword());
+        return 3;
+    }
+
+    @Override
+    public Credentials findCredentials(String email) throws SQLException {
+        return findOne(CREDENTIALS_QUERY, email,
+                rs -> new Credentials(Credentials.ADMIN, rs.getString("adminId"), rs.getString("password"), true));
+    }
+}
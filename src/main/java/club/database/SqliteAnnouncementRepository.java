@@ -0,0 +1,40 @@
+package club.database;
+
+import club.model.Announcement;
+import club.repository.AnnouncementRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Announcements stored in the {@code announcements} table.
+ */
+class SqliteAnnouncementRepository extends SqliteEntityRepository<Announcement, Integer> implements AnnouncementRepository {
+
+    SqliteAnnouncementRepository(SqliteRepositories repositories) {
+        super(repositories, "announcements", "id", "message", "dateTime");
+    }
+
+    @Override
+    Announcement read(ResultSet rs) throws SQLException {
+        return new Announcement(
+                rs.getInt("id"),
+                rs.getString("message"),
+                LocalDateTime.parse(rs.getString("dateTime"))
+        );
+    }
+
+    @Override
+    int bind(PreparedStatement stmt, Announcement announcement) throws SQLException {
+        stmt.setString(1, announcement.getMessage());
+        stmt.setString(2, announcement.getDateTime().toString());
+        return 2;
+    }
+
+    @Override
+    public int nextId() throws SQLException {
+        return queryMax("SELECT MAX(id) AS maxId FROM announcements") + 1;
+    }
+}
@@ -0,0 +1,64 @@
+package club.database;
+
+import club.repository.ChangeJournal;
+import club.repository.JournalEntry;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code change_journal} table, filled by the triggers created in {@link DatabaseManager}.
+ */
+class SqliteChangeJournal implements ChangeJournal {
+
+    private final SqliteRepositories repositories;
+
+    SqliteChangeJournal(SqliteRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public List<JournalEntry> readAfter(long afterSequence, int limit) throws SQLException {
+        String query = "SELECT seq, tableName, recordKey, operation, version, changedAt FROM change_journal "
+                + "WHERE seq > ? ORDER BY seq LIMIT ?";
+        return repositories.query(query, stmt -> {
+            stmt.setLong(1, afterSequence);
+            stmt.setInt(2, limit);
+            List<JournalEntry> changes = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long version = rs.getLong("version");
+                    boolean unversioned = rs.wasNull();
+                    changes.add(new JournalEntry(
+                            rs.getLong("seq"),
+                            rs.getString("tableName"),
+                            rs.getString("recordKey"),
+                            rs.getString("operation"),
+                            unversioned ? null : version,
+                            rs.getString("changedAt")
+                    ));
+                }
+            }
+            return changes;
+        });
+    }
+
+    @Override
+    public long latestSequence() throws SQLException {
+        return repositories.query("SELECT MAX(seq) AS maxSeq FROM change_journal", stmt -> {
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong("maxSeq") : 0L;
+            }
+        });
+    }
+
+    @Override
+    public int pruneThrough(long throughSequence) throws SQLException {
+        return repositories.update("DELETE FROM change_journal WHERE seq <= ?", stmt -> {
+            stmt.setLong(1, throughSequence);
+            return stmt.executeUpdate();
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package club.database;
+
+import club.repository.ClubNameRepository;
+import club.repository.Versioned;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The club name, stored as the single row of the {@code club} table.
+ */
+class SqliteClubNameRepository implements ClubNameRepository {
+
+    private final SqliteRepositories repositories;
+
+    SqliteClubNameRepository(SqliteRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public Versioned<String> find() throws SQLException {
+        return repositories.query("SELECT name, version FROM club WHERE id = 1", stmt -> {
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? new Versioned<>(rs.getString("name"), rs.getLong("version")) : null;
+            }
+        });
+    }
+
+    @Override
+    public boolean insert(String name) throws SQLException {
+        return repositories.update("INSERT INTO club (id, name, version) VALUES (1, ?, 1)", stmt -> {
+            stmt.setString(1, name);
+            try {
+                return stmt.executeUpdate() > 0;
+            } catch (SQLException e) {
+                if (e.getErrorCode() != SqliteRepositories.SQLITE_CONSTRAINT) {
+                    throw e;
+                }
+                return false; // Inserted by another client meanwhile
+            }
+        });
+    }
+
+    @Override
+    public boolean update(String name, long expectedVersion) throws SQLException {
+        return repositories.update("UPDATE club SET name = ?, version = version + 1 WHERE id = 1 AND version = ?", stmt -> {
+            stmt.setString(1, name);
+            stmt.setLong(2, expectedVersion);
+            return stmt.executeUpdate() > 0;
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package club.database;
+
+import club.repository.ContentSearch;
+import club.repository.SearchHit;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Searches the {@code content_search} FTS5 table, which triggers created in {@link DatabaseManager}
+ * keep in sync with the announcements and events. Results are ranked with BM25, weighting event names
+ * above message and description text.
+ */
+class SqliteContentSearch implements ContentSearch {
+
+    private static final int SNIPPET_TOKENS = 16;
+
+    private final SqliteRepositories repositories;
+
+    SqliteContentSearch(SqliteRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public List<SearchHit> search(String query, int limit) throws SQLException {
+        String match = toMatchExpression(query);
+        if (match.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT rowid, title, snippet(content_search, -1, '" + SearchHit.MATCH_START + "', '"
+                + SearchHit.MATCH_END + "', '…', " + SNIPPET_TOKENS + ") AS snippet, "
+                + "bm25(content_search, 5.0, 1.0) AS rank "
+                + "FROM content_search WHERE content_search MATCH ? ORDER BY rank LIMIT ?";
+        return repositories.query(sql, stmt -> {
+            stmt.setString(1, match);
+            stmt.setInt(2, limit);
+            List<SearchHit> hits = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long rowId = rs.getLong("rowid");
+                    hits.add(new SearchHit(
+                            DatabaseManager.searchKindOf(rowId),
+                            DatabaseManager.searchRecordIdOf(rowId),
+                            rs.getString("title"),
+                            rs.getString("snippet"),
+                            -rs.getDouble("rank") // BM25 is lower for better matches
+                    ));
+                }
+            }
+            return hits;
+        });
+    }
+
+    /**
+     * Turns user text into an FTS5 query: each word becomes a quoted prefix term, all of which must match,
+     * so operators and punctuation in the text are never interpreted as query syntax.
+     *
+     * @param query The search text.
+     * @return The match expression, or an empty string if the text has no words.
+     */
+    private static String toMatchExpression(String query) {
+        StringJoiner terms = new StringJoiner(" ");
+        if (query != null) {
+            for (String word : query.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    terms.add("\"" + word + "\"*");
+                }
+            }
+        }
+        return terms.toString();
+    }
+}
@@ -0,0 +1,217 @@
+package club.database;
+
+import club.repository.EntityRepository;
+import club.repository.Versioned;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A repository stored in one SQLite table with a key column and a version column.
+ * Subclasses map the other columns to and from their records.
+ *
+ * @param <T> The type of the records.
+ * @param <K> The type of the records' keys.
+ */
+abstract class SqliteEntityRepository<T, K> implements EntityRepository<T, K> {
+
+    /**
+     * The number of rows a projection asks the driver to fetch at a time. Large enough that
+     * list screens are filled in a few round trips, small enough that rows are handed on while
+     * the rest of the table is still being read.
+     */
+    static final int PROJECTION_FETCH_SIZE = 256;
+
+    /**
+     * Reads a projection of the current row.
+     *
+     * @param <R> The type of the projection.
+     */
+    @FunctionalInterface
+    interface RowReader<R> {
+        R read(ResultSet rs) throws SQLException;
+    }
+
+    private final SqliteRepositories repositories;
+    private final String selectQuery;
+    private final String existsQuery;
+    private final String insertQuery;
+    private final String updateQuery;
+    private final String deleteQuery;
+
+    /**
+     * Constructs a repository for a table.
+     *
+     * @param repositories The repositories providing connections.
+     * @param table        The table name.
+     * @param keyColumn    The name of the key column.
+     * @param columns      The other saved columns, in the order {@link #bind} sets them.
+     */
+    SqliteEntityRepository(SqliteRepositories repositories, String table, String keyColumn, String... columns) {
+        this.repositories = repositories;
+        String columnList = String.join(", ", columns);
+        this.selectQuery = "SELECT " + columnList + ", " + keyColumn + ", version FROM " + table;
+        this.existsQuery = "SELECT 1 FROM " + table + " WHERE " + keyColumn + " = ?";
+        this.insertQuery = "INSERT INTO " + table + " (" + columnList + ", " + keyColumn + ", version) VALUES ("
+                + "?, ".repeat(columns.length) + "?, 1)";
+        this.updateQuery = "UPDATE " + table + " SET " + String.join(" = ?, ", columns) + " = ?, version = version + 1 "
+                + "WHERE " + keyColumn + " = ? AND version = ?";
+        this.deleteQuery = "DELETE FROM " + table + " WHERE " + keyColumn + " = ? AND version = ?";
+    }
+
+    /**
+     * Reads a record from the current row.
+     *
+     * @param rs The result set, positioned on a row.
+     * @return The record.
+     * @throws SQLException If a column cannot be read.
+     */
+    abstract T read(ResultSet rs) throws SQLException;
+
+    /**
+     * Binds a record's columns, other than the key, starting at the first parameter.
+     *
+     * @param stmt   The statement.
+     * @param entity The record.
+     * @return The number of parameters bound.
+     * @throws SQLException If a parameter cannot be bound.
+     */
+    abstract int bind(PreparedStatement stmt, T entity) throws SQLException;
+
+    /**
+     * Gets the repositories providing connections.
+     *
+     * @return The repositories.
+     */
+    SqliteRepositories repositories() {
+        return repositories;
+    }
+
+    @Override
+    public List<Versioned<T>> findAll() throws SQLException {
+        return repositories.query(selectQuery, stmt -> {
+            List<Versioned<T>> all = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    all.add(new Versioned<>(read(rs), rs.getLong("version")));
+                }
+            }
+            return all;
+        });
+    }
+
+    @Override
+    public boolean exists(K key) throws SQLException {
+        return repositories.query(existsQuery, stmt -> {
+            stmt.setObject(1, key);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        });
+    }
+
+    @Override
+    public boolean insert(T entity) throws SQLException {
+        return repositories.update(insertQuery, stmt -> {
+            int index = bind(stmt, entity);
+            stmt.setObject(index + 1, keyOf(entity));
+            return executeChange(stmt);
+        });
+    }
+
+    @Override
+    public boolean update(T entity, long expectedVersion) throws SQLException {
+        return repositories.update(updateQuery, stmt -> {
+            int index = bind(stmt, entity);
+            stmt.setObject(index + 1, keyOf(entity));
+            stmt.setLong(index + 2, expectedVersion);
+            return executeChange(stmt);
+        });
+    }
+
+    @Override
+    public boolean delete(K key, long expectedVersion) throws SQLException {
+        return repositories.update(deleteQuery, stmt -> {
+            stmt.setObject(1, key);
+            stmt.setLong(2, expectedVersion);
+            return stmt.executeUpdate() > 0;
+        });
+    }
+
+    /**
+     * Executes an insert or compare-and-set update.
+     *
+     * @param stmt The bound statement.
+     * @return true if a row was written, false if the version did not match or a unique column clashed.
+     * @throws SQLException If a database error other than a conflict occurs.
+     */
+    private static boolean executeChange(PreparedStatement stmt) throws SQLException {
+        try {
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            if (e.getErrorCode() != SqliteRepositories.SQLITE_CONSTRAINT) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Reads the highest value of an integer column, for generating the next ID.
+     *
+     * @param query A query selecting the maximum as {@code maxId}.
+     * @return The maximum, or 0 if the table is empty.
+     * @throws SQLException If a database error occurs.
+     */
+    int queryMax(String query) throws SQLException {
+        return repositories.query(query, stmt -> {
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt("maxId") : 0;
+            }
+        });
+    }
+
+    /**
+     * Runs a query selecting only some columns and hands each row on as it is read.
+     *
+     * @param query    The query.
+     * @param reader   Reads a projection of a row.
+     * @param consumer Receives each projection.
+     * @param <R>      The type of the projection.
+     * @throws SQLException If a database error occurs.
+     */
+    <R> void stream(String query, RowReader<R> reader, Consumer<R> consumer) throws SQLException {
+        repositories.query(query, stmt -> {
+            stmt.setFetchSize(PROJECTION_FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(reader.read(rs));
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs a query selecting only some columns of at most one row, looked up by one parameter.
+     *
+     * @param query     The query.
+     * @param parameter The value of the query's only parameter.
+     * @param reader    Reads a projection of the row.
+     * @param <R>       The type of the projection.
+     * @return The projection, or null if no row matches.
+     * @throws SQLException If a database error occurs.
+     */
+    <R> R findOne(String query, Object parameter, RowReader<R> reader) throws SQLException {
+        return repositories.query(query, stmt -> {
+            stmt.setObject(1, parameter);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? reader.read(rs) : null;
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package club.database;
+
+import club.model.Event;
+import club.repository.EventRepository;
+import club.repository.EventSummary;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Consumer;
+
+/**
+ * Events stored in the {@code events} table.
+ */
+class SqliteEventRepository extends SqliteEntityRepository<Event, Integer> implements EventRepository {
+
+    private static final String SUMMARY_QUERY = "SELECT id, name, date, time, location FROM events";
+
+    SqliteEventRepository(SqliteRepositories repositories) {
+        super(repositories, "events", "id", "name", "date", "time", "location", "description");
+    }
+
+    @Override
+    Event read(ResultSet rs) throws SQLException {
+        return new Event(
+                rs.getInt("id"),
+                rs.getString("name"),
+                LocalDate.parse(rs.getString("date")),
+                LocalTime.parse(rs.getString("time")),
+                rs.getString("location"),
+                rs.getString("description")
+        );
+    }
+
+    @Override
+    int bind(PreparedStatement stmt, Event event) throws SQLException {
+        stmt.setString(1, event.getName());
+        stmt.setString(2, event.getDate().toString());
+        stmt.setString(3, event.getTime().toString());
+        stmt.setString(4, event.getLocation());
+        stmt.setString(5, event.getDescription());
+        return 5;
+    }
+
+    @Override
+    public int nextId() throws SQLException {
+        return queryMax("SELECT MAX(id) AS maxId FROM events") + 1;
+    }
+
+    @Override
+    public void streamSummaries(Consumer<EventSummary> consumer) throws SQLException {
+        stream(SUMMARY_QUERY, rs -> new EventSummary(
+                rs.getInt("id"),
+                rs.getString("name"),
+                LocalDate.parse(rs.getString("date")),
+                LocalTime.parse(rs.getString("time")),
+                rs.getString("location")
+        ), consumer);
+    }
+}
@@ -0,0 +1,70 @@
+package club.database;
+
+import club.model.Member;
+import club.repository.Credentials;
+import club.repository.MemberRepository;
+import club.repository.MemberSummary;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Members stored in the {@code members} table.
+ */
+class SqliteMemberRepository extends SqliteEntityRepository<Member, String> implements MemberRepository {
+
+    private static final String SUMMARY_QUERY = "SELECT membershipId, name, email, phone, active FROM members";
+    private static final String CREDENTIALS_QUERY = "SELECT membershipId, password, active FROM members WHERE email = ?";
+
+    SqliteMemberRepository(SqliteRepositories repositories) {
+        super(repositories, "members", "membershipId", "name", "email", "phone", "active", "password");
+    }
+
+    @Override
+    Member read(ResultSet rs) throws SQLException {
+        Member member = new Member(
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("phone"),
+                rs.getBoolean("active"),
+                rs.getString("password")
+        );
+        member.setMembershipId(rs.getString("membershipId"));
+        return member;
+    }
+
+    @Override
+    int bind(PreparedStatement stmt, Member member) throws SQLException {
+        stmt.setString(1, member.getName());
+        stmt.setString(2, member.getEmail());
+        stmt.setString(3, member.getPhone());
+        stmt.setBoolean(4, member.isActive());
+        stmt.setString(5, member.getPassword());
+        return 5;
+    }
+
+    @Override
+    public String nextMembershipId() throws SQLException {
+        int nextId = queryMax("SELECT MAX(id) AS maxId FROM members") + 1;
+        return String.format("%05d", nextId); // Ensure the ID is always 5 digits
+    }
+
+    @Override
+    public void streamSummaries(Consumer<MemberSummary> consumer) throws SQLException {
+        stream(SUMMARY_QUERY, rs -> new MemberSummary(
+                rs.getString("membershipId"),
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("phone"),
+                rs.getBoolean("active")
+        ), consumer);
+    }
+
+    @Override
+    public Credentials findCredentials(String email) throws SQLException {
+        return findOne(CREDENTIALS_QUERY, email, rs -> new Credentials(Credentials.MEMBER,
+                rs.getString("membershipId"), rs.getString("password"), rs.getBoolean("active")));
+    }
+}
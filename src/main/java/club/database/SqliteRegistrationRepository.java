@@ -0,0 +1,52 @@
+package club.database;
+
+import club.repository.Registration;
+import club.repository.RegistrationRepository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Registrations stored in the {@code event_registrations} table.
+ */
+class SqliteRegistrationRepository implements RegistrationRepository {
+
+    private final SqliteRepositories repositories;
+
+    SqliteRegistrationRepository(SqliteRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public Set<Registration> findAll() throws SQLException {
+        return repositories.query("SELECT eventId, membershipId FROM event_registrations", stmt -> {
+            Set<Registration> registrations = new HashSet<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    registrations.add(new Registration(rs.getInt("eventId"), rs.getString("membershipId")));
+                }
+            }
+            return registrations;
+        });
+    }
+
+    @Override
+    public void add(Registration registration) throws SQLException {
+        repositories.update("INSERT OR IGNORE INTO event_registrations (eventId, membershipId) VALUES (?, ?)", stmt -> {
+            stmt.setInt(1, registration.eventId());
+            stmt.setString(2, registration.membershipId());
+            return stmt.executeUpdate();
+        });
+    }
+
+    @Override
+    public void remove(Registration registration) throws SQLException {
+        repositories.update("DELETE FROM event_registrations WHERE eventId = ? AND membershipId = ?", stmt -> {
+            stmt.setInt(1, registration.eventId());
+            stmt.setString(2, registration.membershipId());
+            return stmt.executeUpdate();
+        });
+    }
+}
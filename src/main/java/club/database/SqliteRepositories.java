@@ -0,0 +1,256 @@
+package club.database;
+
+import club.metrics.SqlStatementEvent;
+import club.repository.AdminRepository;
+import club.repository.AnnouncementRepository;
+import club.repository.ChangeJournal;
+import club.repository.ClubNameRepository;
+import club.repository.ContentSearch;
+import club.repository.EventRepository;
+import club.repository.MemberRepository;
+import club.repository.RegistrationRepository;
+import club.repository.Repositories;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Repositories stored in a SQLite database.
+ * Outside a transaction, queries run on pooled read-only connections, which never wait for a save,
+ * and each write uses its own connection. Inside {@link #inTransaction(Work)}, calls on the
+ * transaction's thread share its connection, and each statement is prepared once and reused for every row.
+ * Transactions run one at a time, so writers of this process queue here instead of retrying on a busy database.
+ * Every statement is reported to Flight Recorder as a {@link SqlStatementEvent} when a recording enables it.
+ */
+public class SqliteRepositories implements Repositories {
+
+    static final int SQLITE_CONSTRAINT = 19;
+
+    private final DatabaseManager dbManager;
+    private final ThreadLocal<Transaction> transaction = new ThreadLocal<>();
+    private final ReentrantLock writer = new ReentrantLock();
+
+    private final SqliteMemberRepository members = new SqliteMemberRepository(this);
+    private final SqliteAdminRepository admins = new SqliteAdminRepository(this);
+    private final SqliteEventRepository events = new SqliteEventRepository(this);
+    private final SqliteAnnouncementRepository announcements = new SqliteAnnouncementRepository(this);
+    private final SqliteRegistrationRepository registrations = new SqliteRegistrationRepository(this);
+    private final SqliteClubNameRepository clubName = new SqliteClubNameRepository(this);
+    private final SqliteChangeJournal changeJournal = new SqliteChangeJournal(this);
+    private final SqliteContentSearch contentSearch = new SqliteContentSearch(this);
+
+    /**
+     * Work done with a prepared statement.
+     *
+     * @param <T> The type of the result.
+     */
+    @FunctionalInterface
+    interface StatementWork<T> {
+        T apply(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * The connection of a running transaction, and the statements prepared on it.
+     */
+    private static final class Transaction {
+        private final Connection conn;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        private Transaction(Connection conn) {
+            this.conn = conn;
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement stmt = statements.get(sql);
+            if (stmt == null) {
+                stmt = conn.prepareStatement(sql);
+                statements.put(sql, stmt);
+            }
+            return stmt;
+        }
+    }
+
+    /**
+     * Constructs repositories stored in the given database.
+     *
+     * @param dbManager The database manager to read and write through.
+     */
+    public SqliteRepositories(DatabaseManager dbManager) {
+        if (dbManager == null) {
+            throw new IllegalArgumentException("Database manager cannot be null");
+        }
+        this.dbManager = dbManager;
+    }
+
+    /**
+     * Gets the database manager backing these repositories.
+     *
+     * @return The database manager.
+     */
+    public DatabaseManager getDatabaseManager() {
+        return dbManager;
+    }
+
+    @Override
+    public MemberRepository members() {
+        return members;
+    }
+
+    @Override
+    public AdminRepository admins() {
+        return admins;
+    }
+
+    @Override
+    public EventRepository events() {
+        return events;
+    }
+
+    @Override
+    public AnnouncementRepository announcements() {
+        return announcements;
+    }
+
+    @Override
+    public RegistrationRepository registrations() {
+        return registrations;
+    }
+
+    @Override
+    public ClubNameRepository clubName() {
+        return clubName;
+    }
+
+    @Override
+    public ChangeJournal changeJournal() {
+        return changeJournal;
+    }
+
+    @Override
+    public ContentSearch contentSearch() {
+        return contentSearch;
+    }
+
+    @Override
+    public void inTransaction(Work work) throws SQLException {
+        if (transaction.get() != null) {
+            work.run(); // Joins the running transaction
+            return;
+        }
+        writer.lock();
+        try (Connection conn = dbManager.getConnection()) {
+            conn.setAutoCommit(false);
+            Transaction running = new Transaction(conn);
+            transaction.set(running);
+            try {
+                work.run();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                transaction.remove();
+                for (PreparedStatement stmt : running.statements.values()) {
+                    stmt.close();
+                }
+            }
+        } finally {
+            writer.unlock();
+        }
+    }
+
+    /**
+     * Runs a query with a statement prepared on the current transaction's connection, so it sees the
+     * transaction's own changes, or otherwise on a pooled read-only connection.
+     *
+     * @param sql  The SQL of the statement.
+     * @param work The work to run with the statement.
+     * @param <T>  The type of the result.
+     * @return The work's result.
+     * @throws SQLException If a database error occurs.
+     */
+    <T> T query(String sql, StatementWork<T> work) throws SQLException {
+        Transaction running = transaction.get();
+        if (running != null) {
+            return execute(running.prepare(sql), sql, false, work);
+        }
+        try (Connection conn = dbManager.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            return execute(stmt, sql, false, work);
+        }
+    }
+
+    /**
+     * Runs a change with a statement prepared on the current transaction's connection,
+     * or otherwise on a new write connection, in its own transaction.
+     *
+     * @param sql  The SQL of the statement.
+     * @param work The work to run with the statement.
+     * @param <T>  The type of the result.
+     * @return The work's result.
+     * @throws SQLException If a database error occurs.
+     */
+    <T> T update(String sql, StatementWork<T> work) throws SQLException {
+        Transaction running = transaction.get();
+        if (running != null) {
+            return execute(running.prepare(sql), sql, true, work);
+        }
+        writer.lock();
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            return execute(stmt, sql, true, work);
+        } finally {
+            writer.unlock();
+        }
+    }
+
+    /**
+     * Runs work with a statement, timed as a {@link SqlStatementEvent}.
+     *
+     * @param stmt   The prepared statement.
+     * @param sql    The SQL of the statement.
+     * @param change Whether the statement writes rows.
+     * @param work   The work to run with the statement.
+     * @param <T>    The type of the result.
+     * @return The work's result.
+     * @throws SQLException If a database error occurs.
+     */
+    private static <T> T execute(PreparedStatement stmt, String sql, boolean change, StatementWork<T> work)
+            throws SQLException {
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
+        T result = work.apply(stmt);
+        event.end();
+        if (event.shouldCommit()) {
+            event.describe(sql, rowsOf(result, change));
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Counts the rows a statement read or wrote from what its work returned: the rows collected by a query,
+     * whether a row was found or written, or the update count a change returned.
+     *
+     * @param result The work's result.
+     * @param change Whether the statement writes rows.
+     * @return The number of rows, or -1 if the result does not tell.
+     */
+    private static long rowsOf(Object result, boolean change) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Boolean found) {
+            return found ? 1 : 0;
+        }
+        if (change && result instanceof Integer count) {
+            return count;
+        }
+        return -1;
+    }
+}
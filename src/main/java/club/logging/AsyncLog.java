@@ -0,0 +1,272 @@
+package club.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log records in the background. Loggers add records to a lock-free {@link RingBuffer}, and a daemon
+ * thread drains it every few milliseconds, formats each record as one line and writes it out, so logging
+ * never waits for the console or the disk. If the buffer is full, records are dropped and counted instead,
+ * and the count is logged once there is room.
+ *
+ * <p>Records go to the console until {@link #toFile(Path)} is called: warnings and errors to standard error,
+ * the rest to standard output. A log file is moved aside to {@code <log>.1} when it grows past its size limit,
+ * replacing the previous one. Records still buffered when the JVM exits are written by a shutdown hook.
+ *
+ * <p>Records below {@code INFO} are skipped unless the {@code club.log.level} system property lowers the level.
+ * Each line reads {@code <time> <LEVEL> [<thread>] <logger>: <message> key=value ...}, followed by the
+ * stack trace of a logged exception.
+ */
+public final class AsyncLog {
+
+    public static final String LEVEL_PROPERTY = "club.log.level";
+    public static final long DEFAULT_MAX_BYTES = 5 * 1024 * 1024;
+
+    private static final int CAPACITY = 8192;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private static final RingBuffer BUFFER = new RingBuffer(CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final Object DRAIN_LOCK = new Object();
+
+    private static volatile Level level = Level.parse(System.getProperty(LEVEL_PROPERTY), Level.INFO);
+    private static Sink sink = new ConsoleSink(); // Guarded by DRAIN_LOCK
+
+    static {
+        Thread flusher = new Thread(AsyncLog::flushContinuously, "club-log");
+        flusher.setDaemon(true);
+        flusher.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncLog::flush, "club-log-shutdown"));
+    }
+
+    private AsyncLog() {
+    }
+
+    /**
+     * Where formatted lines are written.
+     */
+    private interface Sink {
+        void write(Level level, String line) throws IOException;
+
+        void flush() throws IOException;
+
+        void close() throws IOException;
+    }
+
+    /**
+     * Writes to standard output, or standard error for warnings and errors.
+     */
+    private static final class ConsoleSink implements Sink {
+        @Override
+        public void write(Level level, String line) {
+            (level.compareTo(Level.WARN) >= 0 ? System.err : System.out).println(line);
+        }
+
+        @Override
+        public void flush() {
+            System.out.flush();
+            System.err.flush();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+
+    /**
+     * Appends to a file, moving it aside when it grows past its size limit.
+     */
+    private static final class FileSink implements Sink {
+        private final Path file;
+        private final long maxBytes;
+        private BufferedWriter writer;
+        private long size;
+
+        private FileSink(Path file, long maxBytes) throws IOException {
+            this.file = file;
+            this.maxBytes = maxBytes;
+            open();
+        }
+
+        private void open() throws IOException {
+            Path folder = file.toAbsolutePath().getParent();
+            if (folder != null) {
+                Files.createDirectories(folder);
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            size = Files.size(file);
+        }
+
+        @Override
+        public void write(Level level, String line) throws IOException {
+            if (size >= maxBytes) {
+                writer.close();
+                Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+                open();
+            }
+            writer.write(line);
+            writer.newLine();
+            size += line.length() + 1;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes records to a log file from now on, instead of to the console or a previous file.
+     * Records logged before are written to the new file if they have not been written yet.
+     *
+     * @param file     The log file to append to.
+     * @param maxBytes The size at which the log is moved aside.
+     */
+    public static void toFile(Path file, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Log size limit must be positive");
+        }
+        synchronized (DRAIN_LOCK) {
+            try {
+                Sink opened = new FileSink(file, maxBytes);
+                sink.close();
+                sink = opened;
+            } catch (IOException e) {
+                System.err.println("Failed to open log file " + file + ", logging to the console: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes records to a log file from now on, moving it aside at {@link #DEFAULT_MAX_BYTES}.
+     *
+     * @param file The log file to append to.
+     */
+    public static void toFile(Path file) {
+        toFile(file, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Sets the lowest level written.
+     *
+     * @param minimum The level.
+     */
+    public static void setLevel(Level minimum) {
+        if (minimum == null) {
+            throw new IllegalArgumentException("Level cannot be null");
+        }
+        level = minimum;
+    }
+
+    /**
+     * Writes out every buffered record now, such as before the application exits.
+     */
+    public static void flush() {
+        drain();
+    }
+
+    static boolean isEnabled(Level candidate) {
+        return candidate.compareTo(level) >= 0;
+    }
+
+    static void append(LogRecord record) {
+        if (!BUFFER.offer(record)) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    private static void flushContinuously() {
+        while (true) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Writes out the buffered records.
+     *
+     * @return The number of records written.
+     */
+    private static int drain() {
+        synchronized (DRAIN_LOCK) {
+            int written = 0;
+            try {
+                LogRecord record;
+                while ((record = BUFFER.poll()) != null) {
+                    sink.write(record.level(), format(record));
+                    written++;
+                }
+                long dropped = DROPPED.getAndSet(0);
+                if (dropped > 0) {
+                    sink.write(Level.WARN, format(new LogRecord(System.currentTimeMillis(), Level.WARN,
+                            AsyncLog.class.getSimpleName(), "Log buffer full, records dropped", new Object[]{"count", dropped},
+                            null, Thread.currentThread().getName())));
+                    written++;
+                }
+                if (written > 0) {
+                    sink.flush();
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to write log, logging to the console: " + e.getMessage());
+                sink = new ConsoleSink();
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Formats a record as a line, followed by the stack trace of its exception.
+     *
+     * @param record The record.
+     * @return The formatted record.
+     */
+    static String format(LogRecord record) {
+        StringBuilder line = new StringBuilder(128)
+                .append(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault()))
+                .append(' ').append(record.level())
+                .append(" [").append(record.thread()).append("] ")
+                .append(record.logger()).append(": ")
+                .append(record.message());
+        Object[] fields = record.fields();
+        for (int i = 0; i < fields.length; i += 2) {
+            line.append(' ').append(fields[i]).append('=');
+            appendValue(line, i + 1 < fields.length ? fields[i + 1] : "");
+        }
+        if (record.error() != null) {
+            StringWriter trace = new StringWriter();
+            record.error().printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+        return line.toString();
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        String text = String.valueOf(value);
+        if (!text.isEmpty() && text.chars().noneMatch(c -> Character.isWhitespace(c) || c == '"' || c == '=')) {
+            line.append(text);
+            return;
+        }
+        line.append('"').append(text.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+    }
+}
@@ -0,0 +1,28 @@
+package club.logging;
+
+import java.util.Locale;
+
+/**
+ * The severity of a log record, from least to most severe.
+ */
+public enum Level {
+    DEBUG, INFO, WARN, ERROR;
+
+    /**
+     * Parses a level name, ignoring case.
+     *
+     * @param name     The name, such as {@code debug}, or null.
+     * @param fallback The level to use if the name is missing or unknown.
+     * @return The level.
+     */
+    static Level parse(String name, Level fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package club.logging;
+
+/**
+ * A log record waiting to be written. Formatting is left to the logging thread.
+ *
+ * @param timestamp The time the record was logged, in epoch milliseconds.
+ * @param level     The severity.
+ * @param logger    The name of the logger.
+ * @param message   The message.
+ * @param fields    Alternating field names and values.
+ * @param error     The exception logged with the message, or null.
+ * @param thread    The name of the logging thread.
+ */
+record LogRecord(long timestamp, Level level, String logger, String message, Object[] fields, Throwable error,
+                 String thread) {
+}
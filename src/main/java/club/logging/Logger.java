@@ -0,0 +1,109 @@
+package club.logging;
+
+/**
+ * Logs messages with structured fields for one class. Calls only add a record to {@link AsyncLog}'s buffer;
+ * the record is formatted and written on the logging thread, so fields should be values that no longer
+ * change, such as numbers, strings or copies.
+ *
+ * <pre>{@code
+ * private static final Logger LOG = Logger.get(DataManager.class);
+ * LOG.info("Club data loaded", "timingsMs", timings);
+ * }</pre>
+ */
+public final class Logger {
+
+    private final String name;
+
+    private Logger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets a logger named after a class.
+     *
+     * @param owner The class logging.
+     * @return The logger.
+     */
+    public static Logger get(Class<?> owner) {
+        return new Logger(owner.getSimpleName());
+    }
+
+    /**
+     * Checks whether records of a level are written, to skip building expensive fields.
+     *
+     * @param level The level.
+     * @return true if records of the level are written.
+     */
+    public boolean isEnabled(Level level) {
+        return AsyncLog.isEnabled(level);
+    }
+
+    /**
+     * Logs a detail useful when investigating a problem.
+     *
+     * @param message The message.
+     * @param fields  Alternating field names and values.
+     */
+    public void debug(String message, Object... fields) {
+        log(Level.DEBUG, message, null, fields);
+    }
+
+    /**
+     * Logs a normal event, such as the club being loaded.
+     *
+     * @param message The message.
+     * @param fields  Alternating field names and values.
+     */
+    public void info(String message, Object... fields) {
+        log(Level.INFO, message, null, fields);
+    }
+
+    /**
+     * Logs a problem the application recovered from.
+     *
+     * @param message The message.
+     * @param fields  Alternating field names and values.
+     */
+    public void warn(String message, Object... fields) {
+        log(Level.WARN, message, null, fields);
+    }
+
+    /**
+     * Logs a problem the application recovered from, with its exception.
+     *
+     * @param message The message.
+     * @param error   The exception.
+     * @param fields  Alternating field names and values.
+     */
+    public void warn(String message, Throwable error, Object... fields) {
+        log(Level.WARN, message, error, fields);
+    }
+
+    /**
+     * Logs a failure.
+     *
+     * @param message The message.
+     * @param fields  Alternating field names and values.
+     */
+    public void error(String message, Object... fields) {
+        log(Level.ERROR, message, null, fields);
+    }
+
+    /**
+     * Logs a failure, with its exception.
+     *
+     * @param message The message.
+     * @param error   The exception, or null.
+     * @param fields  Alternating field names and values.
+     */
+    public void error(String message, Throwable error, Object... fields) {
+        log(Level.ERROR, message, error, fields);
+    }
+
+    private void log(Level level, String message, Throwable error, Object[] fields) {
+        if (AsyncLog.isEnabled(level)) {
+            AsyncLog.append(new LogRecord(System.currentTimeMillis(), level, name, message, fields, error,
+                    Thread.currentThread().getName()));
+        }
+    }
+}
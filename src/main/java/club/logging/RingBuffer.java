@@ -0,0 +1,66 @@
+package club.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue of log records that any number of threads add to without locking, drained by one
+ * consumer at a time. Producers claim a slot with a compare-and-set on the tail and then publish their
+ * record into it; the consumer takes records in claim order and stops at a claimed slot that is not
+ * published yet. When every slot is taken, records are refused instead of waiting for the consumer.
+ */
+final class RingBuffer {
+
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Constructs a buffer.
+     *
+     * @param capacity The number of slots, a power of two.
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a record, unless the buffer is full.
+     *
+     * @param record The record.
+     * @return true if the record was added, false if the buffer was full.
+     */
+    boolean offer(LogRecord record) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.set((int) claimed & mask, record);
+        return true;
+    }
+
+    /**
+     * Takes the oldest record. Only one thread may poll at a time.
+     *
+     * @return The record, or null if none is published yet.
+     */
+    LogRecord poll() {
+        long next = head.get();
+        int index = (int) next & mask;
+        LogRecord record = slots.get(index);
+        if (record == null) {
+            return null;
+        }
+        slots.set(index, null);
+        head.set(next + 1); // Frees the slot for producers only once it is cleared
+        return record;
+    }
+}
@@ -0,0 +1,37 @@
+package club.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that only goes up, such as the number of failed logins.
+ * Safe to increment from many threads at once without contention.
+ */
+public class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Adds one to the count.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds to the count.
+     *
+     * @param amount The amount to add.
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Gets the count.
+     *
+     * @return The count so far.
+     */
+    public long get() {
+        return count.sum();
+    }
+}
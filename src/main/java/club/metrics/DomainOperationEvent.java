@@ -0,0 +1,67 @@
+package club.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for an operation that changes the club, such as registering a member for an event.
+ * Recorded both for the club service's operations, covering waiting for its lock, logging the command and
+ * applying it, and for the model methods they call. Operations that fail are not recorded.
+ * Disabled unless a recording enables {@code club.DomainOperation}; until then no event is created.
+ */
+@Name("club.DomainOperation")
+@Label("Domain Operation")
+@Category({"Club", "Domain"})
+@Description("An operation that changes the club, its events or its memberships")
+@Enabled(false)
+@StackTrace(false)
+public final class DomainOperationEvent extends Event {
+
+    @Label("Operation")
+    @Description("The class and method, such as ClubService.registerForEvent")
+    private String operation;
+
+    private static final EventType TYPE = EventType.getEventType(DomainOperationEvent.class);
+
+    /**
+     * Checks whether a recording currently enables this event.
+     *
+     * @return true if operations are being recorded.
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Starts timing an operation. Pass the result to {@link #end(DomainOperationEvent)} when the operation ends.
+     *
+     * @param operation The class and method of the operation.
+     * @return The started event, or null if no recording enables it.
+     */
+    public static DomainOperationEvent start(String operation) {
+        if (!isRecording()) {
+            return null;
+        }
+        DomainOperationEvent event = new DomainOperationEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing an operation and records it.
+     *
+     * @param event The event returned by {@link #start(String)}, or null if it was not enabled.
+     */
+    public static void end(DomainOperationEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package club.metrics;
+
+import club.search.SearchIndex;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates how much heap the collections of the club model retain, such as the members of a club
+ * or the registrations of its events.
+ *
+ * <p>Each collection field of the given owners is walked in declaration order, followed by their search indexes,
+ * and an object reachable from several collections is counted once, under the first: the members registered
+ * for an event are counted with the club's members, and the event registrations themselves only cost their
+ * lists and map entries.
+ * The application's own classes are sized field by field; strings, dates, boxed numbers and the JDK
+ * collections are sized from their known layouts, and other JDK objects by their own fields only.
+ *
+ * <p>Sizes assume a 64-bit HotSpot VM with compressed object pointers, as used for heaps under 32 GB:
+ * 12-byte object headers, 4-byte references and 8-byte alignment. The capacity of array lists and hash
+ * tables is estimated from their size, so the results are estimates, not measurements.
+ */
+public final class HeapFootprint {
+
+    private static final int HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int DEFAULT_LIST_CAPACITY = 10;
+    private static final int MIN_TABLE_CAPACITY = 16;
+    private static final int MIN_IDENTITY_CAPACITY = 32;
+
+    private static final Map<Class<?>, Long> SHALLOW_SIZES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, List<Field>> REFERENCE_FIELDS = new ConcurrentHashMap<>();
+
+    /**
+     * The estimated heap retained by one collection.
+     *
+     * @param collection The owner's class and field, such as {@code Club.members}.
+     * @param entries    The number of entries in the collection.
+     * @param bytes      The estimated bytes retained.
+     */
+    public record Entry(String collection, int entries, long bytes) {
+
+        /**
+         * Gets the estimated bytes per entry.
+         *
+         * @return The bytes divided by the entries, or 0 if the collection is empty.
+         */
+        public long bytesPerEntry() {
+            return entries == 0 ? 0 : bytes / entries;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-36s %9d entries %12d bytes %8d bytes/entry", collection, entries, bytes, bytesPerEntry());
+        }
+    }
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private HeapFootprint() {
+    }
+
+    /**
+     * Estimates the heap retained by the collections held in the fields of the given objects:
+     * their lists, sets, maps and search indexes.
+     *
+     * @param owners The objects whose collections are estimated, such as a club and its managers.
+     * @return An entry per non-null collection field, in the owners' and fields' order, then one per search index.
+     */
+    public static List<Entry> estimate(Object... owners) {
+        HeapFootprint footprint = new HeapFootprint();
+        Collections.addAll(footprint.visited, owners); // Owners are reached back through their observers
+        List<Entry> entries = new ArrayList<>();
+        footprint.estimateFields(owners, false, entries);
+        footprint.estimateFields(owners, true, entries); // Indexes last, so they only cost their own structures
+        return entries;
+    }
+
+    /**
+     * Estimates either the collections or the search indexes held in the fields of the owners.
+     *
+     * @param owners  The owners.
+     * @param indexes Whether to estimate the search indexes instead of the collections.
+     * @param entries The list to add an entry per field to.
+     */
+    private void estimateFields(Object[] owners, boolean indexes, List<Entry> entries) {
+        for (Object owner : owners) {
+            for (Field field : referenceFields(owner.getClass())) {
+                Object value = read(field, owner);
+                int size;
+                if (indexes && value instanceof SearchIndex<?> index) {
+                    size = index.size();
+                } else if (!indexes && value instanceof Collection<?> collection) {
+                    size = collection.size();
+                } else if (!indexes && value instanceof Map<?, ?> map) {
+                    size = map.size();
+                } else {
+                    continue;
+                }
+                String name = owner.getClass().getSimpleName() + "." + field.getName();
+                entries.add(new Entry(name, size, retained(value)));
+            }
+        }
+    }
+
+    /**
+     * Estimates the bytes retained by an object that have not been counted yet.
+     *
+     * @param root The object.
+     * @return The estimated bytes.
+     */
+    private long retained(Object root) {
+        long bytes = 0;
+        List<Object> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Object object = pending.remove(pending.size() - 1);
+            if (object == null || isShared(object) || !visited.add(object)) {
+                continue;
+            }
+            bytes += sizeOf(object, pending);
+        }
+        return bytes;
+    }
+
+    /**
+     * Sizes one object and queues the objects it refers to.
+     *
+     * @param object  The object.
+     * @param pending The queue of objects still to be sized.
+     * @return The object's own size, with the arrays that only it can refer to.
+     */
+    private long sizeOf(Object object, List<Object> pending) {
+        Class<?> type = object.getClass();
+        if (object instanceof String text) {
+            boolean latin1 = text.chars().allMatch(c -> c < 256);
+            return align(HEADER_BYTES + REFERENCE_BYTES + 1 + 4 + 1)
+                    + align(ARRAY_HEADER_BYTES + (long) text.length() * (latin1 ? 1 : 2));
+        }
+        if (object instanceof LocalDateTime dateTime) {
+            pending.add(dateTime.toLocalDate());
+            pending.add(dateTime.toLocalTime());
+            return align(HEADER_BYTES + 2L * REFERENCE_BYTES);
+        }
+        if (object instanceof LocalDate || object instanceof LocalTime) {
+            return align(HEADER_BYTES + 8);
+        }
+        if (object instanceof Number) {
+            return align(HEADER_BYTES + (object instanceof Long || object instanceof Double ? 8 : 4));
+        }
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            if (!type.getComponentType().isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    pending.add(Array.get(object, i));
+                }
+            }
+            return align(ARRAY_HEADER_BYTES + (long) length * fieldBytes(type.getComponentType()));
+        }
+        if (object instanceof ArrayList<?> list) {
+            pending.addAll(list);
+            return shallowSize(type) + align(ARRAY_HEADER_BYTES + (long) listCapacity(list.size()) * REFERENCE_BYTES);
+        }
+        if (object instanceof HashSet<?> set) {
+            pending.addAll(set);
+            return shallowSize(type) + hashMapBytes(set.size());
+        }
+        if (object instanceof IdentityHashMap<?, ?> map) {
+            queueEntries(map, pending);
+            int capacity = Math.max(MIN_IDENTITY_CAPACITY, tableCapacity(map.size() * 3 / 2));
+            return shallowSize(type) + align(ARRAY_HEADER_BYTES + 2L * capacity * REFERENCE_BYTES);
+        }
+        if (object instanceof HashMap<?, ?> map) {
+            queueEntries(map, pending);
+            return hashMapBytes(map.size()) - shallowSize(HashMap.class) + shallowSize(type);
+        }
+        if (object instanceof Collection<?> collection && !isApplicationClass(type)) {
+            pending.addAll(collection);
+            return shallowSize(type) + align(ARRAY_HEADER_BYTES + (long) collection.size() * REFERENCE_BYTES);
+        }
+        if (object instanceof Map<?, ?> map && !isApplicationClass(type)) {
+            queueEntries(map, pending);
+            return shallowSize(type) + hashMapBytes(map.size()) - shallowSize(HashMap.class);
+        }
+        if (isApplicationClass(type)) {
+            for (Field field : referenceFields(type)) {
+                pending.add(read(field, object));
+            }
+        }
+        return shallowSize(type); // Other JDK objects are sized by their own fields only
+    }
+
+    private static void queueEntries(Map<?, ?> map, List<Object> pending) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            pending.add(entry.getKey());
+            pending.add(entry.getValue());
+        }
+    }
+
+    /**
+     * Estimates a hash map of a given size: the map, its table and a node per entry.
+     *
+     * @param size The number of entries.
+     * @return The estimated bytes, without the keys and values.
+     */
+    private static long hashMapBytes(int size) {
+        long bytes = shallowSize(HashMap.class);
+        if (size > 0) {
+            int capacity = Math.max(MIN_TABLE_CAPACITY, tableCapacity((int) Math.ceil(size / 0.75)));
+            bytes += align(ARRAY_HEADER_BYTES + (long) capacity * REFERENCE_BYTES);
+            bytes += size * align(HEADER_BYTES + 4 + 3L * REFERENCE_BYTES); // hash, key, value, next
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the capacity of an array list that grew to a size one element at a time.
+     *
+     * @param size The list's size.
+     * @return The capacity of its backing array.
+     */
+    private static int listCapacity(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int capacity = DEFAULT_LIST_CAPACITY;
+        while (capacity < size) {
+            capacity += capacity >> 1;
+        }
+        return capacity;
+    }
+
+    private static int tableCapacity(int minimum) {
+        return minimum <= 1 ? 1 : Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+    /**
+     * Checks whether an object is shared by the whole VM, so a club does not retain it:
+     * enum constants, booleans and the small cached numbers.
+     *
+     * @param object The object.
+     * @return true if the object is shared.
+     */
+    private static boolean isShared(Object object) {
+        if (object instanceof Enum<?> || object instanceof Boolean || object instanceof Class<?>) {
+            return true;
+        }
+        if (object instanceof Integer || object instanceof Short || object instanceof Byte || object instanceof Long) {
+            long value = ((Number) object).longValue();
+            return value >= -128 && value <= 127;
+        }
+        return false;
+    }
+
+    private static boolean isApplicationClass(Class<?> type) {
+        return type.getModule() == HeapFootprint.class.getModule() && !type.isHidden();
+    }
+
+    /**
+     * Estimates the size of an instance of a class from its fields, including inherited ones.
+     *
+     * @param type The class.
+     * @return The instance size, aligned.
+     */
+    private static long shallowSize(Class<?> type) {
+        return SHALLOW_SIZES.computeIfAbsent(type, t -> {
+            long bytes = HEADER_BYTES;
+            for (Class<?> c = t; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        bytes += fieldBytes(field.getType());
+                    }
+                }
+            }
+            return align(bytes);
+        });
+    }
+
+    /**
+     * Gets the non-static reference fields of a class and its superclasses, made readable.
+     *
+     * @param type The class.
+     * @return The fields.
+     */
+    private static List<Field> referenceFields(Class<?> type) {
+        return REFERENCE_FIELDS.computeIfAbsent(type, t -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = t; c != null && isApplicationClass(c); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+
+    private static Object read(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read " + field, e);
+        }
+    }
+
+    private static int fieldBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
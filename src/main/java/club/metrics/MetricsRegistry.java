@@ -0,0 +1,103 @@
+package club.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Named counters, gauges and latency histograms for one process.
+ * Metrics are created on first use, so instrumented code just asks for them by name;
+ * names are dotted, such as {@code save.members} or {@code login.failed}.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    static {
+        Runtime runtime = Runtime.getRuntime();
+        GLOBAL.gauge("jvm.heap.usedBytes", () -> runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the registry shared by the whole application, which always reports the heap in use.
+     *
+     * @return The global registry.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets a counter, creating it if needed.
+     *
+     * @param name The counter's name.
+     * @return The counter.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge of the same name.
+     *
+     * @param name  The gauge's name.
+     * @param value Reads the current value; called whenever the metrics are reported, from any thread.
+     */
+    public void gauge(String name, LongSupplier value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Gauge value cannot be null");
+        }
+        gauges.put(name, value);
+    }
+
+    /**
+     * Gets a latency histogram, creating it if needed.
+     *
+     * @param name The histogram's name.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Formats every metric, one per line, sorted by name within counters, gauges and histograms.
+     * Latencies are shown in milliseconds.
+     *
+     * @return The report lines.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            lines.add(String.format("counter   %-32s %d", entry.getKey(), entry.getValue().get()));
+        }
+        for (Map.Entry<String, LongSupplier> entry : new TreeMap<>(gauges).entrySet()) {
+            lines.add(String.format("gauge     %-32s %d", entry.getKey(), readGauge(entry.getValue())));
+        }
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            lines.add(String.format("histogram %-32s count=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms",
+                    entry.getKey(), histogram.count(), histogram.mean() / 1e6, histogram.percentile(0.50) / 1e6,
+                    histogram.percentile(0.90) / 1e6, histogram.percentile(0.99) / 1e6, histogram.max() / 1e6));
+        }
+        return lines;
+    }
+
+    /**
+     * Reads a gauge, so a failing gauge does not stop the report.
+     */
+    private static long readGauge(LongSupplier gauge) {
+        try {
+            return gauge.getAsLong();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package club.metrics;
+
+import club.logging.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends a report of all metrics to a log file at a fixed interval, and once more when closed.
+ * When the log grows past its size limit it is moved aside to {@code <log>.1}, replacing the previous one.
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    public static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private static final Logger LOG = Logger.get(MetricsReporter.class);
+
+    private final MetricsRegistry registry;
+    private final Path logFile;
+    private final long maxBytes;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a reporter.
+     *
+     * @param registry The metrics to report.
+     * @param logFile  The log file to append to.
+     * @param maxBytes The size at which the log is moved aside.
+     */
+    public MetricsReporter(MetricsRegistry registry, String logFile, long maxBytes) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Log size limit must be positive");
+        }
+        this.registry = registry;
+        this.logFile = Path.of(logFile);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Starts writing reports in the background.
+     *
+     * @param intervalSeconds The number of seconds between reports.
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Metrics reporting is already running");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "club-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Appends a report to the log now.
+     */
+    public synchronized void report() {
+        List<String> lines = new ArrayList<>();
+        lines.add("--- " + LocalDateTime.now());
+        lines.addAll(registry.report());
+        try {
+            Path folder = logFile.toAbsolutePath().getParent();
+            if (folder != null) {
+                Files.createDirectories(folder);
+            }
+            if (Files.exists(logFile) && Files.size(logFile) >= maxBytes) {
+                Files.move(logFile, logFile.resolveSibling(logFile.getFileName() + ".1"),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.write(logFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOG.warn("Failed to write metrics", e, "file", logFile);
+        }
+    }
+
+    /**
+     * Stops the background reports and writes a final one.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+        }
+        if (running != null) {
+            running.shutdown();
+            report();
+        }
+    }
+}
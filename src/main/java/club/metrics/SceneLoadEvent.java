@@ -0,0 +1,36 @@
+package club.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for loading and showing a screen of the desktop app.
+ * Disabled unless a recording enables {@code club.SceneLoad}.
+ */
+@Name("club.SceneLoad")
+@Label("Scene Load")
+@Category({"Club", "User Interface"})
+@Enabled(false)
+@StackTrace(false)
+public final class SceneLoadEvent extends Event {
+
+    @Label("Scene")
+    private String scene;
+
+    /**
+     * Starts timing a scene load. Commit the event once the scene is shown.
+     *
+     * @param scene The name of the scene.
+     * @return The started event.
+     */
+    public static SceneLoadEvent start(String scene) {
+        SceneLoadEvent event = new SceneLoadEvent();
+        event.scene = scene;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,84 @@
+package club.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Locale;
+
+/**
+ * A Flight Recorder event for one SQL statement run by the SQLite repositories.
+ * Disabled unless a recording enables {@code club.SqlStatement}; while disabled, creating and
+ * committing the event compiles down to nothing, and the statement is never parsed.
+ */
+@Name("club.SqlStatement")
+@Label("SQL Statement")
+@Category({"Club", "Database"})
+@Description("A SQL statement and the rows it read or wrote")
+@Enabled(false)
+@StackTrace(false)
+public final class SqlStatementEvent extends Event {
+
+    @Label("Kind")
+    @Description("The first keyword of the statement, such as SELECT or UPDATE")
+    private String kind;
+
+    @Label("Table")
+    private String table;
+
+    @Label("Rows")
+    @Description("The rows read or written, or -1 if they were not counted")
+    private long rows;
+
+    @Label("SQL")
+    private String sql;
+
+    /**
+     * Fills in the statement, once the event is known to be committed.
+     *
+     * @param sql  The SQL of the statement.
+     * @param rows The rows read or written, or -1 if they were not counted.
+     */
+    public void describe(String sql, long rows) {
+        this.sql = sql;
+        this.rows = rows;
+        this.kind = kindOf(sql);
+        this.table = tableOf(sql);
+    }
+
+    /**
+     * Gets the kind of a statement.
+     *
+     * @param sql The SQL of the statement.
+     * @return The statement's first keyword, in upper case.
+     */
+    static String kindOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the table a statement reads or writes: the name after its first FROM, INTO or UPDATE.
+     *
+     * @param sql The SQL of the statement.
+     * @return The table name, or an empty string if there is none.
+     */
+    static String tableOf(String sql) {
+        String[] words = sql.trim().split("\\s+");
+        for (int i = 0; i < words.length - 1; i++) {
+            String word = words[i].toUpperCase(Locale.ROOT);
+            if (word.equals("FROM") || word.equals("INTO") || word.equals("UPDATE")) {
+                return words[i + 1].replaceAll("[^A-Za-z0-9_].*", "");
+            }
+        }
+        return "";
+    }
+}
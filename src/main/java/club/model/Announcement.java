@@ -11,6 +11,9 @@ public class Announcement {
     private String message;
     private LocalDateTime dateTime;
 
+    // Incremented on every change so display models can tell when they are stale
+    private int revision;
+
     /**
      * Constructs an Announcement object with the specified ID, message, and date-time.
      *
@@ -63,6 +66,7 @@ public class Announcement {
             throw new IllegalArgumentException("Message cannot be null or empty.");
         }
         this.message = message;
+        revision++;
     }
 
     /**
@@ -81,6 +85,17 @@ public class Announcement {
      */
     public void setDateTime(LocalDateTime dateTime) {
         this.dateTime = dateTime;
+        revision++;
+    }
+
+    /**
+     * Gets the revision of the announcement.
+     * Changes whenever the message or date and time are set.
+     *
+     * @return The current revision.
+     */
+    public int getRevision() {
+        return revision;
     }
 
     /**
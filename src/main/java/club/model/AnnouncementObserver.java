@@ -0,0 +1,22 @@
+package club.model;
+
+/**
+ * Interface for observers of announcement changes.
+ * Part of the Observer pattern implementation.
+ */
+public interface AnnouncementObserver {
+
+    /**
+     * Called when an announcement is posted to the club.
+     *
+     * @param announcement The announcement that was posted
+     */
+    void onAnnouncementPosted(Announcement announcement);
+
+    /**
+     * Called when an announcement is removed from the club.
+     *
+     * @param announcement The announcement that was removed
+     */
+    void onAnnouncementRemoved(Announcement announcement);
+}
@@ -1,8 +1,12 @@
 package club.model;
 
+import club.metrics.DomainOperationEvent;
+import club.search.SearchIndex;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Represents a club with members, admins, events, and announcements.
@@ -10,6 +14,11 @@ import java.util.List;
  */
 public class Club implements EventObserver {
 
+    /**
+     * The name used for a new club before one has been saved.
+     */
+    public static final String DEFAULT_NAME = "Monash Deep Neuron";
+
     private String clubName;
     private List<Member> members;
     private List<Admin> admins;
@@ -19,6 +28,16 @@ public class Club implements EventObserver {
     private MembershipManager membershipManager;
     private EventManager eventManager;
 
+    // Typeahead indexes, created on first search and kept up to date afterwards
+    private SearchIndex<Member> memberIndex;
+    private SearchIndex<Event> eventIndex;
+    private boolean announcingEventChanges = true;
+
+    // Incremented whenever the set of admins changes so cached role lookups can be invalidated
+    private int roleRevision;
+
+    private final List<AnnouncementObserver> announcementObservers = new ArrayList<>();
+
     /**
      * Constructs a Club object with the specified name.
      * Initializes empty lists and managers.
@@ -83,6 +102,7 @@ public class Club implements EventObserver {
             throw new IllegalArgumentException("Members list cannot be null.");
         }
         this.members = members;
+        this.memberIndex = null; // Rebuilt on the next search
     }
 
     /**
@@ -106,10 +126,18 @@ public class Club implements EventObserver {
      * @throws IllegalArgumentException if the announcement is null
      */
     public boolean removeAnnouncement(Announcement announcement) {
+        DomainOperationEvent operation = DomainOperationEvent.start("Club.removeAnnouncement");
         if (announcement == null) {
             throw new IllegalArgumentException("Announcement cannot be null.");
         }
-        return this.announcements.remove(announcement);
+        boolean removed = this.announcements.remove(announcement);
+        if (removed) {
+            for (AnnouncementObserver observer : announcementObservers) {
+                observer.onAnnouncementRemoved(announcement);
+            }
+        }
+        DomainOperationEvent.end(operation);
+        return removed;
     }
 
     /**
@@ -120,6 +148,7 @@ public class Club implements EventObserver {
      * @throws IllegalArgumentException If the member is null.
      */
     public String registerNewMember(Member newMember) {
+        DomainOperationEvent operation = DomainOperationEvent.start("Club.registerNewMember");
         if (newMember == null) {
             throw new IllegalArgumentException("Member cannot be null.");
         }
@@ -128,7 +157,52 @@ public class Club implements EventObserver {
         this.members.add(newMember);
         
         // Register with membership manager
-        return membershipManager.registerNewMember(newMember);
+        String membershipId = membershipManager.registerNewMember(newMember);
+        reindexMember(newMember);
+        DomainOperationEvent.end(operation);
+        return membershipId;
+    }
+
+    /**
+     * Refreshes a member's search index entry after its details have changed.
+     *
+     * @param member The member that was added or edited.
+     */
+    public void reindexMember(Member member) {
+        if (memberIndex != null) {
+            memberIndex.update(member);
+        }
+    }
+
+    /**
+     * Searches members by name, email, phone and membership ID.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of results.
+     * @return The best matching members, best first.
+     */
+    public List<Member> searchMembers(String query, int limit) {
+        return memberSearch(limit).apply(query);
+    }
+
+    /**
+     * Prepares a member search to run on another thread. Call it on the thread that changes the club:
+     * on first use, the members' field values are copied here and the returned search fills the index
+     * from that copy. Changes made before then are queued by the index and applied after the fill.
+     *
+     * @param limit The maximum number of results.
+     * @return The search, returning the best matching members for a search text, best first.
+     */
+    public Function<String, List<Member>> memberSearch(int limit) {
+        if (memberIndex == null) {
+            memberIndex = new SearchIndex<>(member -> List.of(
+                    nullToEmpty(member.getName()),
+                    nullToEmpty(member.getEmail()),
+                    nullToEmpty(member.getPhone()),
+                    nullToEmpty(member.getMembershipId())), members);
+        }
+        SearchIndex<Member> index = memberIndex;
+        return query -> index.search(query, limit);
     }
 
     /**
@@ -171,6 +245,45 @@ public class Club implements EventObserver {
             throw new IllegalArgumentException("Admins list cannot be null.");
         }
         this.admins = admins;
+        roleRevision++;
+    }
+
+    /**
+     * Adds an admin to the club.
+     *
+     * @param admin The admin to add.
+     * @throws IllegalArgumentException If the admin is null.
+     */
+    public void addAdmin(Admin admin) {
+        if (admin == null) {
+            throw new IllegalArgumentException("Admin cannot be null.");
+        }
+        getAdmins().add(admin);
+        roleRevision++;
+    }
+
+    /**
+     * Removes an admin from the club.
+     *
+     * @param admin The admin to remove.
+     * @return true if the admin was found and removed, false otherwise.
+     */
+    public boolean removeAdmin(Admin admin) {
+        boolean removed = getAdmins().remove(admin);
+        if (removed) {
+            roleRevision++;
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the revision of the club's admin roles.
+     * Changes whenever admins are added, removed or replaced.
+     *
+     * @return The current role revision.
+     */
+    public int getRoleRevision() {
+        return roleRevision;
     }
 
     /**
@@ -219,6 +332,35 @@ public class Club implements EventObserver {
     public void registerForEvent(Event event, Member member) {
         eventManager.registerMemberForEvent(event, member);
     }
+
+    /**
+     * Searches events by name, location and description.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of results.
+     * @return The best matching events, best first.
+     */
+    public List<Event> searchEvents(String query, int limit) {
+        return eventSearch(limit).apply(query);
+    }
+
+    /**
+     * Prepares an event search to run on another thread. Call it on the thread that changes the club;
+     * like {@link #memberSearch(int)}, the events' field values are copied here on first use.
+     *
+     * @param limit The maximum number of results.
+     * @return The search, returning the best matching events for a search text, best first.
+     */
+    public Function<String, List<Event>> eventSearch(int limit) {
+        if (eventIndex == null) {
+            eventIndex = new SearchIndex<>(event -> List.of(
+                    nullToEmpty(event.getName()),
+                    nullToEmpty(event.getLocation()),
+                    nullToEmpty(event.getDescription())), eventManager.getAllEvents());
+        }
+        SearchIndex<Event> index = eventIndex;
+        return query -> index.search(query, limit);
+    }
     
     /**
      * Gets the membership manager.
@@ -268,18 +410,64 @@ public class Club implements EventObserver {
      * @throws IllegalArgumentException If the announcement is null.
      */
     public void addAnnouncement(Announcement announcement) {
+        DomainOperationEvent operation = DomainOperationEvent.start("Club.addAnnouncement");
         if (announcement == null) {
             throw new IllegalArgumentException("Announcement cannot be null.");
         }
         this.announcements.add(announcement);
+        for (AnnouncementObserver observer : announcementObservers) {
+            observer.onAnnouncementPosted(announcement);
+        }
+        DomainOperationEvent.end(operation);
+    }
+
+    /**
+     * Adds an observer to be notified when announcements are posted or removed.
+     *
+     * @param observer The observer to add.
+     * @throws IllegalArgumentException If the observer is null.
+     */
+    public void addAnnouncementObserver(AnnouncementObserver observer) {
+        if (observer == null) {
+            throw new IllegalArgumentException("Observer cannot be null.");
+        }
+        announcementObservers.add(observer);
+    }
+
+    /**
+     * Removes an announcement observer.
+     *
+     * @param observer The observer to remove.
+     */
+    public void removeAnnouncementObserver(AnnouncementObserver observer) {
+        announcementObservers.remove(observer);
     }
     
     /**
-     * Implementation of the EventObserver interface.
-     * Creates announcements automatically when events are created or cancelled.
+     * Applies a change to the club's events without posting the automatic announcement for it.
+     * Observers are still notified. Used by callers that post the announcement themselves under an ID
+     * they choose, such as a service that logs every change it makes.
+     *
+     * @param change The change to apply.
      */
-    @Override
-    public void onEventUpdate(Event event, EventAction action) {
+    public void withoutEventAnnouncements(Runnable change) {
+        boolean previous = announcingEventChanges;
+        announcingEventChanges = false;
+        try {
+            change.run();
+        } finally {
+            announcingEventChanges = previous;
+        }
+    }
+
+    /**
+     * Gets the message of the announcement posted automatically for an event change.
+     *
+     * @param event  The event that changed.
+     * @param action The change.
+     * @return The announcement message, or an empty string if the change is not announced.
+     */
+    public static String eventAnnouncementMessage(Event event, EventAction action) {
         String message = "";
         
         switch (action) {
@@ -296,6 +484,25 @@ public class Club implements EventObserver {
                           event.getDate() + " at " + event.getTime();
                 break;
         }
+        return message;
+    }
+
+    /**
+     * Implementation of the EventObserver interface.
+     * Creates announcements automatically when events are created or cancelled.
+     */
+    @Override
+    public void onEventUpdate(Event event, EventAction action) {
+        DomainOperationEvent operation = DomainOperationEvent.start("Club.onEventUpdate");
+        if (eventIndex != null) {
+            if (action == EventAction.CANCELLED) {
+                eventIndex.remove(event);
+            } else {
+                eventIndex.update(event);
+            }
+        }
+
+        String message = announcingEventChanges ? eventAnnouncementMessage(event, action) : "";
         
         if (!message.isEmpty()) {
             // Auto-create announcement for event changes
@@ -306,5 +513,16 @@ public class Club implements EventObserver {
             );
             addAnnouncement(announcement);
         }
+        DomainOperationEvent.end(operation);
+    }
+
+    /**
+     * Replaces a null field value with an empty string for indexing.
+     *
+     * @param value The field value.
+     * @return The value, or an empty string if it is null.
+     */
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
     }
 }
\ No newline at end of file
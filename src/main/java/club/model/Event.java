@@ -15,6 +15,9 @@ public class Event {
     private String location;
     private String description;
 
+    // Incremented on every change so display models can tell when they are stale
+    private int revision;
+
     /**
      * Constructs an Event object with the specified details.
      *
@@ -68,6 +71,7 @@ public class Event {
      */
     public void setName(String name) {
         this.name = name;
+        revision++;
     }
 
     /**
@@ -86,6 +90,7 @@ public class Event {
      */
     public void setDate(LocalDate date) {
         this.date = date;
+        revision++;
     }
 
     /**
@@ -104,6 +109,7 @@ public class Event {
      */
     public void setTime(LocalTime time) {
         this.time = time;
+        revision++;
     }
 
     /**
@@ -122,6 +128,7 @@ public class Event {
      */
     public void setLocation(String location) {
         this.location = location;
+        revision++;
     }
 
     /**
@@ -140,6 +147,17 @@ public class Event {
      */
     public void setDescription(String description) {
         this.description = description;
+        revision++;
+    }
+
+    /**
+     * Gets the revision of the event.
+     * Changes whenever any of the event's details are set.
+     *
+     * @return The current revision.
+     */
+    public int getRevision() {
+        return revision;
     }
 
     /**
@@ -1,5 +1,7 @@
 package club.model;
 
+import club.metrics.DomainOperationEvent;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,6 +29,7 @@ public class EventManager {
      * @param event The event to add
      */
     public void addEvent(Event event) {
+        DomainOperationEvent operation = DomainOperationEvent.start("EventManager.addEvent");
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
@@ -36,6 +39,7 @@ public class EventManager {
         
         // Notify observers about the new event
         notifyObservers(event, EventAction.CREATED);
+        DomainOperationEvent.end(operation);
     }
     
     /**
@@ -45,6 +49,7 @@ public class EventManager {
      * @param member The member registering
      */
     public void registerMemberForEvent(Event event, Member member) {
+        DomainOperationEvent operation = DomainOperationEvent.start("EventManager.registerMemberForEvent");
         if (event == null || member == null) {
             throw new IllegalArgumentException("Event and member cannot be null");
         }
@@ -59,6 +64,7 @@ public class EventManager {
         }
         
         registrations.add(member);
+        DomainOperationEvent.end(operation);
     }
     
     /**
@@ -68,6 +74,7 @@ public class EventManager {
      * @throws IllegalArgumentException If the event is null or not found in the system
      */
     public void updateEvent(Event updatedEvent) {
+        DomainOperationEvent operation = DomainOperationEvent.start("EventManager.updateEvent");
         if (updatedEvent == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
@@ -97,6 +104,7 @@ public class EventManager {
         
         // Notify observers about the updated event
         notifyObservers(updatedEvent, EventAction.UPDATED);
+        DomainOperationEvent.end(operation);
     }
 
     /**
@@ -106,6 +114,7 @@ public class EventManager {
      * @param member The member canceling registration
      */
     public void cancelRegistration(Event event, Member member) {
+        DomainOperationEvent operation = DomainOperationEvent.start("EventManager.cancelRegistration");
         if (event == null || member == null) {
             throw new IllegalArgumentException("Event and member cannot be null");
         }
@@ -116,6 +125,7 @@ public class EventManager {
         
         List<Member> registrations = eventRegistrations.get(event);
         registrations.remove(member);
+        DomainOperationEvent.end(operation);
     }
     
     /**
@@ -221,6 +231,7 @@ public class EventManager {
      * @param event The event to cancel
      */
     public void cancelEvent(Event event) {
+        DomainOperationEvent operation = DomainOperationEvent.start("EventManager.cancelEvent");
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
@@ -232,5 +243,6 @@ public class EventManager {
             // Notify observers about the cancellation
             notifyObservers(event, EventAction.CANCELLED);
         }
+        DomainOperationEvent.end(operation);
     }
 }
\ No newline at end of file
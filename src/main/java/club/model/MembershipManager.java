@@ -1,5 +1,7 @@
 package club.model;
 
+import club.metrics.DomainOperationEvent;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +25,7 @@ public class MembershipManager {
      * @return The generated membership ID
      */
     public String registerNewMember(Member member) {
+        DomainOperationEvent operation = DomainOperationEvent.start("MembershipManager.registerNewMember");
         if (member == null) {
             throw new IllegalArgumentException("Member cannot be null");
         }
@@ -41,6 +44,7 @@ public class MembershipManager {
         );
         
         membershipHistory.add(record);
+        DomainOperationEvent.end(operation);
         return membershipId;
     }
     
@@ -51,6 +55,7 @@ public class MembershipManager {
      * @return The updated membership expiration date
      */
     public LocalDate renewMembership(Member member) {
+        DomainOperationEvent operation = DomainOperationEvent.start("MembershipManager.renewMembership");
         if (member == null) {
             throw new IllegalArgumentException("Member cannot be null");
         }
@@ -75,6 +80,7 @@ public class MembershipManager {
         
         membershipHistory.add(renewalRecord);
         member.setActive(true);
+        DomainOperationEvent.end(operation);
         
         return expiryDate;
     }
@@ -86,6 +92,7 @@ public class MembershipManager {
      * @param reason The reason for suspension
      */
     public void suspendMembership(Member member, String reason) {
+        DomainOperationEvent operation = DomainOperationEvent.start("MembershipManager.suspendMembership");
         if (member == null) {
             throw new IllegalArgumentException("Member cannot be null");
         }
@@ -105,6 +112,7 @@ public class MembershipManager {
             membershipHistory.add(suspensionRecord);
             member.setActive(false);
         }
+        DomainOperationEvent.end(operation);
     }
     
     /**
@@ -150,7 +158,7 @@ public class MembershipManager {
      * 
      * @return A new unique membership ID
      */
-    private String generateMembershipId() {
+    public String generateMembershipId() {
         String candidateId;
         boolean isUnique;
         
@@ -0,0 +1,25 @@
+package club.repository;
+
+import club.model.Admin;
+
+import java.sql.SQLException;
+
+/**
+ * Stores admins, keyed by admin ID.
+ */
+public interface AdminRepository extends EntityRepository<Admin, String> {
+
+    @Override
+    default String keyOf(Admin admin) {
+        return admin.getAdminId();
+    }
+
+    /**
+     * Reads the login details of the admin with the given email.
+     *
+     * @param email The admin's email.
+     * @return The admin's credentials, or null if no admin has the email.
+     * @throws SQLException If the admins cannot be read.
+     */
+    Credentials findCredentials(String email) throws SQLException;
+}
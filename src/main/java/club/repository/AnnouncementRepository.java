@@ -0,0 +1,24 @@
+package club.repository;
+
+import club.model.Announcement;
+
+import java.sql.SQLException;
+
+/**
+ * Stores announcements, keyed by announcement ID.
+ */
+public interface AnnouncementRepository extends EntityRepository<Announcement, Integer> {
+
+    @Override
+    default Integer keyOf(Announcement announcement) {
+        return announcement.getId();
+    }
+
+    /**
+     * Generates the next unique announcement ID.
+     *
+     * @return One more than the highest stored announcement ID, or 1 if there are none.
+     * @throws SQLException If the announcements cannot be read.
+     */
+    int nextId() throws SQLException;
+}
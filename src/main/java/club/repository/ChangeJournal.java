@@ -0,0 +1,38 @@
+package club.repository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Numbered log of every insert, update and delete made through the repositories.
+ * Sequence numbers only ever increase, so consumers can resume after the last one they processed.
+ */
+public interface ChangeJournal {
+
+    /**
+     * Reads the changes after the given sequence number, oldest first.
+     *
+     * @param afterSequence The sequence of the last change already seen, or 0 to read from the start.
+     * @param limit         The maximum number of changes to return.
+     * @return The changes.
+     * @throws SQLException If the journal cannot be read.
+     */
+    List<JournalEntry> readAfter(long afterSequence, int limit) throws SQLException;
+
+    /**
+     * Gets the sequence number of the latest change.
+     *
+     * @return The latest sequence, or 0 if nothing has been journaled.
+     * @throws SQLException If the journal cannot be read.
+     */
+    long latestSequence() throws SQLException;
+
+    /**
+     * Deletes changes up to and including the given sequence.
+     *
+     * @param throughSequence The sequence of the last change to delete.
+     * @return The number of changes deleted.
+     * @throws SQLException If the journal cannot be written.
+     */
+    int pruneThrough(long throughSequence) throws SQLException;
+}
@@ -0,0 +1,36 @@
+package club.repository;
+
+import java.sql.SQLException;
+
+/**
+ * Stores the club's name.
+ */
+public interface ClubNameRepository {
+
+    /**
+     * Reads the club's name.
+     *
+     * @return The name with its version, or null if no name has been stored.
+     * @throws SQLException If the name cannot be read.
+     */
+    Versioned<String> find() throws SQLException;
+
+    /**
+     * Stores the name for the first time.
+     *
+     * @param name The name.
+     * @return true if it was stored, false if a name was stored by someone else meanwhile.
+     * @throws SQLException If the name cannot be written.
+     */
+    boolean insert(String name) throws SQLException;
+
+    /**
+     * Replaces the name if it still has the expected version.
+     *
+     * @param name            The name.
+     * @param expectedVersion The version the name had when it was read.
+     * @return true if it was updated, false if it was changed since.
+     * @throws SQLException If the name cannot be written.
+     */
+    boolean update(String name, long expectedVersion) throws SQLException;
+}
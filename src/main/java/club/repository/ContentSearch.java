@@ -0,0 +1,21 @@
+package club.repository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Ranked full-text search over announcement messages and event names and descriptions.
+ */
+public interface ContentSearch {
+
+    /**
+     * Finds the announcements and events containing every word of the query.
+     * Each word also matches longer words it is the start of.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of hits.
+     * @return The hits, most relevant first; empty if the query has no words.
+     * @throws SQLException If the index cannot be read.
+     */
+    List<SearchHit> search(String query, int limit) throws SQLException;
+}
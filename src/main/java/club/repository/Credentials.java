@@ -0,0 +1,25 @@
+package club.repository;
+
+/**
+ * The stored login details of one admin or member, read only when someone logs in.
+ *
+ * @param kind     {@link #ADMIN} or {@link #MEMBER}.
+ * @param id       The admin ID or membership ID.
+ * @param password The stored password.
+ * @param active   Whether the account may log in; admins are always active.
+ */
+public record Credentials(String kind, String id, String password, boolean active) {
+
+    public static final String ADMIN = "admin";
+    public static final String MEMBER = "member";
+
+    /**
+     * Checks a password against the stored one.
+     *
+     * @param candidate The password entered.
+     * @return true if the passwords match.
+     */
+    public boolean matches(String candidate) {
+        return password != null && password.equals(candidate);
+    }
+}
@@ -0,0 +1,68 @@
+package club.repository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Stores one kind of club record. Updates and deletes are compare-and-set on the record's version,
+ * so callers can detect records changed by someone else since they were read.
+ *
+ * @param <T> The type of the records.
+ * @param <K> The type of the records' keys.
+ */
+public interface EntityRepository<T, K> {
+
+    /**
+     * Gets the key of a record.
+     *
+     * @param entity The record.
+     * @return The record's key.
+     */
+    K keyOf(T entity);
+
+    /**
+     * Reads all records.
+     *
+     * @return Copies of the stored records with their versions.
+     * @throws SQLException If the records cannot be read.
+     */
+    List<Versioned<T>> findAll() throws SQLException;
+
+    /**
+     * Checks whether a record with the given key is stored.
+     *
+     * @param key The key.
+     * @return true if the record exists.
+     * @throws SQLException If the store cannot be read.
+     */
+    boolean exists(K key) throws SQLException;
+
+    /**
+     * Stores a new record at version 1.
+     *
+     * @param entity The record.
+     * @return true if it was stored, false if a record with the same key or another unique field exists.
+     * @throws SQLException If the record cannot be written.
+     */
+    boolean insert(T entity) throws SQLException;
+
+    /**
+     * Replaces a record if it still has the expected version, and increments its version.
+     *
+     * @param entity          The record.
+     * @param expectedVersion The version the record had when it was read.
+     * @return true if it was updated, false if it was changed or deleted since.
+     * @throws SQLException If the record cannot be written.
+     */
+    boolean update(T entity, long expectedVersion) throws SQLException;
+
+    /**
+     * Deletes a record if it still has the expected version.
+     *
+     * @param key             The record's key.
+     * @param expectedVersion The version the record had when it was read.
+     * @return true if it was deleted, false if it was changed or deleted since.
+     * @throws SQLException If the record cannot be deleted.
+     */
+    boolean delete(K key, long expectedVersion) throws SQLException;
+}
@@ -0,0 +1,34 @@
+package club.repository;
+
+import club.model.Event;
+
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Stores events, keyed by event ID.
+ */
+public interface EventRepository extends EntityRepository<Event, Integer> {
+
+    @Override
+    default Integer keyOf(Event event) {
+        return event.getId();
+    }
+
+    /**
+     * Generates the next unique event ID.
+     *
+     * @return One more than the highest stored event ID, or 1 if there are none.
+     * @throws SQLException If the events cannot be read.
+     */
+    int nextId() throws SQLException;
+
+    /**
+     * Reads the listed columns of every event, in storage order, handing each row on as it is read
+     * rather than collecting them first. Descriptions are not read.
+     *
+     * @param consumer Receives each event's summary.
+     * @throws SQLException If the events cannot be read.
+     */
+    void streamSummaries(Consumer<EventSummary> consumer) throws SQLException;
+}
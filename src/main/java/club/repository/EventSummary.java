@@ -0,0 +1,16 @@
+package club.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The columns of an event shown in event lists and calendars, without the event's description.
+ *
+ * @param id       The event ID.
+ * @param name     The event name.
+ * @param date     The event date.
+ * @param time     The event start time.
+ * @param location The event location.
+ */
+public record EventSummary(int id, String name, LocalDate date, LocalTime time, String location) {
+}
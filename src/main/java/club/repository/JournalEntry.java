@@ -0,0 +1,14 @@
+package club.repository;
+
+/**
+ * A row of the change journal: one insert, update or delete of a persisted record.
+ *
+ * @param sequence  The position of the change in the journal; later changes have higher numbers.
+ * @param table     The table the record belongs to.
+ * @param recordKey The record's key, {@code eventId:membershipId} for registrations.
+ * @param operation The operation: {@code INSERT}, {@code UPDATE} or {@code DELETE}.
+ * @param version   The record's version after the change, or null for deletes and registrations.
+ * @param changedAt The UTC time of the change, in ISO-8601 format.
+ */
+public record JournalEntry(long sequence, String table, String recordKey, String operation, Long version, String changedAt) {
+}
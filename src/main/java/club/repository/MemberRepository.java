@@ -0,0 +1,43 @@
+package club.repository;
+
+import club.model.Member;
+
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Stores members, keyed by membership ID.
+ */
+public interface MemberRepository extends EntityRepository<Member, String> {
+
+    @Override
+    default String keyOf(Member member) {
+        return member.getMembershipId();
+    }
+
+    /**
+     * Generates the next sequential membership ID.
+     *
+     * @return The next membership ID as a 5-digit string.
+     * @throws SQLException If the members cannot be read.
+     */
+    String nextMembershipId() throws SQLException;
+
+    /**
+     * Reads the listed columns of every member, in storage order, handing each row on as it is read
+     * rather than collecting them first. Passwords are not read.
+     *
+     * @param consumer Receives each member's summary.
+     * @throws SQLException If the members cannot be read.
+     */
+    void streamSummaries(Consumer<MemberSummary> consumer) throws SQLException;
+
+    /**
+     * Reads the login details of the member with the given email.
+     *
+     * @param email The member's email.
+     * @return The member's credentials, or null if no member has the email.
+     * @throws SQLException If the members cannot be read.
+     */
+    Credentials findCredentials(String email) throws SQLException;
+}
@@ -0,0 +1,13 @@
+package club.repository;
+
+/**
+ * The columns of a member shown in member lists, without the member's password.
+ *
+ * @param membershipId The membership ID.
+ * @param name         The member's name.
+ * @param email        The member's email.
+ * @param phone        The member's phone number.
+ * @param active       Whether the membership is active.
+ */
+public record MemberSummary(String membershipId, String name, String email, String phone, boolean active) {
+}
@@ -0,0 +1,10 @@
+package club.repository;
+
+/**
+ * Identifies a member's registration for an event.
+ *
+ * @param eventId      The ID of the event.
+ * @param membershipId The membership ID of the registered member.
+ */
+public record Registration(int eventId, String membershipId) {
+}
@@ -0,0 +1,34 @@
+package club.repository;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Stores members' registrations for events.
+ */
+public interface RegistrationRepository {
+
+    /**
+     * Reads all registrations.
+     *
+     * @return The registrations.
+     * @throws SQLException If the registrations cannot be read.
+     */
+    Set<Registration> findAll() throws SQLException;
+
+    /**
+     * Stores a registration, unless it is already stored.
+     *
+     * @param registration The registration.
+     * @throws SQLException If the registration cannot be written.
+     */
+    void add(Registration registration) throws SQLException;
+
+    /**
+     * Deletes a registration, if it is stored.
+     *
+     * @param registration The registration.
+     * @throws SQLException If the registration cannot be deleted.
+     */
+    void remove(Registration registration) throws SQLException;
+}
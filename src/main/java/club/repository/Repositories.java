@@ -0,0 +1,47 @@
+package club.repository;
+
+import java.sql.SQLException;
+
+/**
+ * A storage backend for a club: one repository per kind of record, and transactions spanning them.
+ */
+public interface Repositories {
+
+    /**
+     * Work run inside a transaction.
+     */
+    @FunctionalInterface
+    interface Work {
+        /**
+         * Runs the work.
+         *
+         * @throws SQLException If a repository call fails; the transaction is rolled back.
+         */
+        void run() throws SQLException;
+    }
+
+    MemberRepository members();
+
+    AdminRepository admins();
+
+    EventRepository events();
+
+    AnnouncementRepository announcements();
+
+    RegistrationRepository registrations();
+
+    ClubNameRepository clubName();
+
+    ChangeJournal changeJournal();
+
+    ContentSearch contentSearch();
+
+    /**
+     * Runs work so that either all of its repository changes are stored or none are.
+     * Repository calls made by the work on the calling thread take part in the transaction.
+     *
+     * @param work The work to run.
+     * @throws SQLException If the work or the commit fails.
+     */
+    void inTransaction(Work work) throws SQLException;
+}
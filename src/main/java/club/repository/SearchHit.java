@@ -0,0 +1,19 @@
+package club.repository;
+
+/**
+ * A record matching a full-text search.
+ *
+ * @param kind    {@link #ANNOUNCEMENT} or {@link #EVENT}.
+ * @param id      The ID of the announcement or event.
+ * @param title   The event name, or null for announcements.
+ * @param snippet The matching text around the first match, with matched terms wrapped in
+ *                {@link #MATCH_START} and {@link #MATCH_END}.
+ * @param score   The relevance; higher is more relevant. Only comparable within one search.
+ */
+public record SearchHit(String kind, int id, String title, String snippet, double score) {
+
+    public static final String ANNOUNCEMENT = "announcement";
+    public static final String EVENT = "event";
+    public static final String MATCH_START = "<mark>";
+    public static final String MATCH_END = "</mark>";
+}
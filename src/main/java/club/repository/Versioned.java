@@ -0,0 +1,11 @@
+package club.repository;
+
+/**
+ * A stored record together with the version it had when it was read.
+ *
+ * @param entity  The record.
+ * @param version The record's version; it increases with every update.
+ * @param <T>     The type of the record.
+ */
+public record Versioned<T>(T entity, long version) {
+}
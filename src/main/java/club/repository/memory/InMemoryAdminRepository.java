@@ -0,0 +1,21 @@
+package club.repository.memory;
+
+import club.model.Admin;
+import club.repository.AdminRepository;
+import club.repository.Credentials;
+
+/**
+ * Admins held in memory, with unique emails.
+ */
+class InMemoryAdminRepository extends InMemoryEntityRepository<Admin, String> implements AdminRepository {
+
+    InMemoryAdminRepository(InMemoryRepositories repositories) {
+        super(repositories, "admins", InMemoryRepositories::copy, Admin::getEmail);
+    }
+
+    @Override
+    public Credentials findCredentials(String email) {
+        return projectByUniqueField(email,
+                admin -> new Credentials(Credentials.ADMIN, admin.getAdminId(), admin.getPassword(), true));
+    }
+}
@@ -0,0 +1,23 @@
+package club.repository.memory;
+
+import club.model.Announcement;
+import club.repository.AnnouncementRepository;
+
+/**
+ * Announcements held in memory.
+ */
+class InMemoryAnnouncementRepository extends InMemoryEntityRepository<Announcement, Integer> implements AnnouncementRepository {
+
+    InMemoryAnnouncementRepository(InMemoryRepositories repositories) {
+        super(repositories, "announcements", InMemoryRepositories::copy, null);
+    }
+
+    @Override
+    public int nextId() {
+        int max = 0;
+        for (int id : keys()) {
+            max = Math.max(max, id);
+        }
+        return max + 1;
+    }
+}
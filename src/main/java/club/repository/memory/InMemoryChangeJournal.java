@@ -0,0 +1,93 @@
+package club.repository.memory;
+
+import club.repository.ChangeJournal;
+import club.repository.JournalEntry;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The change journal held in memory, with timestamps in the same UTC format as the SQLite triggers.
+ */
+class InMemoryChangeJournal implements ChangeJournal {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    private final InMemoryRepositories repositories;
+    private final Deque<JournalEntry> entries = new ArrayDeque<>();
+    private long lastSequence;
+
+    InMemoryChangeJournal(InMemoryRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    /**
+     * Appends a change. Must be called with the repositories' lock held.
+     *
+     * @param table   The table name.
+     * @param key     The record's key.
+     * @param op      The operation.
+     * @param version The record's new version, or null.
+     */
+    void append(String table, String key, String op, Long version) {
+        entries.addLast(new JournalEntry(++lastSequence, table, key, op, version,
+                LocalDateTime.now(ZoneOffset.UTC).format(TIMESTAMP)));
+    }
+
+    /**
+     * Removes the latest change, when its transaction is rolled back.
+     * Its sequence number is not reused. Must be called with the repositories' lock held.
+     */
+    void removeLast() {
+        entries.pollLast();
+    }
+
+    @Override
+    public List<JournalEntry> readAfter(long afterSequence, int limit) {
+        repositories.lock();
+        try {
+            List<JournalEntry> changes = new ArrayList<>();
+            for (JournalEntry entry : entries) {
+                if (changes.size() >= limit) {
+                    break;
+                }
+                if (entry.sequence() > afterSequence) {
+                    changes.add(entry);
+                }
+            }
+            return changes;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public long latestSequence() {
+        repositories.lock();
+        try {
+            return entries.isEmpty() ? 0 : entries.getLast().sequence();
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public int pruneThrough(long throughSequence) {
+        repositories.lock();
+        try {
+            int pruned = 0;
+            while (!entries.isEmpty() && entries.getFirst().sequence() <= throughSequence) {
+                entries.removeFirst();
+                pruned++;
+            }
+            return pruned;
+        } finally {
+            repositories.unlock();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package club.repository.memory;
+
+import club.repository.ClubNameRepository;
+import club.repository.Versioned;
+
+/**
+ * The club name held in memory.
+ */
+class InMemoryClubNameRepository implements ClubNameRepository {
+
+    private final InMemoryRepositories repositories;
+    private Versioned<String> name;
+
+    InMemoryClubNameRepository(InMemoryRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public Versioned<String> find() {
+        repositories.lock();
+        try {
+            return name;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public boolean insert(String newName) {
+        repositories.lock();
+        try {
+            if (name != null) {
+                return false;
+            }
+            name = new Versioned<>(newName, 1);
+            repositories.changed("club", "1", "INSERT", 1L, () -> name = null);
+            return true;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public boolean update(String newName, long expectedVersion) {
+        repositories.lock();
+        try {
+            Versioned<String> previous = name;
+            if (previous == null || previous.version() != expectedVersion) {
+                return false;
+            }
+            name = new Versioned<>(newName, expectedVersion + 1);
+            repositories.changed("club", "1", "UPDATE", expectedVersion + 1, () -> name = previous);
+            return true;
+        } finally {
+            repositories.unlock();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package club.repository.memory;
+
+import club.model.Announcement;
+import club.model.Event;
+import club.repository.ContentSearch;
+import club.repository.SearchHit;
+import club.repository.Versioned;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text search over the announcements and events held in memory, by scanning them.
+ * Matches words by prefix like the SQLite index, and ranks by the number of matches, weighting
+ * event names like the SQLite index does. Words are not stemmed.
+ */
+class InMemoryContentSearch implements ContentSearch {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 5;
+    private static final int SNIPPET_WORDS = 16;
+    private static final int SNIPPET_LEAD = 4;
+
+    private final InMemoryAnnouncementRepository announcements;
+    private final InMemoryEventRepository events;
+
+    InMemoryContentSearch(InMemoryAnnouncementRepository announcements, InMemoryEventRepository events) {
+        this.announcements = announcements;
+        this.events = events;
+    }
+
+    @Override
+    public List<SearchHit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>();
+        if (query != null) {
+            Matcher words = WORD.matcher(query);
+            while (words.find()) {
+                terms.add(words.group().toLowerCase(Locale.ROOT));
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return hits;
+        }
+
+        for (Versioned<Announcement> row : announcements.findAll()) {
+            Announcement announcement = row.entity();
+            addIfMatching(hits, terms, SearchHit.ANNOUNCEMENT, announcement.getId(), null, announcement.getMessage());
+        }
+        for (Versioned<Event> row : events.findAll()) {
+            Event event = row.entity();
+            addIfMatching(hits, terms, SearchHit.EVENT, event.getId(), event.getName(), event.getDescription());
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Adds a hit for a record if every term matches its title or body.
+     *
+     * @param hits  Collects the hits.
+     * @param terms The lower-case query terms.
+     * @param kind  The kind of record.
+     * @param id    The record's ID.
+     * @param title The record's title, or null.
+     * @param body  The record's text.
+     */
+    private static void addIfMatching(List<SearchHit> hits, List<String> terms, String kind, int id, String title, String body) {
+        int score = 0;
+        for (String term : terms) {
+            int matches = TITLE_WEIGHT * countMatches(title, term) + countMatches(body, term);
+            if (matches == 0) {
+                return;
+            }
+            score += matches;
+        }
+        String snippet = countAnyMatches(body, terms) > 0 ? snippet(body, terms) : snippet(title, terms);
+        hits.add(new SearchHit(kind, id, title, snippet, score));
+    }
+
+    /**
+     * Counts the words of a text that start with a term.
+     *
+     * @param text The text, or null.
+     * @param term The lower-case term.
+     * @return The number of matching words.
+     */
+    private static int countMatches(String text, String term) {
+        if (text == null) {
+            return 0;
+        }
+        int count = 0;
+        Matcher words = WORD.matcher(text);
+        while (words.find()) {
+            if (words.group().toLowerCase(Locale.ROOT).startsWith(term)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the words of a text that start with any of the terms.
+     *
+     * @param text  The text, or null.
+     * @param terms The lower-case terms.
+     * @return The number of matches.
+     */
+    private static int countAnyMatches(String text, List<String> terms) {
+        int count = 0;
+        for (String term : terms) {
+            count += countMatches(text, term);
+        }
+        return count;
+    }
+
+    /**
+     * Cuts the text around its first match and marks the matching words, like SQLite's {@code snippet()}.
+     *
+     * @param text  The text, or null.
+     * @param terms The lower-case terms.
+     * @return The snippet, or null if there is no text.
+     */
+    private static String snippet(String text, List<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> spans = new ArrayList<>();
+        List<Boolean> matching = new ArrayList<>();
+        int first = -1;
+        Matcher words = WORD.matcher(text);
+        while (words.find()) {
+            String word = words.group().toLowerCase(Locale.ROOT);
+            boolean match = terms.stream().anyMatch(word::startsWith);
+            if (match && first < 0) {
+                first = spans.size();
+            }
+            spans.add(new int[]{words.start(), words.end()});
+            matching.add(match);
+        }
+        if (spans.isEmpty()) {
+            return text;
+        }
+
+        int start = Math.max(0, Math.min(first - SNIPPET_LEAD, spans.size() - SNIPPET_WORDS));
+        int end = Math.min(spans.size(), start + SNIPPET_WORDS);
+        StringBuilder snippet = new StringBuilder(start > 0 ? "…" : "");
+        int position = start > 0 ? spans.get(start)[0] : 0;
+        for (int i = start; i < end; i++) {
+            int[] span = spans.get(i);
+            snippet.append(text, position, span[0]);
+            if (matching.get(i)) {
+                snippet.append(SearchHit.MATCH_START).append(text, span[0], span[1]).append(SearchHit.MATCH_END);
+            } else {
+                snippet.append(text, span[0], span[1]);
+            }
+            position = span[1];
+        }
+        if (end < spans.size()) {
+            snippet.append("…");
+        } else {
+            snippet.append(text, position, text.length());
+        }
+        return snippet.toString();
+    }
+}
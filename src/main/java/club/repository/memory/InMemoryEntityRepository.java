@@ -0,0 +1,237 @@
+package club.repository.memory;
+
+import club.repository.EntityRepository;
+import club.repository.Versioned;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A repository held in a map, in insertion order, like the rows of a SQLite table.
+ *
+ * @param <T> The type of the records.
+ * @param <K> The type of the records' keys.
+ */
+abstract class InMemoryEntityRepository<T, K> implements EntityRepository<T, K> {
+
+    /**
+     * A stored record.
+     *
+     * @param entity  The stored copy of the record.
+     * @param version The record's version.
+     * @param rowId   The insertion number, like SQLite's row ID.
+     */
+    private record Row<T>(T entity, long version, long rowId) {
+    }
+
+    private final InMemoryRepositories repositories;
+    private final String table;
+    private final UnaryOperator<T> copier;
+    private final Function<T, String> uniqueField;
+    private final Map<K, Row<T>> rows = new LinkedHashMap<>();
+    private final Map<String, K> keysByUniqueField = new HashMap<>();
+    private long lastRowId;
+
+    /**
+     * Constructs a repository.
+     *
+     * @param repositories The repositories sharing the lock and journal.
+     * @param table        The table name used in the journal.
+     * @param copier       Copies a record.
+     * @param uniqueField  Gets a field no two records may share, or null if there is none.
+     */
+    InMemoryEntityRepository(InMemoryRepositories repositories, String table, UnaryOperator<T> copier,
+                             Function<T, String> uniqueField) {
+        this.repositories = repositories;
+        this.table = table;
+        this.copier = copier;
+        this.uniqueField = uniqueField;
+    }
+
+    @Override
+    public List<Versioned<T>> findAll() {
+        repositories.lock();
+        try {
+            List<Versioned<T>> all = new ArrayList<>(rows.size());
+            for (Row<T> row : rows.values()) {
+                all.add(new Versioned<>(copier.apply(row.entity()), row.version()));
+            }
+            return all;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public boolean exists(K key) {
+        repositories.lock();
+        try {
+            return rows.containsKey(key);
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public boolean insert(T entity) {
+        K key = keyOf(entity);
+        repositories.lock();
+        try {
+            if (rows.containsKey(key) || clashes(entity, key)) {
+                return false;
+            }
+            put(key, new Row<>(copier.apply(entity), 1, ++lastRowId));
+            repositories.changed(table, String.valueOf(key), "INSERT", 1L, () -> remove(key));
+            return true;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public boolean update(T entity, long expectedVersion) {
+        K key = keyOf(entity);
+        repositories.lock();
+        try {
+            Row<T> row = rows.get(key);
+            if (row == null || row.version() != expectedVersion || clashes(entity, key)) {
+                return false;
+            }
+            put(key, new Row<>(copier.apply(entity), expectedVersion + 1, row.rowId()));
+            repositories.changed(table, String.valueOf(key), "UPDATE", expectedVersion + 1, () -> put(key, row));
+            return true;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(K key, long expectedVersion) {
+        repositories.lock();
+        try {
+            Row<T> row = rows.get(key);
+            if (row == null || row.version() != expectedVersion) {
+                return false;
+            }
+            remove(key);
+            repositories.changed(table, String.valueOf(key), "DELETE", null, () -> put(key, row));
+            return true;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    /**
+     * Gets the highest row ID still stored, like {@code SELECT MAX(id)}.
+     *
+     * @return The highest row ID, or 0 if the repository is empty.
+     */
+    long maxRowId() {
+        repositories.lock();
+        try {
+            long max = 0;
+            for (Row<T> row : rows.values()) {
+                max = Math.max(max, row.rowId());
+            }
+            return max;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    /**
+     * Gets the keys of the stored records.
+     *
+     * @return A copy of the keys.
+     */
+    List<K> keys() {
+        repositories.lock();
+        try {
+            return new ArrayList<>(rows.keySet());
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    /**
+     * Projects every stored record without copying it, in insertion order.
+     * The projections are taken under the lock and returned, so callers can hand them on without holding it.
+     *
+     * @param projection Picks the wanted fields of a record.
+     * @param <R>        The type of the projection.
+     * @return The projections.
+     */
+    <R> List<R> project(Function<T, R> projection) {
+        repositories.lock();
+        try {
+            List<R> projected = new ArrayList<>(rows.size());
+            for (Row<T> row : rows.values()) {
+                projected.add(projection.apply(row.entity()));
+            }
+            return projected;
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    /**
+     * Projects the record holding a value of the unique field, like a lookup on a unique index.
+     *
+     * @param value      The value of the unique field.
+     * @param projection Picks the wanted fields of the record.
+     * @param <R>        The type of the projection.
+     * @return The projection, or null if no record has the value.
+     */
+    <R> R projectByUniqueField(String value, Function<T, R> projection) {
+        repositories.lock();
+        try {
+            K key = keysByUniqueField.get(value);
+            return key == null ? null : projection.apply(rows.get(key).entity());
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    /**
+     * Checks whether another record already has the record's unique field.
+     *
+     * @param entity The record.
+     * @param key    The record's key.
+     * @return true if the field is taken by a record with another key.
+     */
+    private boolean clashes(T entity, K key) {
+        if (uniqueField == null) {
+            return false;
+        }
+        K holder = keysByUniqueField.get(uniqueField.apply(entity));
+        return holder != null && !holder.equals(key);
+    }
+
+    /**
+     * Stores a row, replacing the key's previous row in place so the insertion order is kept.
+     */
+    private void put(K key, Row<T> row) {
+        Row<T> previous = rows.put(key, row);
+        if (uniqueField != null) {
+            if (previous != null) {
+                keysByUniqueField.remove(uniqueField.apply(previous.entity()));
+            }
+            keysByUniqueField.put(uniqueField.apply(row.entity()), key);
+        }
+    }
+
+    /**
+     * Removes a row and its unique field.
+     */
+    private void remove(K key) {
+        Row<T> row = rows.remove(key);
+        if (row != null && uniqueField != null) {
+            keysByUniqueField.remove(uniqueField.apply(row.entity()));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package club.repository.memory;
+
+import club.model.Event;
+import club.repository.EventRepository;
+import club.repository.EventSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Events held in memory, without their registrations.
+ */
+class InMemoryEventRepository extends InMemoryEntityRepository<Event, Integer> implements EventRepository {
+
+    InMemoryEventRepository(InMemoryRepositories repositories) {
+        super(repositories, "events", InMemoryRepositories::copy, null);
+    }
+
+    @Override
+    public int nextId() {
+        int max = 0;
+        for (int id : keys()) {
+            max = Math.max(max, id);
+        }
+        return max + 1;
+    }
+
+    @Override
+    public void streamSummaries(Consumer<EventSummary> consumer) {
+        project(event -> new EventSummary(event.getId(), event.getName(), event.getDate(), event.getTime(),
+                event.getLocation())).forEach(consumer);
+    }
+}
@@ -0,0 +1,35 @@
+package club.repository.memory;
+
+import club.model.Member;
+import club.repository.Credentials;
+import club.repository.MemberRepository;
+import club.repository.MemberSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Members held in memory, with unique emails.
+ */
+class InMemoryMemberRepository extends InMemoryEntityRepository<Member, String> implements MemberRepository {
+
+    InMemoryMemberRepository(InMemoryRepositories repositories) {
+        super(repositories, "members", InMemoryRepositories::copy, Member::getEmail);
+    }
+
+    @Override
+    public String nextMembershipId() {
+        return String.format("%05d", maxRowId() + 1); // Ensure the ID is always 5 digits
+    }
+
+    @Override
+    public void streamSummaries(Consumer<MemberSummary> consumer) {
+        project(member -> new MemberSummary(member.getMembershipId(), member.getName(), member.getEmail(),
+                member.getPhone(), member.isActive())).forEach(consumer);
+    }
+
+    @Override
+    public Credentials findCredentials(String email) {
+        return projectByUniqueField(email, member -> new Credentials(Credentials.MEMBER, member.getMembershipId(),
+                member.getPassword(), member.isActive()));
+    }
+}
@@ -0,0 +1,60 @@
+package club.repository.memory;
+
+import club.repository.Registration;
+import club.repository.RegistrationRepository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Registrations held in memory.
+ */
+class InMemoryRegistrationRepository implements RegistrationRepository {
+
+    private final InMemoryRepositories repositories;
+    private final Set<Registration> registrations = new HashSet<>();
+
+    InMemoryRegistrationRepository(InMemoryRepositories repositories) {
+        this.repositories = repositories;
+    }
+
+    @Override
+    public Set<Registration> findAll() {
+        repositories.lock();
+        try {
+            return new HashSet<>(registrations);
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public void add(Registration registration) {
+        repositories.lock();
+        try {
+            if (registrations.add(registration)) {
+                repositories.changed("event_registrations", key(registration), "INSERT", null,
+                        () -> registrations.remove(registration));
+            }
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Registration registration) {
+        repositories.lock();
+        try {
+            if (registrations.remove(registration)) {
+                repositories.changed("event_registrations", key(registration), "DELETE", null,
+                        () -> registrations.add(registration));
+            }
+        } finally {
+            repositories.unlock();
+        }
+    }
+
+    private static String key(Registration registration) {
+        return registration.eventId() + ":" + registration.membershipId();
+    }
+}
@@ -0,0 +1,184 @@
+package club.repository.memory;
+
+import club.model.Admin;
+import club.model.Announcement;
+import club.model.Event;
+import club.model.Member;
+import club.repository.AdminRepository;
+import club.repository.AnnouncementRepository;
+import club.repository.ChangeJournal;
+import club.repository.ClubNameRepository;
+import club.repository.ContentSearch;
+import club.repository.EventRepository;
+import club.repository.MemberRepository;
+import club.repository.RegistrationRepository;
+import club.repository.Repositories;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Repositories held entirely in the heap, for benchmarks, tests of the service layer and headless runs
+ * that should not touch the disk. They behave like the SQLite ones: records are copied in and out,
+ * versions are compared and incremented, unique emails are enforced and every change is journaled.
+ *
+ * <p>All repositories share one lock. A transaction holds it for its whole duration and undoes its
+ * changes if the work fails, so other threads never see a partial save.
+ */
+public class InMemoryRepositories implements Repositories {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Runnable> undoLog; // Non-null while a transaction runs; guarded by the lock
+
+    private final InMemoryChangeJournal changeJournal = new InMemoryChangeJournal(this);
+    private final InMemoryMemberRepository members = new InMemoryMemberRepository(this);
+    private final AdminRepository admins = new InMemoryAdminRepository(this);
+    private final InMemoryEventRepository events = new InMemoryEventRepository(this);
+    private final InMemoryAnnouncementRepository announcements = new InMemoryAnnouncementRepository(this);
+    private final InMemoryRegistrationRepository registrations = new InMemoryRegistrationRepository(this);
+    private final InMemoryClubNameRepository clubName = new InMemoryClubNameRepository(this);
+    private final InMemoryContentSearch contentSearch = new InMemoryContentSearch(announcements, events);
+
+    @Override
+    public MemberRepository members() {
+        return members;
+    }
+
+    @Override
+    public AdminRepository admins() {
+        return admins;
+    }
+
+    @Override
+    public EventRepository events() {
+        return events;
+    }
+
+    @Override
+    public AnnouncementRepository announcements() {
+        return announcements;
+    }
+
+    @Override
+    public RegistrationRepository registrations() {
+        return registrations;
+    }
+
+    @Override
+    public ClubNameRepository clubName() {
+        return clubName;
+    }
+
+    @Override
+    public ChangeJournal changeJournal() {
+        return changeJournal;
+    }
+
+    @Override
+    public ContentSearch contentSearch() {
+        return contentSearch;
+    }
+
+    @Override
+    public void inTransaction(Work work) throws SQLException {
+        lock.lock();
+        try {
+            if (undoLog != null) {
+                work.run(); // Joins the running transaction
+                return;
+            }
+            undoLog = new ArrayList<>();
+            try {
+                work.run();
+            } catch (SQLException | RuntimeException e) {
+                for (int i = undoLog.size() - 1; i >= 0; i--) {
+                    undoLog.get(i).run();
+                }
+                throw e;
+            } finally {
+                undoLog = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the lock shared by all repositories.
+     */
+    void lock() {
+        lock.lock();
+    }
+
+    /**
+     * Releases the lock shared by all repositories.
+     */
+    void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Records a change, with the action that reverts it if the running transaction fails.
+     * Must be called with the lock held.
+     *
+     * @param table   The table name, as in the SQLite journal.
+     * @param key     The record's key.
+     * @param op      The operation: INSERT, UPDATE or DELETE.
+     * @param version The record's new version, or null for deletes and registrations.
+     * @param undo    Reverts the change.
+     */
+    void changed(String table, String key, String op, Long version, Runnable undo) {
+        changeJournal.append(table, key, op, version);
+        if (undoLog != null) {
+            undoLog.add(() -> {
+                undo.run();
+                changeJournal.removeLast(); // Undone in reverse order, so the last entry is this change's
+            });
+        }
+    }
+
+    /**
+     * Copies a member, so callers never share instances with the store.
+     *
+     * @param member The member.
+     * @return The copy.
+     */
+    static Member copy(Member member) {
+        Member copy = new Member(member.getName(), member.getEmail(), member.getPhone(), member.isActive(), member.getPassword());
+        copy.setMembershipId(member.getMembershipId());
+        return copy;
+    }
+
+    /**
+     * Copies an admin, so callers never share instances with the store.
+     *
+     * @param admin The admin.
+     * @return The copy.
+     */
+    static Admin copy(Admin admin) {
+        return new Admin(admin.getName(), admin.getEmail(), admin.getAdminId(), admin.getPassword());
+    }
+
+    /**
+     * Copies an event without its registrations, which are stored separately.
+     *
+     * @param event The event.
+     * @return The copy.
+     */
+    static Event copy(Event event) {
+        return new Event(event.getId(), event.getName(), event.getDate(), event.getTime(),
+                event.getLocation(), event.getDescription());
+    }
+
+    /**
+     * Copies an announcement, so callers never share instances with the store.
+     *
+     * @param announcement The announcement.
+     * @return The copy.
+     */
+    static Announcement copy(Announcement announcement) {
+        return new Announcement(announcement.getId(), announcement.getMessage(), announcement.getDateTime());
+    }
+}
@@ -0,0 +1,479 @@
+package club.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory typeahead index over the text fields of model objects.
+ * Every token of every field is indexed by its leading characters (edge n-grams),
+ * so a query matches entries whose tokens start with each of the query's tokens.
+ * Entries are identified by reference and can be added, updated and removed incrementally.
+ * Field values are always read on the thread that adds or updates an entry, never while searching.
+ *
+ * @param <T> The type of the indexed entries.
+ */
+public class SearchIndex<T> {
+
+    // Postings are kept for short prefixes only; longer query tokens are verified per candidate
+    private static final int POSTING_PREFIX_LENGTH = 4;
+    private static final int EXACT_MATCH_SCORE = 3;
+    private static final int PREFIX_MATCH_SCORE = 2;
+
+    private final Function<T, List<String>> fieldExtractor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<String, Integer> tokenCounts = new HashMap<>();
+    private final Map<T, Integer> docIds = new IdentityHashMap<>();
+    private final List<T> docs = new ArrayList<>();
+    private final List<String[]> docTokens = new ArrayList<>();
+    private int removedCount;
+
+    // The initial entries and their field values, indexed by the first search; null once filled
+    private List<T> unfilledEntries;
+    private List<List<String>> unfilledFields;
+
+    // Changes made before the fill, applied after it so they win over the initial copy; null once filled
+    private final Lock pendingLock = new ReentrantLock();
+    private volatile List<PendingChange<T>> pendingChanges;
+
+    /**
+     * Constructs an empty search index.
+     *
+     * @param fieldExtractor Returns the searchable field values of an entry.
+     */
+    public SearchIndex(Function<T, List<String>> fieldExtractor) {
+        if (fieldExtractor == null) {
+            throw new IllegalArgumentException("Field extractor cannot be null");
+        }
+        this.fieldExtractor = fieldExtractor;
+    }
+
+    /**
+     * Constructs a search index over the given entries, to be filled by its first search.
+     * The field values of the entries are copied here, so the index can be filled on another thread
+     * without reading the entries. Until it is filled, updates and removals are queued and applied after
+     * the fill, and no search sees a partly filled index.
+     *
+     * @param fieldExtractor Returns the searchable field values of an entry.
+     * @param entries        The entries to index.
+     */
+    public SearchIndex(Function<T, List<String>> fieldExtractor, Collection<? extends T> entries) {
+        this(fieldExtractor);
+        unfilledEntries = new ArrayList<>(entries.size());
+        unfilledFields = new ArrayList<>(entries.size());
+        for (T entry : entries) {
+            unfilledEntries.add(entry);
+            unfilledFields.add(fieldExtractor.apply(entry));
+        }
+        pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Adds an entry to the index, or re-indexes it if it is already present.
+     *
+     * @param entry The entry to index.
+     */
+    public void update(T entry) {
+        if (entry == null) {
+            throw new IllegalArgumentException("Entry cannot be null");
+        }
+        List<String> fields = fieldExtractor.apply(entry);
+        if (queued(entry, fields)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeEntry(entry);
+            indexEntry(entry, entryTokens(fields));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an entry from the index.
+     *
+     * @param entry The entry to remove.
+     */
+    public void remove(T entry) {
+        if (queued(entry, null)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeEntry(entry);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of entries in the index.
+     *
+     * @return The number of indexed entries.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the best matching entries for a query.
+     * Every query token must be the start of a token of the entry; exact token
+     * matches rank above prefix matches and ties keep indexing order.
+     *
+     * @param query The text typed by the user.
+     * @param limit The maximum number of results.
+     * @return The matching entries, best first. Empty if the query has no tokens.
+     */
+    public List<T> search(String query, int limit) {
+        String[] queryTokens = tokenize(query == null ? "" : query);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return new ArrayList<>();
+        }
+        if (pendingChanges != null) {
+            fill();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Intersect the posting lists, shortest first, and verify the query tokens per candidate
+            IntList[] lists = new IntList[queryTokens.length];
+            int maxScore = 0;
+            for (int t = 0; t < queryTokens.length; t++) {
+                lists[t] = postings.get(prefixKey(queryTokens[t]));
+                if (lists[t] == null) {
+                    return new ArrayList<>();
+                }
+                maxScore += tokenCounts.containsKey(queryTokens[t]) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE;
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            int[] cursors = new int[lists.length];
+
+            PriorityQueue<long[]> best = new PriorityQueue<>(limit + 1,
+                    (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(b[1], a[1]));
+            IntList candidates = lists[0];
+            for (int i = 0; i < candidates.size; i++) {
+                int docId = candidates.values[i];
+                String[] tokens = docTokens.get(docId);
+                if (tokens == null || !containedInAll(docId, lists, cursors)) {
+                    continue; // Removed entry awaiting compaction, or missing a query prefix
+                }
+                int score = score(tokens, queryTokens);
+                if (score > 0) {
+                    best.offer(new long[]{score, docId});
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                    // Candidates are in ascending order, so later ones can no longer displace a full top list
+                    if (best.size() == limit && best.peek()[0] == maxScore) {
+                        break;
+                    }
+                }
+            }
+
+            List<T> results = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                results.add(docs.get((int) best.poll()[1]));
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Queues a change if the index has not been filled yet.
+     *
+     * @param entry  The entry that changed.
+     * @param fields The entry's new field values, or null if it was removed.
+     * @return true if the change was queued, false if it must be applied now.
+     */
+    private boolean queued(T entry, List<String> fields) {
+        if (pendingChanges == null) {
+            return false;
+        }
+        pendingLock.lock();
+        try {
+            List<PendingChange<T>> pending = pendingChanges;
+            if (pending == null) {
+                return false;
+            }
+            pending.add(new PendingChange<>(entry, fields));
+            return true;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * Indexes the copied entries, then applies the changes queued meanwhile.
+     * Changes are only blocked while the queue is applied, not while the copy is indexed.
+     */
+    private void fill() {
+        lock.writeLock().lock();
+        try {
+            if (unfilledEntries == null) {
+                return; // Filled by a concurrent search
+            }
+            for (int i = 0; i < unfilledEntries.size(); i++) {
+                T entry = unfilledEntries.get(i);
+                removeEntry(entry);
+                indexEntry(entry, entryTokens(unfilledFields.get(i)));
+            }
+            unfilledEntries = null;
+            unfilledFields = null;
+
+            pendingLock.lock();
+            try {
+                for (PendingChange<T> change : pendingChanges) {
+                    removeEntry(change.entry());
+                    if (change.fields() != null) {
+                        indexEntry(change.entry(), entryTokens(change.fields()));
+                    }
+                }
+                pendingChanges = null;
+            } finally {
+                pendingLock.unlock();
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a document appears in every posting list after the first.
+     * Cursors only move forward because candidates are visited in ascending order.
+     *
+     * @param docId   The candidate document ID.
+     * @param lists   The posting lists of the query tokens, shortest first.
+     * @param cursors The current position in each posting list.
+     * @return true if the document is in all of the lists.
+     */
+    private static boolean containedInAll(int docId, IntList[] lists, int[] cursors) {
+        for (int l = 1; l < lists.length; l++) {
+            IntList list = lists[l];
+            int cursor = cursors[l];
+            while (cursor < list.size && list.values[cursor] < docId) {
+                cursor++;
+            }
+            cursors[l] = cursor;
+            if (cursor == list.size || list.values[cursor] != docId) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scores an entry against the query tokens.
+     *
+     * @param tokens      The tokens of the entry.
+     * @param queryTokens The tokens of the query.
+     * @return The score, or 0 if any query token does not match.
+     */
+    private int score(String[] tokens, String[] queryTokens) {
+        int total = 0;
+        for (String queryToken : queryTokens) {
+            int tokenScore = 0;
+            for (String token : tokens) {
+                if (token.startsWith(queryToken)) {
+                    if (token.length() == queryToken.length()) {
+                        tokenScore = EXACT_MATCH_SCORE;
+                        break;
+                    }
+                    tokenScore = PREFIX_MATCH_SCORE;
+                }
+            }
+            if (tokenScore == 0) {
+                return 0;
+            }
+            total += tokenScore;
+        }
+        return total;
+    }
+
+    /**
+     * Splits the field values of an entry into its distinct tokens.
+     *
+     * @param fields The field values of the entry.
+     * @return The tokens to index the entry under.
+     */
+    private static String[] entryTokens(List<String> fields) {
+        List<String> tokens = new ArrayList<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String[] fieldTokens = tokenize(field);
+            for (String token : fieldTokens) {
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+            }
+
+            // Also index the field without separators so "0412 345" and "MEM-1A2B" match as typed
+            if (fieldTokens.length > 1) {
+                String compact = String.join("", fieldTokens);
+                if (!tokens.contains(compact)) {
+                    tokens.add(compact);
+                }
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * Indexes a single entry under a new document ID. Caller must hold the write lock.
+     *
+     * @param entry  The entry to index.
+     * @param tokens The tokens of the entry.
+     */
+    private void indexEntry(T entry, String[] tokens) {
+        int docId = docs.size();
+        docs.add(entry);
+        docTokens.add(tokens);
+        docIds.put(entry, docId);
+
+        for (String token : tokens) {
+            tokenCounts.merge(token, 1, Integer::sum);
+            int length = Math.min(token.length(), POSTING_PREFIX_LENGTH);
+            for (int i = 1; i <= length; i++) {
+                postings.computeIfAbsent(token.substring(0, i), key -> new IntList()).addUnique(docId);
+            }
+        }
+    }
+
+    /**
+     * Marks an entry as removed. Its postings are dropped on the next compaction.
+     * Caller must hold the write lock.
+     *
+     * @param entry The entry to remove.
+     */
+    private void removeEntry(T entry) {
+        Integer docId = docIds.remove(entry);
+        if (docId != null) {
+            for (String token : docTokens.get(docId)) {
+                tokenCounts.computeIfPresent(token, (key, count) -> count > 1 ? count - 1 : null);
+            }
+            docs.set(docId, null);
+            docTokens.set(docId, null);
+            removedCount++;
+        }
+    }
+
+    /**
+     * Rebuilds the index from the stored tokens once removed entries outnumber the live ones.
+     * Caller must hold the write lock.
+     */
+    private void compactIfNeeded() {
+        if (removedCount < 1024 || removedCount < docIds.size()) {
+            return;
+        }
+        List<T> live = new ArrayList<>();
+        List<String[]> liveTokens = new ArrayList<>();
+        for (int docId = 0; docId < docs.size(); docId++) {
+            if (docs.get(docId) != null) {
+                live.add(docs.get(docId));
+                liveTokens.add(docTokens.get(docId));
+            }
+        }
+        postings.clear();
+        tokenCounts.clear();
+        docIds.clear();
+        docs.clear();
+        docTokens.clear();
+        removedCount = 0;
+        for (int i = 0; i < live.size(); i++) {
+            indexEntry(live.get(i), liveTokens.get(i));
+        }
+    }
+
+    /**
+     * Gets the posting key for a query token.
+     *
+     * @param token The query token.
+     * @return The token truncated to the indexed prefix length.
+     */
+    private static String prefixKey(String token) {
+        return token.length() > POSTING_PREFIX_LENGTH ? token.substring(0, POSTING_PREFIX_LENGTH) : token;
+    }
+
+    /**
+     * Splits text into lower-case letter and digit tokens.
+     *
+     * @param text The text to split.
+     * @return The distinct tokens of the text, in order of appearance.
+     */
+    private static String[] tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                String token = current.toString();
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                current.setLength(0);
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * A change made before the index was filled.
+     *
+     * @param entry  The entry that changed.
+     * @param fields The entry's new field values, or null if it was removed.
+     */
+    private record PendingChange<T>(T entry, List<String> fields) {
+    }
+
+    /**
+     * Growable list of ascending document IDs.
+     */
+    private static final class IntList {
+        private int[] values = new int[2];
+        private int size;
+
+        /**
+         * Appends a document ID unless it is already the last one added.
+         * IDs are assigned in increasing order, so this keeps the list free of duplicates.
+         *
+         * @param value The document ID.
+         */
+        void addUnique(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
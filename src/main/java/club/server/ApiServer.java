@@ -0,0 +1,655 @@
+package club.server;
+
+import club.repository.JournalEntry;
+import club.repository.SearchHit;
+import club.model.Announcement;
+import club.model.Event;
+import club.model.Member;
+import club.service.ChangeFeed;
+import club.service.ClubRegistry;
+import club.service.ClubService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Embedded HTTP server exposing the club as a read-only JSON API.
+ * Every exchange is handled on its own virtual thread, so many concurrent clients are cheap.
+ *
+ * <p>Endpoints (all GET, paged with {@code ?page=} and {@code ?size=}):
+ * <ul>
+ *     <li>{@code /api/members}</li>
+ *     <li>{@code /api/events}</li>
+ *     <li>{@code /api/events/{id}/registrations}</li>
+ *     <li>{@code /api/announcements}</li>
+ * </ul>
+ * {@code /api/changes?after=} returns the persisted changes after a journal sequence, for exporters and replicas.
+ * {@code /api/search?q=} runs a ranked full-text search over saved announcements and events.
+ * Responses carry an ETag and honour {@code If-None-Match} with 304 Not Modified.
+ *
+ * <p>{@code /api/stream} pushes announcement and event changes as server-sent events.
+ * Clients resume from the {@code Last-Event-ID} header (or {@code ?lastEventId=});
+ * each open stream costs one parked virtual thread.
+ *
+ * <p>With a {@link ClubRegistry}, {@code /api/clubs} lists the hosted clubs, and every endpoint above is also
+ * served for one club under {@code /api/clubs/{clubId}}, such as {@code /api/clubs/tennis/members}.
+ * The club is loaded on its first request and stays open while requests, including open streams, use it.
+ * The {@value ClubRegistry#DEFAULT_CLUB_ID} club is the server's own club service.
+ *
+ * <p>The responses include members' names, emails and phone numbers, so the server listens on the loopback
+ * interface unless another address is given, and then only with an access token. When a token is set,
+ * every request must carry it as {@code Authorization: Bearer <token>} or is refused with 401 Unauthorized.
+ */
+public class ApiServer implements AutoCloseable {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int BACKLOG = 4096;
+    private static final long HEARTBEAT_SECONDS = 15;
+    private static final int RETRY_MILLIS = 3000;
+    private static final String CLUBS_PATH = "/api/clubs";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    static {
+        // Headers and body are written separately, so without TCP_NODELAY every response waits on delayed ACKs
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ClubService clubService;
+    private final ClubRegistry clubRegistry;
+    private final byte[] accessToken;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an API server for the given club service, listening on the loopback interface.
+     * Call {@link #start()} to accept requests.
+     *
+     * @param clubService The service to read club data from.
+     * @param port        The port to listen on, or 0 for any free port.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public ApiServer(ClubService clubService, int port) throws IOException {
+        this(clubService, null, port);
+    }
+
+    /**
+     * Creates an API server for the given club service and the clubs of a registry,
+     * listening on the loopback interface. Call {@link #start()} to accept requests.
+     *
+     * @param clubService  The service of the server's own club, also served as the default club.
+     * @param clubRegistry The registry of the other hosted clubs, or null to serve only the own club.
+     * @param port         The port to listen on, or 0 for any free port.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public ApiServer(ClubService clubService, ClubRegistry clubRegistry, int port) throws IOException {
+        this(clubService, clubRegistry, new InetSocketAddress(InetAddress.getLoopbackAddress(), port), null);
+    }
+
+    /**
+     * Creates an API server listening on the given address. Call {@link #start()} to accept requests.
+     *
+     * @param clubService  The service of the server's own club, also served as the default club.
+     * @param clubRegistry The registry of the other hosted clubs, or null to serve only the own club.
+     * @param address      The address to listen on.
+     * @param accessToken  The token every request must present, or null to accept requests without one.
+     * @throws IllegalArgumentException If the address is not a loopback address and no token is given.
+     * @throws IOException              If the server socket cannot be opened.
+     */
+    public ApiServer(ClubService clubService, ClubRegistry clubRegistry, InetSocketAddress address, String accessToken)
+            throws IOException {
+        boolean loopback = address.getAddress() != null && address.getAddress().isLoopbackAddress();
+        boolean hasToken = accessToken != null && !accessToken.isBlank();
+        if (!loopback && !hasToken) {
+            throw new IllegalArgumentException("An access token is required to serve on " + address.getHostString());
+        }
+        this.clubService = clubService;
+        this.clubRegistry = clubRegistry;
+        this.accessToken = hasToken ? accessToken.getBytes(StandardCharsets.UTF_8) : null;
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/api/", this::route);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return The port number.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server and its request threads.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow(); // Interrupts open streams
+        executor.close();
+    }
+
+    /**
+     * Routes a request to the server's own club, or to a hosted club for paths under {@code /api/clubs}.
+     *
+     * @param exchange The HTTP exchange.
+     * @throws IOException If writing the response fails.
+     */
+    private void route(HttpExchange exchange) throws IOException {
+        if (!isAuthorized(exchange)) {
+            try (exchange) {
+                exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+                sendJson(exchange, 401, Map.of("error", "Missing or invalid access token"));
+            }
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (clubRegistry == null || !(path.equals(CLUBS_PATH) || path.startsWith(CLUBS_PATH + "/"))) {
+            dispatch(exchange, clubService, path);
+            return;
+        }
+
+        String[] parts = path.split("/", 5); // "", "api", "clubs", clubId, resource path
+        if (parts.length < 4) {
+            handle(exchange, uri -> Map.of("items", clubRegistry.getClubIds()));
+            return;
+        }
+        String clubId = parts[3];
+        String clubPath = parts.length == 5 ? "/api/" + parts[4] : "/api";
+        if (clubId.equals(ClubRegistry.DEFAULT_CLUB_ID)) {
+            dispatch(exchange, clubService, clubPath);
+        } else if (!clubRegistry.isRegistered(clubId)) {
+            handle(exchange, uri -> {
+                throw new NotFoundException("Club not found: " + clubId);
+            });
+        } else {
+            try {
+                clubRegistry.withClub(clubId, service -> {
+                    try {
+                        dispatch(exchange, service, clubPath);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Checks the request's bearer token against the access token, in constant time.
+     *
+     * @param exchange The HTTP exchange.
+     * @return true if no token is required, or the request carries the right one.
+     */
+    private boolean isAuthorized(HttpExchange exchange) {
+        if (accessToken == null) {
+            return true;
+        }
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        byte[] presented = header.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(presented, accessToken);
+    }
+
+    /**
+     * Serves a resource of one club.
+     *
+     * @param exchange The HTTP exchange.
+     * @param service  The club's service.
+     * @param path     The resource path, relative to the club, such as {@code /api/members}.
+     * @throws IOException If writing the response fails.
+     */
+    private void dispatch(HttpExchange exchange, ClubService service, String path) throws IOException {
+        String[] parts = path.split("/");
+        switch (parts.length > 2 ? parts[2] : "") {
+            case "members" -> handle(exchange, uri -> members(service, path, uri));
+            case "events" -> handle(exchange, uri -> events(service, path, uri));
+            case "announcements" -> handle(exchange, uri -> announcements(service, path, uri));
+            case "changes" -> handle(exchange, uri -> changes(service, path, uri));
+            case "search" -> handle(exchange, uri -> search(service, path, uri));
+            case "stream" -> stream(exchange, service);
+            default -> handle(exchange, uri -> {
+                throw new NotFoundException("Unknown resource: " + uri.getPath());
+            });
+        }
+    }
+
+    /**
+     * Gets a page of members.
+     *
+     * @param service The club's service.
+     * @param path    The resource path.
+     * @param uri     The request URI.
+     * @return The response body.
+     */
+    private Object members(ClubService service, String path, URI uri) {
+        if (!path.equals("/api/members")) {
+            throw new NotFoundException("Unknown resource: " + uri.getPath());
+        }
+        return page(service.getMembers(), uri, ApiServer::memberJson);
+    }
+
+    /**
+     * Gets a page of events, or a page of an event's registrations.
+     *
+     * @param service The club's service.
+     * @param path    The resource path.
+     * @param uri     The request URI.
+     * @return The response body.
+     */
+    private Object events(ClubService service, String path, URI uri) {
+        String[] parts = path.split("/");
+        if (parts.length == 3) {
+            return page(service.getEvents(), uri, ApiServer::eventJson);
+        }
+        if (parts.length == 5 && parts[4].equals("registrations")) {
+            try {
+                List<Member> registered = service.getRegisteredMembers(Integer.parseInt(parts[3]));
+                return page(registered, uri, ApiServer::memberJson);
+            } catch (IllegalArgumentException e) {
+                throw new NotFoundException(e.getMessage());
+            }
+        }
+        throw new NotFoundException("Unknown resource: " + uri.getPath());
+    }
+
+    /**
+     * Gets a page of announcements.
+     *
+     * @param service The club's service.
+     * @param path    The resource path.
+     * @param uri     The request URI.
+     * @return The response body.
+     */
+    private Object announcements(ClubService service, String path, URI uri) {
+        if (!path.equals("/api/announcements")) {
+            throw new NotFoundException("Unknown resource: " + uri.getPath());
+        }
+        return page(service.getAnnouncements(), uri, ApiServer::announcementJson);
+    }
+
+    /**
+     * Gets the journaled changes after the {@code after} sequence, up to {@code size} of them.
+     *
+     * @param service The club's service.
+     * @param path    The resource path.
+     * @param uri     The request URI.
+     * @return The response body, with the latest sequence so a consumer knows whether it has caught up.
+     */
+    private Object changes(ClubService service, String path, URI uri) {
+        if (!path.equals("/api/changes")) {
+            throw new NotFoundException("Unknown resource: " + uri.getPath());
+        }
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+        long after = parseNonNegative(query.getOrDefault("after", "0"), "after");
+        int size = Math.min(parseNonNegative(query.getOrDefault("size", String.valueOf(MAX_PAGE_SIZE)), "size"), MAX_PAGE_SIZE);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("after", after);
+        body.put("latest", service.getDataManager().getLatestChangeSequence());
+        body.put("items", service.getDataManager().readChangesAfter(after, size).stream().map(ApiServer::journalJson).toList());
+        return body;
+    }
+
+    /**
+     * Searches announcements and events for the {@code q} text, returning up to {@code size} hits.
+     *
+     * @param service The club's service.
+     * @param path    The resource path.
+     * @param uri     The request URI.
+     * @return The response body, with hits most relevant first.
+     */
+    private Object search(ClubService service, String path, URI uri) {
+        if (!path.equals("/api/search")) {
+            throw new NotFoundException("Unknown resource: " + uri.getPath());
+        }
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+        String text = URLDecoder.decode(query.getOrDefault("q", ""), StandardCharsets.UTF_8);
+        int size = Math.min(parseNonNegative(query.getOrDefault("size", String.valueOf(DEFAULT_PAGE_SIZE)), "size"), MAX_PAGE_SIZE);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("query", text);
+        body.put("items", service.getDataManager().searchContent(text, size).stream().map(ApiServer::searchHitJson).toList());
+        return body;
+    }
+
+    /**
+     * Handles a GET request: builds the body, and answers 304 if the client already has it.
+     *
+     * @param exchange The HTTP exchange.
+     * @param resource Builds the response body for the request URI.
+     * @throws IOException If writing the response fails.
+     */
+    private void handle(HttpExchange exchange, Function<URI, Object> resource) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendJson(exchange, 405, Map.of("error", "Method not allowed"));
+                return;
+            }
+
+            byte[] body;
+            try {
+                body = mapper.writeValueAsBytes(resource.apply(exchange.getRequestURI()));
+            } catch (NotFoundException e) {
+                sendJson(exchange, 404, Map.of("error", e.getMessage()));
+                return;
+            } catch (IllegalArgumentException e) {
+                sendJson(exchange, 400, Map.of("error", e.getMessage()));
+                return;
+            }
+
+            String etag = etag(body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            send(exchange, 200, body);
+        }
+    }
+
+    /**
+     * Streams changes as server-sent events until the client disconnects.
+     * Sends a comment as a heartbeat when nothing changes, so dead connections are detected.
+     *
+     * @param exchange The HTTP exchange.
+     * @param service  The club's service.
+     * @throws IOException If writing the response headers fails.
+     */
+    private void stream(HttpExchange exchange, ClubService service) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendJson(exchange, 405, Map.of("error", "Method not allowed"));
+                return;
+            }
+
+            ChangeFeed feed = service.getChanges();
+            String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+            if (lastEventId == null) {
+                lastEventId = parseQuery(exchange.getRequestURI().getRawQuery()).get("lastEventId");
+            }
+            ChangeFeed.Subscription subscription;
+            try {
+                subscription = feed.subscribe(lastEventId == null ? feed.getLatestId() : parseNonNegative(lastEventId, "Last-Event-ID"));
+            } catch (IllegalArgumentException e) {
+                sendJson(exchange, 400, Map.of("error", e.getMessage()));
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            out.write(("retry: " + RETRY_MILLIS + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            while (!Thread.currentThread().isInterrupted()) {
+                List<ChangeFeed.Change> changes = subscription.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                if (changes.isEmpty()) {
+                    out.write(": heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+                for (ChangeFeed.Change change : changes) {
+                    out.write(("id: " + change.id() + "\nevent: " + change.type() + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+                    out.write(mapper.writeValueAsBytes(changeJson(change)));
+                    out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client disconnected
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // The server is stopping
+        }
+    }
+
+    /**
+     * Sends a JSON response.
+     *
+     * @param exchange The HTTP exchange.
+     * @param status   The HTTP status code.
+     * @param value    The value to serialize.
+     * @throws IOException If writing the response fails.
+     */
+    private void sendJson(HttpExchange exchange, int status, Object value) throws IOException {
+        send(exchange, status, mapper.writeValueAsBytes(value));
+    }
+
+    /**
+     * Sends a response body.
+     *
+     * @param exchange The HTTP exchange.
+     * @param status   The HTTP status code.
+     * @param body     The JSON body.
+     * @throws IOException If writing the response fails.
+     */
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Computes a strong ETag from the response body.
+     *
+     * @param body The response body.
+     * @return The quoted ETag.
+     */
+    private static String etag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+
+    /**
+     * Builds a page of items from the {@code page} and {@code size} query parameters.
+     *
+     * @param items  All items.
+     * @param uri    The request URI.
+     * @param toJson Converts an item to its JSON representation.
+     * @param <T>    The type of the items.
+     * @return The page, with its position and the total number of items.
+     */
+    private static <T> Map<String, Object> page(List<T> items, URI uri, Function<T, Map<String, Object>> toJson) {
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+        int page = parseNonNegative(query.getOrDefault("page", "0"), "page");
+        int size = Math.min(parseNonNegative(query.getOrDefault("size", String.valueOf(DEFAULT_PAGE_SIZE)), "size"), MAX_PAGE_SIZE);
+
+        long from = Math.min((long) page * size, items.size());
+        int to = (int) Math.min(from + size, items.size());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("page", page);
+        body.put("size", size);
+        body.put("total", items.size());
+        body.put("items", items.subList((int) from, to).stream().map(toJson).toList());
+        return body;
+    }
+
+    /**
+     * Parses a URL query string.
+     *
+     * @param rawQuery The raw query string, or null.
+     * @return The query parameters by name.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    params.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Parses a non-negative integer query parameter.
+     *
+     * @param value The parameter value.
+     * @param name  The parameter name, for the error message.
+     * @return The parsed value.
+     * @throws IllegalArgumentException If the value is not a non-negative integer.
+     */
+    private static int parseNonNegative(String value, String name) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        throw new IllegalArgumentException("Invalid " + name + ": " + value);
+    }
+
+    /**
+     * Converts a member to JSON. Passwords are never exposed.
+     *
+     * @param member The member.
+     * @return The JSON fields.
+     */
+    private static Map<String, Object> memberJson(Member member) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("membershipId", member.getMembershipId());
+        json.put("name", member.getName());
+        json.put("email", member.getEmail());
+        json.put("phone", member.getPhone());
+        json.put("active", member.isActive());
+        return json;
+    }
+
+    /**
+     * Converts an event to JSON.
+     *
+     * @param event The event.
+     * @return The JSON fields.
+     */
+    private static Map<String, Object> eventJson(Event event) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", event.getId());
+        json.put("name", event.getName());
+        json.put("date", String.valueOf(event.getDate()));
+        json.put("time", String.valueOf(event.getTime()));
+        json.put("location", event.getLocation());
+        json.put("description", event.getDescription());
+        return json;
+    }
+
+    /**
+     * Converts an announcement to JSON.
+     *
+     * @param announcement The announcement.
+     * @return The JSON fields.
+     */
+    private static Map<String, Object> announcementJson(Announcement announcement) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", announcement.getId());
+        json.put("message", announcement.getMessage());
+        json.put("dateTime", String.valueOf(announcement.getDateTime()));
+        return json;
+    }
+
+    /**
+     * Converts a search hit to JSON.
+     *
+     * @param hit The search hit.
+     * @return The JSON fields.
+     */
+    private static Map<String, Object> searchHitJson(SearchHit hit) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("kind", hit.kind());
+        json.put("id", hit.id());
+        json.put("title", hit.title());
+        json.put("snippet", hit.snippet());
+        json.put("score", hit.score());
+        return json;
+    }
+
+    /**
+     * Converts a journal entry to JSON.
+     *
+     * @param entry The journal entry.
+     * @return The JSON fields.
+     */
+    private static Map<String, Object> journalJson(JournalEntry entry) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("sequence", entry.sequence());
+        json.put("table", entry.table());
+        json.put("key", entry.recordKey());
+        json.put("operation", entry.operation());
+        json.put("version", entry.version());
+        json.put("changedAt", entry.changedAt());
+        return json;
+    }
+
+    /**
+     * Converts a change to JSON.
+     *
+     * @param change The change.
+     * @return The JSON fields of the changed announcement or event, or no fields for a reset.
+     */
+    private static Map<String, Object> changeJson(ChangeFeed.Change change) {
+        if (change.subject() instanceof Event event) {
+            return eventJson(event);
+        }
+        if (change.subject() instanceof Announcement announcement) {
+            return announcementJson(announcement);
+        }
+        return Map.of();
+    }
+
+    /**
+     * Signals that a request addressed a resource that does not exist.
+     */
+    private static class NotFoundException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        NotFoundException(String message) {
+            super(message);
+        }
+    }
+}
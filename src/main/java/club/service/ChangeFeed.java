@@ -0,0 +1,191 @@
+package club.service;
+
+import club.model.Announcement;
+import club.model.AnnouncementObserver;
+import club.model.Club;
+import club.model.Event;
+import club.model.EventAction;
+import club.model.EventObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes announcement and event changes of the current club to any number of subscribers.
+ * Changes are numbered with increasing IDs and kept in a fixed-size ring, so a subscriber can
+ * resume after the last ID it has seen. A subscriber that falls further behind than the ring holds
+ * receives a {@link #RESET} change and should reload its data.
+ *
+ * <p>Waiting subscribers park on a {@link ReentrantLock} condition rather than a monitor,
+ * so idle subscribers on virtual threads do not pin carrier threads.
+ */
+public class ChangeFeed implements EventObserver, AnnouncementObserver {
+
+    /**
+     * The type of the change sent when a subscriber missed changes that are no longer held.
+     */
+    public static final String RESET = "reset";
+
+    private static final int MAX_BATCH = 256;
+
+    private final Change[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private long latestId;
+    private Club club;
+
+    /**
+     * A single change.
+     *
+     * @param id      The ID of the change.
+     * @param type    The type of the change, such as {@code announcement.posted} or {@code event.updated}.
+     * @param subject The announcement or event that changed, or null for a reset.
+     */
+    public record Change(long id, String type, Object subject) {
+    }
+
+    /**
+     * Constructs a change feed holding the given number of recent changes.
+     *
+     * @param capacity The number of changes a subscriber can fall behind before it is reset.
+     */
+    public ChangeFeed(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.ring = new Change[capacity];
+    }
+
+    /**
+     * Starts publishing the changes of the given club, and stops publishing those of the previous one.
+     *
+     * @param updatedClub The club to observe.
+     */
+    public void attach(Club updatedClub) {
+        lock.lock();
+        try {
+            if (club == updatedClub) {
+                return;
+            }
+            if (club != null) {
+                club.getEventManager().removeObserver(this);
+                club.removeAnnouncementObserver(this);
+            }
+            club = updatedClub;
+            club.getEventManager().addObserver(this);
+            club.addAnnouncementObserver(this);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onEventUpdate(Event event, EventAction action) {
+        publish("event." + action.name().toLowerCase(), event);
+    }
+
+    @Override
+    public void onAnnouncementPosted(Announcement announcement) {
+        publish("announcement.posted", announcement);
+    }
+
+    @Override
+    public void onAnnouncementRemoved(Announcement announcement) {
+        publish("announcement.removed", announcement);
+    }
+
+    /**
+     * Gets the ID of the most recent change.
+     *
+     * @return The latest change ID, or 0 if nothing has changed yet.
+     */
+    public long getLatestId() {
+        lock.lock();
+        try {
+            return latestId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates a subscription that receives the changes after the given ID.
+     *
+     * @param lastSeenId The ID of the last change the subscriber has seen.
+     * @return The subscription.
+     */
+    public Subscription subscribe(long lastSeenId) {
+        return new Subscription(lastSeenId);
+    }
+
+    /**
+     * Publishes a change and wakes up waiting subscribers.
+     *
+     * @param type    The type of the change.
+     * @param subject The announcement or event that changed.
+     */
+    private void publish(String type, Object subject) {
+        lock.lock();
+        try {
+            latestId++;
+            ring[(int) (latestId % ring.length)] = new Change(latestId, type, subject);
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A subscriber's position in the feed.
+     */
+    public class Subscription {
+
+        private long cursor;
+
+        /**
+         * Constructs a subscription positioned after the given change ID.
+         *
+         * @param lastSeenId The ID of the last change the subscriber has seen.
+         */
+        private Subscription(long lastSeenId) {
+            this.cursor = lastSeenId;
+        }
+
+        /**
+         * Waits for changes after the last one returned and returns them in order.
+         *
+         * @param timeout The maximum time to wait.
+         * @param unit    The unit of the timeout.
+         * @return The new changes, or an empty list if none arrived in time.
+         * @throws InterruptedException If the thread is interrupted while waiting.
+         */
+        public List<Change> poll(long timeout, TimeUnit unit) throws InterruptedException {
+            lock.lock();
+            try {
+                long remaining = unit.toNanos(timeout);
+                while (cursor == latestId && remaining > 0) {
+                    remaining = published.awaitNanos(remaining);
+                }
+
+                List<Change> changes = new ArrayList<>();
+                long oldestId = Math.max(1, latestId - ring.length + 1);
+                if (cursor > latestId || cursor < oldestId - 1) {
+                    // Missed changes (or IDs from an earlier run): the subscriber has to reload
+                    cursor = latestId;
+                    changes.add(new Change(latestId, RESET, null));
+                    return changes;
+                }
+                while (cursor < latestId && changes.size() < MAX_BATCH) {
+                    cursor++;
+                    changes.add(ring[(int) (cursor % ring.length)]);
+                }
+                return changes;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package club.service;
+
+import club.database.DataManager;
+import club.database.DatabaseManager;
+import club.logging.Logger;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the clubs hosted by one server, each stored in its own SQLite file.
+ * The registry itself is a small SQLite database mapping club IDs to database files.
+ *
+ * <p>Clubs are loaded on first use and kept open in a least-recently-used cache.
+ * When more than the maximum number of clubs are open, or a club has not been used for the idle timeout,
+ * it is saved and dropped from memory. Only the clubs in use are held in the heap.
+ */
+public class ClubRegistry implements AutoCloseable {
+
+    /**
+     * The ID of the club stored in the single-club database file used by the desktop application.
+     */
+    public static final String DEFAULT_CLUB_ID = "default";
+
+    public static final String DEFAULT_REGISTRY_FILE = DatabaseManager.SAVES_FOLDER + "/registry.db";
+    private static final String CLUBS_FOLDER = DatabaseManager.SAVES_FOLDER + "/clubs";
+    private static final Pattern CLUB_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final Logger LOG = Logger.get(ClubRegistry.class);
+
+    private final String registryUrl;
+    private final int maxOpenClubs;
+    private final long idleTimeoutNanos;
+
+    // Access-ordered, so iteration starts at the least recently used club
+    private final Map<String, OpenClub> openClubs = new LinkedHashMap<>(16, 0.75f, true);
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * A club that is loaded, or being loaded or evicted.
+     * The service is guarded by the entry's lock; the use count by the registry's monitor.
+     * The entry's lock may be held while taking the registry's monitor, never the other way round.
+     * It is a lock rather than a monitor because loading waits on virtual threads,
+     * and a virtual thread waiting inside a monitor keeps its carrier thread from running them.
+     */
+    private static final class OpenClub {
+        private final String databaseFile;
+        private final ReentrantLock lock = new ReentrantLock();
+        private DatabaseManager dbManager;
+        private ClubService service;
+        private int inUse;
+        private long lastUsed;
+
+        private OpenClub(String databaseFile) {
+            this.databaseFile = databaseFile;
+        }
+
+        /**
+         * Loads the club if it is not loaded.
+         *
+         * @return The club's service.
+         */
+        private ClubService ensureLoaded() {
+            lock.lock();
+            try {
+                if (service == null) {
+                    dbManager = new DatabaseManager(databaseFile);
+                    service = new ClubService(new DataManager(dbManager));
+                    service.load();
+                }
+                return service;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Saves the club and drops it from memory.
+         */
+        private void unload() {
+            lock.lock();
+            try {
+                if (service != null) {
+                    service.close();
+                    dbManager.close();
+                    service = null;
+                    dbManager = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Constructs a registry stored in the given file.
+     *
+     * @param registryFile       The path of the registry database.
+     * @param maxOpenClubs       The maximum number of clubs kept in memory.
+     * @param idleTimeoutSeconds The number of seconds after which an unused club is evicted.
+     */
+    public ClubRegistry(String registryFile, int maxOpenClubs, long idleTimeoutSeconds) {
+        if (maxOpenClubs <= 0) {
+            throw new IllegalArgumentException("At least one club must be allowed to be open");
+        }
+        this.registryUrl = "jdbc:sqlite:" + registryFile;
+        this.maxOpenClubs = maxOpenClubs;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+
+        File parent = new File(registryFile).getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOG.error("Failed to create registry directory", "path", parent);
+        }
+        initializeRegistry();
+    }
+
+    /**
+     * Creates the registry table, and registers the default club for the existing single-club database.
+     */
+    private void initializeRegistry() {
+        String createTable = "CREATE TABLE IF NOT EXISTS clubs ("
+                + "clubId TEXT PRIMARY KEY, "
+                + "databaseFile TEXT NOT NULL"
+                + ");";
+        String registerDefault = "INSERT OR IGNORE INTO clubs (clubId, databaseFile) VALUES (?, ?)";
+        try (Connection conn = DriverManager.getConnection(registryUrl)) {
+            try (PreparedStatement create = conn.prepareStatement(createTable)) {
+                create.execute();
+            }
+            try (PreparedStatement insert = conn.prepareStatement(registerDefault)) {
+                insert.setString(1, DEFAULT_CLUB_ID);
+                insert.setString(2, DatabaseManager.DEFAULT_DATABASE_FILE);
+                insert.executeUpdate();
+            }
+        } catch (SQLException e) {
+            LOG.error("Failed to initialize club registry", e);
+        }
+    }
+
+    /**
+     * Registers a club with its own database file, unless it is already registered.
+     *
+     * @param clubId The club ID, made of letters, digits, '-' and '_'.
+     * @return The path of the club's database file.
+     * @throws IllegalArgumentException If the club ID is invalid.
+     * @throws IllegalStateException    If the registry cannot be updated.
+     */
+    public String register(String clubId) {
+        if (clubId == null || !CLUB_ID_PATTERN.matcher(clubId).matches()) {
+            throw new IllegalArgumentException("Invalid club ID: " + clubId);
+        }
+        String existing = findDatabaseFile(clubId);
+        if (existing != null) {
+            return existing;
+        }
+
+        String databaseFile = CLUBS_FOLDER + "/" + clubId + ".db";
+        try (Connection conn = DriverManager.getConnection(registryUrl);
+             PreparedStatement stmt = conn.prepareStatement("INSERT OR IGNORE INTO clubs (clubId, databaseFile) VALUES (?, ?)")) {
+            stmt.setString(1, clubId);
+            stmt.setString(2, databaseFile);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to register club " + clubId, e);
+        }
+        return findDatabaseFile(clubId);
+    }
+
+    /**
+     * Checks whether a club is registered.
+     *
+     * @param clubId The club ID.
+     * @return true if the club is registered.
+     */
+    public boolean isRegistered(String clubId) {
+        return findDatabaseFile(clubId) != null;
+    }
+
+    /**
+     * Gets the IDs of all registered clubs.
+     *
+     * @return The club IDs in alphabetical order.
+     */
+    public List<String> getClubIds() {
+        List<String> clubIds = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(registryUrl);
+             PreparedStatement stmt = conn.prepareStatement("SELECT clubId FROM clubs ORDER BY clubId");
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                clubIds.add(rs.getString("clubId"));
+            }
+        } catch (SQLException e) {
+            LOG.error("Failed to list clubs", e);
+        }
+        return clubIds;
+    }
+
+    /**
+     * Runs an action against a club, loading the club first if it is not in memory.
+     * The club is not evicted while the action runs.
+     *
+     * @param clubId The ID of a registered club.
+     * @param action The action to run with the club's service.
+     * @param <T>    The type of the action's result.
+     * @return The action's result.
+     * @throws IllegalArgumentException If no club is registered with that ID.
+     */
+    public <T> T withClub(String clubId, Function<ClubService, T> action) {
+        OpenClub entry = acquire(clubId);
+        try {
+            return action.apply(entry.ensureLoaded());
+        } finally {
+            release(entry);
+            evict(false);
+        }
+    }
+
+    /**
+     * Gets the number of clubs currently held in memory.
+     *
+     * @return The number of open clubs.
+     */
+    public synchronized int getOpenClubCount() {
+        return openClubs.size();
+    }
+
+    /**
+     * Starts evicting idle clubs and saving changed ones in the background.
+     *
+     * @param intervalSeconds The number of seconds between sweeps.
+     */
+    public synchronized void startEviction(long intervalSeconds) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Eviction is already running");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "club-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweep, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Evicts idle clubs and saves the unsaved changes of the clubs that stay open.
+     */
+    public void sweep() {
+        evict(true);
+        List<OpenClub> remaining;
+        synchronized (this) {
+            remaining = new ArrayList<>(openClubs.values());
+        }
+        for (OpenClub entry : remaining) {
+            entry.lock.lock();
+            try {
+                if (entry.service != null) {
+                    entry.service.saveIfDirty();
+                }
+            } finally {
+                entry.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stops the background sweeps, then saves and closes every open club.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        List<OpenClub> all;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+            all = new ArrayList<>(openClubs.values());
+            openClubs.clear();
+        }
+        if (running != null) {
+            running.shutdown();
+        }
+        for (OpenClub entry : all) {
+            entry.unload();
+        }
+    }
+
+    /**
+     * Gets the open entry for a club, creating it if needed, and marks it as in use.
+     *
+     * @param clubId The club ID.
+     * @return The entry, which may not be loaded yet.
+     */
+    private OpenClub acquire(String clubId) {
+        synchronized (this) {
+            OpenClub entry = openClubs.get(clubId);
+            if (entry != null) {
+                entry.inUse++;
+                entry.lastUsed = System.nanoTime();
+                return entry;
+            }
+        }
+
+        String databaseFile = findDatabaseFile(clubId);
+        if (databaseFile == null) {
+            throw new IllegalArgumentException("Club not found: " + clubId);
+        }
+        synchronized (this) {
+            OpenClub entry = openClubs.computeIfAbsent(clubId, id -> new OpenClub(databaseFile));
+            entry.inUse++;
+            entry.lastUsed = System.nanoTime();
+            return entry;
+        }
+    }
+
+    /**
+     * Marks an entry as no longer used by the caller.
+     *
+     * @param entry The entry.
+     */
+    private synchronized void release(OpenClub entry) {
+        entry.inUse--;
+        entry.lastUsed = System.nanoTime();
+    }
+
+    /**
+     * Unloads the least recently used clubs beyond the capacity, and optionally the idle ones.
+     * Clubs in use are never evicted. Saving happens outside the registry lock,
+     * so loading other clubs is not blocked by an eviction.
+     *
+     * @param includeIdle Whether to also evict clubs unused for longer than the idle timeout.
+     */
+    private void evict(boolean includeIdle) {
+        List<Map.Entry<String, OpenClub>> victims = new ArrayList<>();
+        synchronized (this) {
+            int excess = openClubs.size() - maxOpenClubs;
+            long now = System.nanoTime();
+            Iterator<Map.Entry<String, OpenClub>> iterator = openClubs.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, OpenClub> candidate = iterator.next();
+                OpenClub entry = candidate.getValue();
+                boolean idle = includeIdle && now - entry.lastUsed > idleTimeoutNanos;
+                if (entry.inUse == 0 && (excess > 0 || idle)) {
+                    victims.add(candidate);
+                    excess--;
+                }
+            }
+        }
+
+        for (Map.Entry<String, OpenClub> victim : victims) {
+            OpenClub entry = victim.getValue();
+            entry.lock.lock();
+            try {
+                synchronized (this) {
+                    if (entry.inUse > 0) {
+                        continue; // Picked up again since it was chosen
+                    }
+                }
+                // Save before leaving the cache, so a reopen cannot read the club mid-save
+                entry.unload();
+                synchronized (this) {
+                    if (entry.inUse == 0) {
+                        openClubs.remove(victim.getKey(), entry);
+                    }
+                }
+            } finally {
+                entry.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Looks up the database file of a club.
+     *
+     * @param clubId The club ID.
+     * @return The database file path, or null if the club is not registered.
+     */
+    private String findDatabaseFile(String clubId) {
+        try (Connection conn = DriverManager.getConnection(registryUrl);
+             PreparedStatement stmt = conn.prepareStatement("SELECT databaseFile FROM clubs WHERE clubId = ?")) {
+            stmt.setString(1, clubId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("databaseFile") : null;
+            }
+        } catch (SQLException e) {
+            LOG.error("Failed to look up club", e, "clubId", clubId);
+            return null;
+        }
+    }
+}
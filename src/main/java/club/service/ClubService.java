@@ -0,0 +1,869 @@
+package club.service;
+
+import club.database.DataManager;
+import club.database.SaveConflictException;
+import club.logging.Logger;
+import club.metrics.DomainOperationEvent;
+import club.metrics.MetricsRegistry;
+import club.model.Admin;
+import club.model.Announcement;
+import club.model.Club;
+import club.model.Event;
+import club.model.EventAction;
+import club.model.Member;
+import club.model.Person;
+import club.repository.Credentials;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the club state of a running application and exposes the club operations as a service API.
+ * Used by the JavaFX application and by the headless server, so it has no JavaFX dependencies.
+ * All operations are synchronized on the service, so it can be called from any thread.
+ *
+ * <p>With a {@link CommandLog}, every service operation is also appended to the log and is durable
+ * when the call returns, without writing to SQLite. Saves act as checkpoints that empty the log,
+ * and {@link #load()} replays commands left in the log by a crash.
+ */
+public class ClubService implements AutoCloseable {
+
+    private static final int CHANGE_FEED_CAPACITY = 1024;
+    private static final double CHECKPOINT_FILL_FRACTION = 0.75;
+    private static final Logger LOG = Logger.get(ClubService.class);
+
+    private final DataManager dataManager;
+    private final CommandLog commandLog;
+    private final ChangeFeed changes = new ChangeFeed(CHANGE_FEED_CAPACITY);
+    private Club club;
+    private boolean dirty;
+    private ScheduledExecutorService scheduler;
+    private volatile CompletableFuture<Void> loading = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructs a club service backed by the given data manager.
+     * Call {@link #load()} before using the service.
+     *
+     * @param dataManager The data manager used to load and save the club.
+     */
+    public ClubService(DataManager dataManager) {
+        this(dataManager, null);
+    }
+
+    /**
+     * Constructs a club service that logs its operations to a write-ahead command log.
+     * Call {@link #load()} before using the service.
+     *
+     * @param dataManager The data manager used to load and save the club.
+     * @param commandLog  The command log, or null to rely on saves alone.
+     */
+    public ClubService(DataManager dataManager, CommandLog commandLog) {
+        if (dataManager == null) {
+            throw new IllegalArgumentException("Data manager cannot be null");
+        }
+        this.dataManager = dataManager;
+        this.commandLog = commandLog;
+    }
+
+    /**
+     * Loads the saved club, or creates a new one if nothing has been saved.
+     * Adds a default admin if the club has no admins.
+     */
+    public void load() {
+        // Read outside the monitor: the tables are read on virtual threads,
+        // which may find no free carrier thread while a virtual caller holds a monitor
+        Club loaded;
+        try {
+            loaded = dataManager.loadClubData();
+            LOG.info("Club data loaded");
+        } catch (Exception e) {
+            LOG.warn("No saved data found, starting with a new club", e);
+            loaded = new Club(Club.DEFAULT_NAME); // Default Club instance
+        }
+        synchronized (this) {
+            adopt(loaded);
+        }
+    }
+
+    /**
+     * Makes a freshly loaded club the current one, adding a default admin if it has none
+     * and re-applying any commands logged since the last save.
+     *
+     * @param loaded The loaded club.
+     */
+    private void adopt(Club loaded) {
+        club = loaded;
+
+        // Add a default admin if no admins exist
+        if (club.getAdmins().isEmpty()) {
+            Admin defaultAdmin = new Admin("Default Admin", "admin", "admin123", "123");
+            club.addAdmin(defaultAdmin);
+            LOG.info("Default admin added", "name", defaultAdmin.getName());
+        }
+        changes.attach(club);
+        recover();
+    }
+
+    /**
+     * Starts loading the club on a background thread and returns at once, so a login screen can be shown
+     * while the rest of the club is read. Until the load finishes, {@link #findCredentials(String)} and
+     * {@link #getClubName()} read only what they need from the database, and {@link #getClub()} waits.
+     *
+     * @return A future completed when the club has loaded.
+     */
+    public CompletableFuture<Void> loadInBackground() {
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        loading = started;
+        Thread loader = new Thread(() -> {
+            try {
+                load();
+                started.complete(null);
+            } catch (RuntimeException e) {
+                started.completeExceptionally(e);
+            }
+        }, "club-load");
+        loader.setDaemon(true);
+        loader.start();
+        return started;
+    }
+
+    /**
+     * Checks whether a load started by {@link #loadInBackground()} has finished.
+     *
+     * @return true if the club has loaded, or no background load was started.
+     */
+    public boolean isLoaded() {
+        return loading.isDone();
+    }
+
+    /**
+     * Gets the future of a load started by {@link #loadInBackground()}.
+     *
+     * @return A future completed when the club has loaded, already complete if no background load was started.
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loading;
+    }
+
+    /**
+     * Waits for a load started by {@link #loadInBackground()} to finish.
+     */
+    public void awaitLoaded() {
+        loading.join();
+    }
+
+    /**
+     * Registers gauges for the size of the club. They read as zero until the club has loaded.
+     *
+     * @param metrics The registry to register with.
+     */
+    public void registerGauges(MetricsRegistry metrics) {
+        metrics.gauge("club.members", () -> isLoaded() ? getMembers().size() : 0);
+        metrics.gauge("club.events", () -> isLoaded() ? getEvents().size() : 0);
+        metrics.gauge("club.announcements", () -> isLoaded() ? getAnnouncements().size() : 0);
+    }
+
+    /**
+     * Replays the commands left in the command log by a crash, then checkpoints them into the database.
+     * Replay is idempotent, so commands that were already saved before the crash are skipped.
+     */
+    private void recover() {
+        int replayed = replayCommandLog();
+        if (replayed == 0) {
+            return;
+        }
+        LOG.info("Replayed command log", "commands", replayed);
+        dirty = true;
+        saveIfDirty();
+    }
+
+    /**
+     * Re-applies every command in the command log to the current club.
+     *
+     * @return The number of commands in the log, or 0 without a command log.
+     */
+    private int replayCommandLog() {
+        if (commandLog == null) {
+            return 0;
+        }
+        List<CommandLog.Command> commands = commandLog.readAll();
+        for (CommandLog.Command command : commands) {
+            replay(command);
+        }
+        return commands.size();
+    }
+
+    /**
+     * Starts saving unsaved changes in the background at a fixed interval.
+     *
+     * @param intervalSeconds The number of seconds between saves.
+     */
+    public synchronized void startAutosave(long intervalSeconds) {
+        if (scheduler != null) {
+            throw new IllegalStateException("Autosave is already running");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "club-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::saveIfDirty, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the background scheduler and saves any unsaved changes.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = scheduler;
+            scheduler = null;
+        }
+        if (running != null) {
+            running.shutdown();
+        }
+        saveIfDirty();
+        if (commandLog != null) {
+            commandLog.close();
+        }
+    }
+
+    // --- State ---
+
+    /**
+     * Gets the current club, waiting for a background load to finish first.
+     *
+     * @return The current club.
+     */
+    public Club getClub() {
+        awaitLoaded();
+        synchronized (this) {
+            return club;
+        }
+    }
+
+    /**
+     * Gets the club name without waiting for a background load.
+     *
+     * @return The club name.
+     */
+    public String getClubName() {
+        if (!isLoaded()) {
+            return dataManager.loadClubName();
+        }
+        return getClub().getClubName();
+    }
+
+    /**
+     * Gets the login details for an email. Admins take precedence over members, as in {@link #login}.
+     * While the club is still loading, the details are looked up in the database by email, so logins
+     * do not wait for the rest of the club. Accounts that so far exist only in memory, such as the
+     * default admin or accounts replayed from the command log, are found once the load finishes.
+     *
+     * @param email The email entered.
+     * @return The admin's or member's credentials, or null if no account has the email.
+     */
+    public Credentials findCredentials(String email) {
+        if (!isLoaded() && commandLog == null) {
+            Credentials stored = dataManager.findCredentials(email);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        Club current = getClub();
+        synchronized (this) {
+            for (Admin admin : current.getAdmins()) {
+                if (admin.getEmail().equals(email)) {
+                    return new Credentials(Credentials.ADMIN, admin.getAdminId(), admin.getPassword(), true);
+                }
+            }
+            for (Member member : current.getMembers()) {
+                if (member.getEmail().equals(email)) {
+                    return new Credentials(Credentials.MEMBER, member.getMembershipId(), member.getPassword(),
+                            member.isActive());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the current club.
+     *
+     * @param updatedClub The new club.
+     */
+    public synchronized void setClub(Club updatedClub) {
+        if (updatedClub == null) {
+            throw new IllegalArgumentException("Club cannot be null");
+        }
+        club = updatedClub;
+        changes.attach(club);
+    }
+
+    /**
+     * Gets the data manager backing this service.
+     *
+     * @return The data manager.
+     */
+    public DataManager getDataManager() {
+        return dataManager;
+    }
+
+    /**
+     * Gets the feed of announcement and event changes.
+     * The feed follows the current club across reloads.
+     *
+     * @return The change feed.
+     */
+    public ChangeFeed getChanges() {
+        return changes;
+    }
+
+    /**
+     * Saves the club and replaces it with the reloaded copy from the database.
+     * If another client changed the same records, the other changes are still saved
+     * and the club is replaced with the merged copy before the conflict is reported.
+     *
+     * <p>The command log is only checkpointed once a save succeeds. After a conflict, the logged commands
+     * are re-applied to the merged copy, since their callers were told they were durable, and stay
+     * in the log until a later save writes them.
+     *
+     * @throws SaveConflictException If records were changed by another client since they were loaded.
+     */
+    public synchronized void save() {
+        Club saving = club;
+        try {
+            club = dataManager.saveClubData(club);
+        } catch (SaveConflictException e) {
+            club = e.getMergedClub();
+            dirty = replayCommandLog() > 0;
+            throw e;
+        } finally {
+            changes.attach(club);
+        }
+        // saveClubData hands back the same club when the database could not be written
+        dirty = club == saving;
+        if (commandLog != null && !dirty) {
+            commandLog.checkpoint();
+        }
+    }
+
+    /**
+     * Saves the club if any service operation changed it since the last save.
+     * Conflicts are logged as warnings, since there is no caller to retry.
+     *
+     * @return true if there was nothing to save or the changes were saved,
+     *         false if the database could not be written or the save conflicted.
+     */
+    public synchronized boolean saveIfDirty() {
+        if (!dirty) {
+            return true;
+        }
+        try {
+            save();
+        } catch (SaveConflictException e) {
+            LOG.warn("Autosave kept the other client's changes", "detail", e.getMessage());
+            return false;
+        }
+        return !dirty;
+    }
+
+    // --- Service operations ---
+
+    /**
+     * Authenticates a user. Admins take precedence over members.
+     *
+     * @param email    The user's email.
+     * @param password The user's password.
+     * @return The authenticated admin or active member, or null if the credentials are invalid.
+     */
+    public synchronized Person login(String email, String password) {
+        Admin admin = club.validateAdminLogin(email, password);
+        if (admin != null) {
+            return admin;
+        }
+        return club.validateMemberLogin(email, password);
+    }
+
+    /**
+     * Registers a new member.
+     *
+     * @param name     The member's name.
+     * @param email    The member's email.
+     * @param phone    The member's phone number.
+     * @param password The member's password.
+     * @return The new member, with its membership ID assigned.
+     * @throws IllegalStateException If a member with the email already exists.
+     */
+    public Member registerMember(String name, String email, String phone, String password) {
+        DomainOperationEvent operation = DomainOperationEvent.start("ClubService.registerMember");
+        Member member;
+        long ticket;
+        synchronized (this) {
+            checkpointIfNearlyFull();
+            if (findMemberByEmail(email) != null) {
+                throw new IllegalStateException("A member with this email already exists.");
+            }
+            member = new Member(name, email, phone, true, password);
+            String membershipId = club.getMembershipManager().generateMembershipId();
+            ticket = log("registerMember", membershipId, name, email, phone, password);
+            addMember(member, membershipId);
+            dirty = true;
+        }
+        awaitDurable(ticket);
+        DomainOperationEvent.end(operation);
+        return member;
+    }
+
+    /**
+     * Updates a member's details.
+     *
+     * @param membershipId The membership ID of the member.
+     * @param name         The updated name.
+     * @param email        The updated email.
+     * @param phone        The updated phone number.
+     * @param active       The updated active status.
+     * @return The updated member.
+     */
+    public Member updateMember(String membershipId, String name, String email, String phone, boolean active) {
+        DomainOperationEvent operation = DomainOperationEvent.start("ClubService.updateMember");
+        Member member;
+        long ticket;
+        synchronized (this) {
+            checkpointIfNearlyFull();
+            member = requireMember(membershipId);
+            ticket = log("updateMember", membershipId, name, email, phone, String.valueOf(active));
+            applyMemberUpdate(member, name, email, phone, active);
+            dirty = true;
+        }
+        awaitDurable(ticket);
+        DomainOperationEvent.end(operation);
+        return member;
+    }
+
+    /**
+     * Creates a new event.
+     *
+     * @param name        The event name.
+     * @param date        The event date.
+     * @param time        The event time.
+     * @param location    The event location.
+     * @param description The event description.
+     * @return The new event.
+     */
+    public Event createEvent(String name, LocalDate date, LocalTime time, String location, String description) {
+        DomainOperationEvent operation = DomainOperationEvent.start("ClubService.createEvent");
+        Event event;
+        long ticket;
+        synchronized (this) {
+            checkpointIfNearlyFull();
+            event = new Event(nextEventId(), name, date, time, location, description);
+            log("createEvent", String.valueOf(event.getId()), name, String.valueOf(date), String.valueOf(time),
+                    location, description);
+            Event created = event;
+            club.withoutEventAnnouncements(() -> club.addEvent(created));
+            ticket = announceEventChange(event, EventAction.CREATED);
+            dirty = true;
+        }
+        awaitDurable(ticket);
+        DomainOperationEvent.end(operation);
+        return event;
+    }
+
+    /**
+     * Updates an existing event.
+     *
+     * @param eventId     The ID of the event.
+     * @param name        The updated name.
+     * @param date        The updated date.
+     * @param time        The updated time.
+     * @param location    The updated location.
+     * @param description The updated description.
+     * @return The updated event.
+     */
+    public Event updateEvent(int eventId, String name, LocalDate date, LocalTime time, String location, String description) {
+        DomainOperationEvent operation = DomainOperationEvent.start("ClubService.updateEvent");
+        Event event;
+        long ticket;
+        synchronized (this) {
+            checkpointIfNearlyFull();
+            event = requireEvent(eventId);
+            log("updateEvent", String.valueOf(eventId), name, String.valueOf(date), String.valueOf(time),
+                    location, description);
+            applyEventUpdate(event, name, date, time, location, description);
+            ticket = announceEventChange(event, EventAction.UPDATED);
+            dirty = true;
+        }
+        awaitDurable(ticket);
+        DomainOperationEvent.end(operation);
+        return event;
+    }
+
+    /**
+     * Registers a member for an event.
+     *
+     * @param eventId      The ID of the event.
+     * @param membershipId The membership ID of the member.
+     */
+    public void registerForEvent(int eventId, String membershipId) {
+        DomainOperationEvent operation = DomainOperationEvent.start("ClubService.registerForEvent");
+        long ticket;
+        synchronized (this) {
+            checkpointIfNearlyFull();
+            Event event = requireEvent(eventId);
+            Member member = requireMember(membershipId);
+            if (club.getEventManager().getRegisteredMembers(event).contains(member)) {
+                throw new IllegalStateException("Member already registered for this event");
+            }
+            ticket = log("registerForEvent", String.valueOf(eventId), membershipId);
+            club.registerForEvent(event, member);
+            dirty = true;
+        }
+        awaitDurable(ticket);
+        DomainOperationEvent.end(operation);
+    }
+
+    /**
+     * Posts a new announcement.
+     *
+     * @param message The announcement message.
+     * @return The new announcement.
+     */
+    public Announcement postAnnouncement(String message) {
+        DomainOperationEvent operation = DomainOperationEvent.start("ClubService.postAnnouncement");
+        Announcement announcement;
+        long ticket;
+        synchronized (this) {
+            checkpointIfNearlyFull();
+            announcement = new Announcement(nextAnnouncementId(), message, LocalDateTime.now());
+            ticket = log("postAnnouncement", String.valueOf(announcement.getId()), message,
+                    String.valueOf(announcement.getDateTime()));
+            club.addAnnouncement(announcement);
+            dirty = true;
+        }
+        awaitDurable(ticket);
+        DomainOperationEvent.end(operation);
+        return announcement;
+    }
+
+    /**
+     * Gets a snapshot of all members.
+     *
+     * @return A copy of the member list.
+     */
+    public synchronized List<Member> getMembers() {
+        return new ArrayList<>(club.getMembers());
+    }
+
+    /**
+     * Gets a snapshot of all events.
+     *
+     * @return A copy of the event list.
+     */
+    public synchronized List<Event> getEvents() {
+        return club.getEvents();
+    }
+
+    /**
+     * Gets a snapshot of the members registered for an event.
+     *
+     * @param eventId The ID of the event.
+     * @return A copy of the registered members.
+     */
+    public synchronized List<Member> getRegisteredMembers(int eventId) {
+        return club.getEventManager().getRegisteredMembers(requireEvent(eventId));
+    }
+
+    /**
+     * Gets a snapshot of all announcements.
+     *
+     * @return A copy of the announcement list.
+     */
+    public synchronized List<Announcement> getAnnouncements() {
+        return new ArrayList<>(club.getAnnouncements());
+    }
+
+    // --- Command log ---
+
+    /**
+     * Saves the club if the command log is nearly full, so the save empties it.
+     * Called at the start of an operation, before it looks up the records it changes,
+     * since saving replaces the club with the reloaded copy.
+     */
+    private void checkpointIfNearlyFull() {
+        if (commandLog != null && commandLog.isFilledBeyond(CHECKPOINT_FILL_FRACTION)) {
+            saveIfDirty();
+        }
+    }
+
+    /**
+     * Appends a command to the command log. Operations append their command after validating it and
+     * before changing the club, so a command that cannot be logged leaves the club unchanged.
+     * Must be called while holding the service's lock, so the log order matches the order the commands were applied in.
+     *
+     * @param type   The command type.
+     * @param fields The command's fields.
+     * @return The ticket to wait on for durability, or 0 without a command log.
+     * @throws IllegalStateException If the command does not fit in the log or the log is closed.
+     */
+    private long log(String type, String... fields) {
+        if (commandLog == null) {
+            return 0;
+        }
+        return commandLog.append(type, fields);
+    }
+
+    /**
+     * Waits until a logged command is durable. Called outside the service's lock,
+     * so concurrent callers share one flush of the log.
+     *
+     * @param ticket The ticket returned by {@link #log(String, String...)}.
+     */
+    private void awaitDurable(long ticket) {
+        if (commandLog != null) {
+            commandLog.awaitDurable(ticket);
+        }
+    }
+
+    /**
+     * Re-applies a logged command. Commands whose effects are already present are skipped.
+     *
+     * @param command The command.
+     */
+    private void replay(CommandLog.Command command) {
+        List<String> fields = command.fields();
+        switch (command.type()) {
+            case "registerMember" -> {
+                if (findMember(fields.get(0)) == null) {
+                    addMember(new Member(fields.get(1), fields.get(2), fields.get(3), true, fields.get(4)), fields.get(0));
+                }
+            }
+            case "updateMember" -> {
+                Member member = findMember(fields.get(0));
+                if (member != null) {
+                    applyMemberUpdate(member, fields.get(1), fields.get(2), fields.get(3), Boolean.parseBoolean(fields.get(4)));
+                }
+            }
+            case "createEvent" -> {
+                if (findEvent(Integer.parseInt(fields.get(0))) == null) {
+                    Event event = new Event(Integer.parseInt(fields.get(0)), fields.get(1), LocalDate.parse(fields.get(2)),
+                            LocalTime.parse(fields.get(3)), fields.get(4), fields.get(5));
+                    club.withoutEventAnnouncements(() -> club.addEvent(event)); // The announcement is its own command
+                }
+            }
+            case "updateEvent" -> {
+                Event event = findEvent(Integer.parseInt(fields.get(0)));
+                LocalDate date = LocalDate.parse(fields.get(2));
+                LocalTime time = LocalTime.parse(fields.get(3));
+                if (event != null && !hasDetails(event, fields.get(1), date, time, fields.get(4), fields.get(5))) {
+                    applyEventUpdate(event, fields.get(1), date, time, fields.get(4), fields.get(5));
+                }
+            }
+            case "registerForEvent" -> {
+                Event event = findEvent(Integer.parseInt(fields.get(0)));
+                Member member = findMember(fields.get(1));
+                if (event != null && member != null
+                        && !club.getEventManager().getRegisteredMembers(event).contains(member)) {
+                    club.registerForEvent(event, member);
+                }
+            }
+            case "postAnnouncement" -> {
+                int id = Integer.parseInt(fields.get(0));
+                if (club.getAnnouncements().stream().noneMatch(announcement -> announcement.getId() == id)) {
+                    club.addAnnouncement(new Announcement(id, fields.get(1), LocalDateTime.parse(fields.get(2))));
+                }
+            }
+            default -> LOG.warn("Skipping unknown command in command log", "type", command.type());
+        }
+    }
+
+    // --- Helpers ---
+
+    /**
+     * Registers a new member under a membership ID chosen before the command was logged.
+     *
+     * @param member       The new member.
+     * @param membershipId The membership ID the logged command refers to.
+     */
+    private void addMember(Member member, String membershipId) {
+        club.registerNewMember(member);
+        member.setMembershipId(membershipId); // Keep the ID later commands refer to
+        club.reindexMember(member);
+    }
+
+    /**
+     * Applies new details to a member.
+     *
+     * @param member The member.
+     * @param name   The updated name.
+     * @param email  The updated email.
+     * @param phone  The updated phone number.
+     * @param active The updated active status.
+     */
+    private void applyMemberUpdate(Member member, String name, String email, String phone, boolean active) {
+        member.setName(name);
+        member.setEmail(email);
+        member.setPhone(phone);
+        member.setActive(active);
+        club.reindexMember(member);
+    }
+
+    /**
+     * Logs and posts the announcement of an event change as a command of its own, under an explicit ID,
+     * so replaying the event's command never posts it twice. Must be called while holding the service's lock.
+     *
+     * @param event  The event that changed.
+     * @param action The change.
+     * @return The ticket to wait on for durability, or 0 without a command log.
+     */
+    private long announceEventChange(Event event, EventAction action) {
+        Announcement announcement = new Announcement(nextAnnouncementId(), Club.eventAnnouncementMessage(event, action),
+                LocalDateTime.now());
+        long ticket = log("postAnnouncement", String.valueOf(announcement.getId()), announcement.getMessage(),
+                String.valueOf(announcement.getDateTime()));
+        club.addAnnouncement(announcement);
+        return ticket;
+    }
+
+    /**
+     * Checks whether an event already has the given details, so replaying an update that was saved changes nothing.
+     *
+     * @param event       The event.
+     * @param name        The name.
+     * @param date        The date.
+     * @param time        The time.
+     * @param location    The location.
+     * @param description The description.
+     * @return true if every detail matches.
+     */
+    private static boolean hasDetails(Event event, String name, LocalDate date, LocalTime time, String location,
+                                      String description) {
+        return Objects.equals(event.getName(), name) && Objects.equals(event.getDate(), date)
+                && Objects.equals(event.getTime(), time) && Objects.equals(event.getLocation(), location)
+                && Objects.equals(event.getDescription(), description);
+    }
+
+    /**
+     * Applies new details to an event and notifies the event's observers, without posting an announcement;
+     * callers post it as a logged command of its own.
+     *
+     * @param event       The event.
+     * @param name        The updated name.
+     * @param date        The updated date.
+     * @param time        The updated time.
+     * @param location    The updated location.
+     * @param description The updated description.
+     */
+    private void applyEventUpdate(Event event, String name, LocalDate date, LocalTime time, String location, String description) {
+        event.setName(name);
+        event.setDate(date);
+        event.setTime(time);
+        event.setLocation(location);
+        event.setDescription(description);
+        club.withoutEventAnnouncements(() -> club.updateEvent(event));
+    }
+
+    /**
+     * Finds a member by email.
+     *
+     * @param email The email to look for.
+     * @return The member, or null if none has that email.
+     */
+    private Member findMemberByEmail(String email) {
+        for (Member member : club.getMembers()) {
+            if (member.getEmail().equals(email)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a member by membership ID.
+     *
+     * @param membershipId The membership ID.
+     * @return The member.
+     * @throws IllegalArgumentException If no member has that ID.
+     */
+    private Member requireMember(String membershipId) {
+        Member member = findMember(membershipId);
+        if (member == null) {
+            throw new IllegalArgumentException("Member not found: " + membershipId);
+        }
+        return member;
+    }
+
+    /**
+     * Finds a member by membership ID.
+     *
+     * @param membershipId The membership ID.
+     * @return The member, or null if none has that ID.
+     */
+    private Member findMember(String membershipId) {
+        for (Member member : club.getMembers()) {
+            if (member.getMembershipId().equals(membershipId)) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds an event by ID.
+     *
+     * @param eventId The event ID.
+     * @return The event.
+     * @throws IllegalArgumentException If no event has that ID.
+     */
+    private Event requireEvent(int eventId) {
+        Event event = findEvent(eventId);
+        if (event == null) {
+            throw new IllegalArgumentException("Event not found: " + eventId);
+        }
+        return event;
+    }
+
+    /**
+     * Finds an event by ID.
+     *
+     * @param eventId The event ID.
+     * @return The event, or null if none has that ID.
+     */
+    private Event findEvent(int eventId) {
+        for (Event event : club.getEvents()) {
+            if (event.getId() == eventId) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generates the next event ID, accounting for events that have not been saved yet.
+     *
+     * @return The next event ID.
+     */
+    private int nextEventId() {
+        int maxInMemory = club.getEvents().stream().mapToInt(Event::getId).max().orElse(0);
+        return Math.max(dataManager.generateNextEventId(), maxInMemory + 1);
+    }
+
+    /**
+     * Generates the next announcement ID, accounting for announcements that have not been saved yet.
+     *
+     * @return The next announcement ID.
+     */
+    private int nextAnnouncementId() {
+        int maxInMemory = club.getAnnouncements().stream().mapToInt(Announcement::getId).max().orElse(0);
+        return Math.max(dataManager.generateNextAnnouncementId(), maxInMemory + 1);
+    }
+}
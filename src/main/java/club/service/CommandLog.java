@@ -0,0 +1,360 @@
+package club.service;
+
+import club.logging.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only write-ahead log of domain commands, kept in a memory-mapped segment file.
+ * A command is durable once {@link #awaitDurable(long)} returns. A single background thread forces
+ * the mapped pages to disk for every waiting writer at once (group commit), so the cost of a flush
+ * is shared by all commands appended while the previous flush was running.
+ *
+ * <p>Layout: a header holding a magic number and the segment generation, followed by records of
+ * {@code [length][generation][crc32c][payload]}. {@link #checkpoint()} starts a new generation once
+ * the commands are saved elsewhere, which discards the old records without rewriting them:
+ * replay stops at the first record that is empty, torn or from an older generation.
+ */
+public class CommandLog implements AutoCloseable {
+
+    private static final int MAGIC = 0x434C5732; // "CLW2", with int-length UTF-8 fields
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 16;
+    private static final Logger LOG = Logger.get(CommandLog.class);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+
+    private long generation;
+    private int appendPosition;
+    private int durablePosition;
+    private boolean closed;
+    private IOException flushFailure;
+
+    /**
+     * A command read back from the log.
+     *
+     * @param type   The command type.
+     * @param fields The command's fields, in the order they were appended.
+     */
+    public record Command(String type, List<String> fields) {
+    }
+
+    /**
+     * Opens the log in the given file, creating it with the given size if it does not exist.
+     * Commands left from before a crash are kept for {@link #readAll()}; appends go after them.
+     *
+     * @param file        The segment file.
+     * @param segmentSize The size of the segment in bytes.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public CommandLog(Path file, int segmentSize) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.max(channel.size(), segmentSize);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        if (buffer.getInt(0) == MAGIC) {
+            generation = buffer.getLong(4);
+            appendPosition = scan(null);
+        } else {
+            generation = 1;
+            writeHeader();
+            appendPosition = HEADER_SIZE;
+        }
+        durablePosition = appendPosition;
+
+        this.flusher = new Thread(this::flushLoop, "command-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Appends a command. The command is not durable until {@link #awaitDurable(long)} returns for the returned ticket.
+     *
+     * @param type   The command type.
+     * @param fields The command's fields; null fields are stored as empty strings.
+     * @return A ticket identifying the log position that must be durable for the command to be.
+     * @throws IllegalStateException If the command does not fit in the rest of the segment, or the log is closed.
+     */
+    public long append(String type, String... fields) {
+        byte[] payload = encode(type, fields);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Command log is closed");
+            }
+            if (!hasRoomFor(payload.length)) {
+                throw new IllegalStateException("Command log segment is full");
+            }
+            int position = appendPosition;
+            buffer.putLong(position + 4, generation);
+            buffer.putInt(position + 12, (int) crc.getValue());
+            buffer.put(position + RECORD_HEADER_SIZE, payload);
+            buffer.putInt(position, payload.length); // A record torn by a crash fails its checksum
+            appendPosition = position + RECORD_HEADER_SIZE + payload.length;
+            appended.signal();
+            return (generation << 32) | appendPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether a command of the given payload size still fits.
+     *
+     * @param payloadLength The payload size in bytes.
+     * @return true if the command fits in the segment.
+     */
+    private boolean hasRoomFor(int payloadLength) {
+        return appendPosition + RECORD_HEADER_SIZE + payloadLength <= buffer.capacity();
+    }
+
+    /**
+     * Checks whether the segment is filled beyond the given fraction, so the owner can checkpoint early.
+     *
+     * @param fraction The fill fraction, between 0 and 1.
+     * @return true if more than that fraction of the segment is used.
+     */
+    public boolean isFilledBeyond(double fraction) {
+        lock.lock();
+        try {
+            return appendPosition > buffer.capacity() * fraction;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until everything up to the given ticket has been forced to disk, or checkpointed.
+     *
+     * @param ticket A ticket returned by {@link #append(String, String...)}.
+     * @throws UncheckedIOException If flushing the log failed.
+     */
+    public void awaitDurable(long ticket) {
+        long ticketGeneration = ticket >>> 32;
+        int position = (int) ticket;
+        lock.lock();
+        try {
+            while (ticketGeneration == generation && durablePosition < position && flushFailure == null) {
+                flushed.awaitUninterruptibly();
+            }
+            if (flushFailure != null) {
+                throw new UncheckedIOException("Command log flush failed", flushFailure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the commands of the current generation, in the order they were appended.
+     *
+     * @return The commands.
+     */
+    public List<Command> readAll() {
+        lock.lock();
+        try {
+            List<Command> commands = new ArrayList<>();
+            scan(commands);
+            return commands;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards all commands, once their effects have been saved elsewhere.
+     * Starts a new generation so the old records are ignored without being erased.
+     */
+    public void checkpoint() {
+        lock.lock();
+        try {
+            generation++;
+            writeHeader();
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.force(0, HEADER_SIZE + 4);
+            appendPosition = HEADER_SIZE;
+            durablePosition = HEADER_SIZE;
+            flushed.signalAll(); // Commands of the old generation are saved, so their writers can go on
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes outstanding commands and closes the log.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            appended.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOG.warn("Failed to close command log", e);
+        }
+    }
+
+    /**
+     * Forces appended commands to disk, one batch per flush, until the log is closed.
+     */
+    private void flushLoop() {
+        while (true) {
+            int from;
+            int to;
+            long flushGeneration;
+            lock.lock();
+            try {
+                while (appendPosition == durablePosition && !closed) {
+                    appended.awaitUninterruptibly();
+                }
+                if (appendPosition == durablePosition) {
+                    return; // Closed with nothing left to flush
+                }
+                from = durablePosition;
+                to = appendPosition;
+                flushGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+
+            // Forcing happens outside the lock, so new commands keep being appended meanwhile
+            IOException failure = null;
+            try {
+                buffer.force(from, to - from);
+            } catch (UncheckedIOException e) {
+                failure = e.getCause();
+            }
+
+            lock.lock();
+            try {
+                if (failure != null) {
+                    flushFailure = failure;
+                } else if (generation == flushGeneration) { // Unless a checkpoint reset the log meanwhile
+                    durablePosition = to;
+                }
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Walks the records of the current generation.
+     *
+     * @param commands Collects the decoded commands, or null to only find the end.
+     * @return The position after the last valid record.
+     */
+    private int scan(List<Command> commands) {
+        int position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > buffer.capacity()
+                    || buffer.getLong(position + 4) != generation) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 12)) {
+                break; // Torn write from a crash
+            }
+            if (commands != null) {
+                commands.add(decode(payload));
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    /**
+     * Writes the segment header for the current generation.
+     */
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putLong(4, generation);
+    }
+
+    /**
+     * Encodes a command as the number of fields, followed by its type and fields, each as an
+     * int length and that many bytes of UTF-8, so fields of any length can be logged.
+     *
+     * @param type   The command type.
+     * @param fields The command's fields.
+     * @return The encoded payload.
+     */
+    private static byte[] encode(String type, String[] fields) {
+        byte[][] strings = new byte[fields.length + 1][];
+        strings[0] = type.getBytes(StandardCharsets.UTF_8);
+        int size = 4 + 4 + strings[0].length;
+        for (int i = 0; i < fields.length; i++) {
+            strings[i + 1] = fields[i] == null ? new byte[0] : fields[i].getBytes(StandardCharsets.UTF_8);
+            size += 4 + strings[i + 1].length;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(size);
+        payload.putInt(fields.length);
+        for (byte[] string : strings) {
+            payload.putInt(string.length).put(string);
+        }
+        return payload.array();
+    }
+
+    /**
+     * Decodes a command payload.
+     *
+     * @param payload The encoded payload.
+     * @return The command.
+     */
+    private static Command decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        int count = in.getInt();
+        String type = readString(in);
+        List<String> fields = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fields.add(readString(in));
+        }
+        return new Command(type, fields);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
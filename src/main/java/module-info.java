@@ -2,7 +2,10 @@ module club {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires org.xerial.sqlitejdbc;
     requires com.fasterxml.jackson.databind;
+    requires jdk.httpserver;
+    requires jdk.jfr;
 
     opens club.controller to javafx.fxml;
     exports club;
@@ -11,4 +14,11 @@ module club {
     opens club.database to javafx.fxml;
     exports club.model;
     opens club.model to javafx.fxml;
+    exports club.search;
+    exports club.service;
+    exports club.server;
+    exports club.repository;
+    exports club.repository.memory;
+    exports club.metrics;
+    exports club.logging;
 }
@@ -0,0 +1,68 @@
+package club.metrics;
+
+import club.model.Club;
+import club.model.Member;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a member costs no more heap than its budget, so a field or wrapper added to {@code Member}
+ * shows up before it ships.
+ */
+class HeapFootprintTest {
+
+    /**
+     * The estimated bytes a member may retain: the member, its strings and its slot in the member list.
+     * Currently about 335 bytes with generated names, emails and phone numbers.
+     */
+    private static final long MEMBER_BUDGET_BYTES = 400;
+    private static final int MEMBERS = 10_000;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley",
+            "Jamie", "Avery", "Quinn", "Charlie", "Dana", "Emerson", "Finley", "Harper", "Kai", "Logan", "Parker"};
+    private static final String[] LAST_NAMES = {"Nguyen", "Smith", "Chen", "Patel", "Garcia", "Kim", "Brown",
+            "Singh", "Lopez", "Wilson", "Tran", "Martin", "Lee", "Walker", "Young", "Khan", "Rossi", "Murphy"};
+
+    @Test
+    void membersStayWithinTheirBudget() {
+        Club club = new Club("Footprint");
+        club.setMembers(generateMembers(MEMBERS, 42));
+
+        HeapFootprint.Entry members = HeapFootprint.estimate(club).stream()
+                .filter(entry -> entry.collection().equals("Club.members"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Club has no member list"));
+
+        assertTrue(members.bytesPerEntry() <= MEMBER_BUDGET_BYTES,
+                "Members cost " + members.bytesPerEntry() + " bytes each, over the budget of " + MEMBER_BUDGET_BYTES);
+    }
+
+    /**
+     * Generates members shaped like those of the synthetic clubs used by the benchmarks.
+     *
+     * @param count The number of members.
+     * @param seed  The random seed.
+     * @return The members.
+     */
+    private static List<Member> generateMembers(int count, long seed) {
+        Random random = new Random(seed);
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Member member = new Member(first + " " + last,
+                    first.toLowerCase() + "." + last.toLowerCase() + i + "@members.example",
+                    String.format("04%08d", random.nextInt(100_000_000)),
+                    random.nextDouble() >= 0.15,
+                    "pw-" + Integer.toHexString(random.nextInt()));
+            member.setMembershipId(String.format("%05d", i));
+            members.add(member);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,56 @@
+package club.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that an index created over existing entries is filled from the field values copied when it was
+ * created, and that changes made before the fill win over that copy.
+ */
+class SearchIndexTest {
+
+    @Test
+    void fillsFromTheFieldValuesCopiedWhenCreated() {
+        Doc alice = new Doc("Alice Nguyen");
+        SearchIndex<Doc> index = new SearchIndex<>(doc -> List.of(doc.text), List.of(alice));
+
+        alice.text = "Alicia Chen"; // Not reported to the index, so the search must not read it
+
+        assertEquals(List.of(alice), index.search("nguyen", 10));
+        assertTrue(index.search("chen", 10).isEmpty());
+    }
+
+    @Test
+    void changesBeforeTheFirstSearchAreAppliedAfterTheFill() {
+        Doc alice = new Doc("Alice Nguyen");
+        Doc bob = new Doc("Bob Smith");
+        SearchIndex<Doc> index = new SearchIndex<>(doc -> List.of(doc.text), List.of(alice, bob));
+
+        index.remove(alice);
+        bob.text = "Robert Smith";
+        index.update(bob);
+        Doc carol = new Doc("Carol Smith");
+        index.update(carol);
+
+        assertTrue(index.search("alice", 10).isEmpty());
+        assertTrue(index.search("bob", 10).isEmpty());
+        assertEquals(List.of(bob), index.search("robert", 10));
+        assertEquals(List.of(bob, carol), index.search("smith", 10));
+        assertEquals(2, index.size());
+    }
+
+    /**
+     * A mutable entry, identified by reference like the club's members and events.
+     */
+    private static final class Doc {
+        private String text;
+
+        Doc(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package club.service;
+
+import club.database.DataManager;
+import club.model.Announcement;
+import club.model.Club;
+import club.model.Event;
+import club.model.Member;
+import club.repository.memory.InMemoryRepositories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that replaying the command log is idempotent: commands whose effects were already saved change nothing,
+ * however often they are replayed, and unsaved commands restore the club as it was.
+ */
+class ClubServiceReplayTest {
+
+    private static final int LOG_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void replayingSavedCommandsTwiceLeavesTheClubUnchanged() throws IOException {
+        InMemoryRepositories repositories = new InMemoryRepositories();
+        Path logFile = folder.resolve("commands.wal");
+        ClubService service = new ClubService(new DataManager(repositories), new CommandLog(logFile, LOG_SIZE));
+        service.load();
+        runOperations(service);
+
+        // The log as a crash between the database commit and the checkpoint leaves it
+        Path crashed = Files.copy(logFile, folder.resolve("crashed.wal"));
+        service.save();
+        String saved = describe(service.getClub());
+        service.close();
+
+        for (int replay = 1; replay <= 2; replay++) {
+            Path copy = Files.copy(crashed, folder.resolve("replay-" + replay + ".wal"));
+            ClubService recovered = new ClubService(new DataManager(repositories), new CommandLog(copy, LOG_SIZE));
+            recovered.load();
+            assertEquals(saved, describe(recovered.getClub()), "Replay " + replay + " changed the club");
+            recovered.close();
+        }
+    }
+
+    @Test
+    void replayingUnsavedCommandsRestoresTheClub() throws IOException {
+        Path logFile = folder.resolve("commands.wal");
+        ClubService service = new ClubService(new DataManager(new InMemoryRepositories()), new CommandLog(logFile, LOG_SIZE));
+        service.load();
+        runOperations(service);
+        String beforeCrash = describe(service.getClub());
+        Path crashed = Files.copy(logFile, folder.resolve("crashed.wal"));
+
+        ClubService recovered = new ClubService(new DataManager(new InMemoryRepositories()), new CommandLog(crashed, LOG_SIZE));
+        recovered.load();
+        assertEquals(beforeCrash, describe(recovered.getClub()));
+        recovered.close();
+    }
+
+    /**
+     * Runs one of each logged operation, including event changes that post announcements.
+     *
+     * @param service The service.
+     */
+    private static void runOperations(ClubService service) {
+        Member member = service.registerMember("Sam Lee", "sam@example.com", "0400000000", "secret");
+        Event event = service.createEvent("Chess night", LocalDate.of(2030, 5, 1), LocalTime.of(19, 0), "Library", "Bring a board");
+        service.updateEvent(event.getId(), "Chess night", LocalDate.of(2030, 5, 2), LocalTime.of(19, 30), "Library", "Bring a board");
+        service.registerForEvent(event.getId(), member.getMembershipId());
+        service.postAnnouncement("Welcome to the club");
+        service.updateMember(member.getMembershipId(), "Sam Lee", "sam.lee@example.com", "0400000001", true);
+    }
+
+    /**
+     * Describes the state of a club that the command log can change, in a stable order.
+     *
+     * @param club The club.
+     * @return The description.
+     */
+    private static String describe(Club club) {
+        StringBuilder description = new StringBuilder();
+        for (Member member : sorted(club.getMembers(), Comparator.comparing(Member::getMembershipId))) {
+            description.append("member ").append(member.getMembershipId()).append(' ').append(member.getName())
+                    .append(' ').append(member.getEmail()).append(' ').append(member.getPhone())
+                    .append(' ').append(member.isActive()).append('\n');
+        }
+        for (Event event : sorted(club.getEvents(), Comparator.comparingInt(Event::getId))) {
+            description.append("event ").append(event.getId()).append(' ').append(event.getName())
+                    .append(' ').append(event.getDate()).append(' ').append(event.getTime())
+                    .append(' ').append(event.getLocation()).append(' ').append(event.getDescription())
+                    .append(" registered ").append(club.getEventManager().getRegisteredMembers(event).stream()
+                            .map(Member::getMembershipId).sorted().toList()).append('\n');
+        }
+        for (Announcement announcement : sorted(club.getAnnouncements(), Comparator.comparingInt(Announcement::getId))) {
+            description.append("announcement ").append(announcement.getId()).append(' ').append(announcement.getMessage())
+                    .append(' ').append(announcement.getDateTime()).append('\n');
+        }
+        return description.toString();
+    }
+
+    private static <T> List<T> sorted(List<T> items, Comparator<T> order) {
+        return items.stream().sorted(order).toList();
+    }
+}